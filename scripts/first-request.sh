@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# Compares time to readiness and first-request latency per endpoint with startup warm-up off and on.
+# Usage: scripts/first-request.sh [rounds]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+ROUNDS=${1:-40}
+PORT=${PORT:-4052}
+JAVA_OPTS=${JAVA_OPTS:-}
+
+sh ./mvnw -q -DskipTests package
+sh ./mvnw -q -Pjmh test-compile
+JAR=$(ls target/validator-*.jar | grep -v original | head -1)
+
+for WARMUP in false true; do
+    java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" --validation.warmup.enabled="$WARMUP" > "target/first-request-$WARMUP.log" 2>&1 &
+    APP=$!
+    trap 'kill $APP 2>/dev/null || true' EXIT
+
+    LABEL=$([ "$WARMUP" = true ] && echo warm || echo cold)
+    java -cp target/test-classes:target/classes validator.warmup.FirstRequestLatency --port "$PORT" --label "$LABEL" --rounds "$ROUNDS"
+
+    kill $APP
+    wait $APP 2>/dev/null || true
+done
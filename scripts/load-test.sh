@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Compares p99 latency and peak concurrent connections (per core) with platform and virtual request threads
+# on Spring MVC, and on the WebFlux variant.
+# Usage: scripts/load-test.sh [clients] [requests per client] [upload time ms]
+# JVM options for the application can be passed in JAVA_OPTS, e.g.
+#   JAVA_OPTS=-Djdk.virtualThreadScheduler.maxPoolSize=1024 scripts/load-test.sh
+# MODES selects the runs, e.g. MODES="platform reactive" scripts/load-test.sh
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+CLIENTS=${1:-1000}
+REQUESTS=${2:-1}
+SLOW_MS=${3:-1000}
+PORT=${PORT:-4052}
+JAVA_OPTS=${JAVA_OPTS:-}
+MODES=${MODES:-platform virtual reactive}
+
+sh ./mvnw -q -DskipTests package
+sh ./mvnw -q -Pjmh test-compile
+JAR=$(ls target/validator-*.jar | grep -v original | head -1)
+
+for MODE in $MODES; do
+    case "$MODE" in
+        platform) ARGS="--spring.threads.virtual.enabled=false" ;;
+        virtual) ARGS="--spring.threads.virtual.enabled=true" ;;
+        reactive) ARGS="--spring.main.web-application-type=reactive" ;;
+        *) echo "unknown mode $MODE" >&2; exit 1 ;;
+    esac
+    java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" $ARGS > "target/load-test-$MODE.log" 2>&1 &
+    APP=$!
+    trap 'kill $APP 2>/dev/null || true' EXIT
+    until curl -s -o /dev/null "http://localhost:$PORT/"; do sleep 1; done
+
+    java -cp target/test-classes validator.load.LoadTest --port "$PORT" --label "$MODE" \
+        --clients "$CLIENTS" --requests "$REQUESTS" --slow-ms "$SLOW_MS"
+
+    kill $APP
+    wait $APP 2>/dev/null || true
+done
@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Startup time and resident memory of the service per launch mode:
+#   jvm      the jar extracted with -Djarmode=tools, as the other JVM modes use it
+#   cds      the extracted jar with a Class Data Sharing archive from a training run
+#   aot      the Spring AOT initializers (-Dspring.aot.enabled=true)
+#   aot-cds  both of the above
+#   native   the GraalVM native image, if target/validator exists (sh ./mvnw -Paot,native -DskipTests native:compile)
+# "started" is what Spring Boot logs as process running time, "ready" the time from launch until
+# /actuator/health/readiness answers, which includes startup warm-up, and "rss" VmRSS once ready.
+# Usage: scripts/startup.sh [runs per mode] [application arguments]
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-3}
+shift || true
+PORT=${PORT:-4052}
+JAVA_OPTS=${JAVA_OPTS:-}
+MODES=${MODES:-jvm cds aot aot-cds native}
+
+sh ./mvnw -q -Paot -DskipTests package
+JAR=$(ls target/validator-*.jar | grep -v original | head -1)
+EXTRACTED=target/startup
+rm -rf "$EXTRACTED"
+java -Djarmode=tools -jar "$JAR" extract --destination "$EXTRACTED" > /dev/null
+APP_JAR="$EXTRACTED/$(basename "$JAR")"
+
+# Training runs stop once the context is refreshed and write the classes loaded so far
+for AOT in false true; do
+    java -XX:ArchiveClassesAtExit="$EXTRACTED/aot-$AOT.jsa" -Dspring.aot.enabled="$AOT" -Dspring.context.exit=onRefresh \
+        -jar "$APP_JAR" > "$EXTRACTED/training-$AOT.log" 2>&1
+done
+
+command_for() {
+    case $1 in
+        jvm) echo "java $JAVA_OPTS -jar $APP_JAR" ;;
+        cds) echo "java $JAVA_OPTS -XX:SharedArchiveFile=$EXTRACTED/aot-false.jsa -jar $APP_JAR" ;;
+        aot) echo "java $JAVA_OPTS -Dspring.aot.enabled=true -jar $APP_JAR" ;;
+        aot-cds) echo "java $JAVA_OPTS -XX:SharedArchiveFile=$EXTRACTED/aot-true.jsa -Dspring.aot.enabled=true -jar $APP_JAR" ;;
+        native) echo "target/validator" ;;
+    esac
+}
+
+for MODE in $MODES; do
+    if [ "$MODE" = native ] && [ ! -x target/validator ]; then
+        echo "native   skipped, no target/validator"
+        continue
+    fi
+    for RUN in $(seq "$RUNS"); do
+        LOG="$EXTRACTED/$MODE-$RUN.log"
+        START=$(date +%s%N)
+        $(command_for "$MODE") --server.port="$PORT" "$@" > "$LOG" 2>&1 &
+        APP=$!
+        trap 'kill $APP 2>/dev/null || true' EXIT
+        until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health/readiness"; do
+            kill -0 $APP 2>/dev/null || { echo "$MODE exited, see $LOG"; exit 1; }
+            sleep 0.02
+        done
+        READY=$(( ($(date +%s%N) - START) / 1000000 ))
+        RSS=$(awk '/VmRSS/ { print int($2 / 1024) }' /proc/$APP/status)
+        STARTED=$(grep -o 'process running for [0-9.]*' "$LOG" | awk '{ print $4 }')
+        printf '%-8s run=%d started=%ss ready=%dms rss=%dMB\n' "$MODE" "$RUN" "$STARTED" "$READY" "$RSS"
+        kill $APP
+        wait $APP 2>/dev/null || true
+    done
+done
@@ -0,0 +1,116 @@
+package validator;
+
+import validator.payload.AccountID;
+import validator.payload.CurrencyConversionRequest;
+import validator.payload.PaginationValidator;
+import validator.payload.TransactionRequestValidator;
+import validator.payload.UserAccountRequest;
+import validator.payload.UserVerificationValidator;
+import validator.payload.ValidationClass;
+import validator.payload.compact.CompactPagination;
+import validator.payload.compact.CompactUserVerification;
+import validator.payload.compact.CompactValidationClass;
+
+/**
+ * Sample bodies for every payload class, one valid and one invalid, shared by the benchmarks.
+ * {@code CUSTOM_FIELDS} in a body is replaced with a map of the requested size.
+ * <p>
+ * {@code ValidationClass.setCustomFields} discards its argument, so the valid {@link #VALIDATION}
+ * body still fails on "Custom fields cannot be null"; the map is parsed either way.
+ */
+public enum Payload {
+
+    VALIDATION(ValidationClass.class, "/api/validate",
+            """
+            {"user":1,"password":"secret","sid":2,"groupName":"group","initialBalance":100,
+             "notifyDisable":false,"readOnly":false,"customFields":CUSTOM_FIELDS}""",
+            """
+            {"user":1,"password":"","sid":2,"groupName":"","initialBalance":-1,
+             "notifyDisable":false,"readOnly":false,"customFields":CUSTOM_FIELDS}"""),
+
+    TRANSACTION(TransactionRequestValidator.Transaction.class, "/api/validate/transaction",
+            """
+            {"amount":100.5,"sid":1,"manager":"12345","login":"54321","currency":"USD","comment":"payment"}""",
+            """
+            {"amount":100.5,"sid":1,"manager":"","login":"54321","currency":"","comment":"payment"}"""),
+
+    USER_ACCOUNT(UserAccountRequest.class, "/api/validate/create",
+            """
+            {"firstName":"John","lastName":"Doe","country":"US","phone":"+1234567890",
+             "email":"john.doe@example.com","clientType":"Individual","emailVerified":true}""",
+            """
+            {"firstName":"","lastName":"Doe","country":"USA","phone":"+1234567890123456",
+             "email":"invalid-email","clientType":"Individual","emailVerified":true}"""),
+
+    CURRENCY_CONVERSION(CurrencyConversionRequest.class, "/api/convert",
+            """
+            {"fromCurrency":"USD","toCurrency":"EUR","amount":100.0}""",
+            """
+            {"fromCurrency":"US$","toCurrency":"E","amount":0.0}"""),
+
+    ACCOUNT(AccountID.AccountRequest.class, "/api/account/getAssociatedAccounts",
+            """
+            {"accountId":"1"}""",
+            """
+            {"accountId":"abc"}"""),
+
+    USER_VERIFICATION(UserVerificationValidator.class, "/api/validate/user",
+            """
+            {"user":1,"isVerified":true,"verified":true}""",
+            """
+            {"user":0,"isVerified":true,"verified":true}"""),
+
+    PAGINATION(PaginationValidator.class, "/api/validate/pagination",
+            """
+            {"fromUserId":1,"limit":10,"offset":0}""",
+            """
+            {"fromUserId":1,"limit":0,"offset":0}""");
+
+    private final Class<?> type;
+    private final String path;
+    private final String valid;
+    private final String invalid;
+
+    Payload(Class<?> type, String path, String valid, String invalid) {
+        this.type = type;
+        this.path = path;
+        this.valid = valid;
+        this.invalid = invalid;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    // The counterpart in validator.payload.compact, with primitive fields; null when there is none
+    public Class<?> compactType() {
+        return switch (this) {
+            case VALIDATION -> CompactValidationClass.class;
+            case USER_VERIFICATION -> CompactUserVerification.class;
+            case PAGINATION -> CompactPagination.class;
+            default -> null;
+        };
+    }
+
+    public String json(boolean isValid) {
+        return json(isValid, 4);
+    }
+
+    public String json(boolean isValid, int customFields) {
+        return (isValid ? valid : invalid).replace("CUSTOM_FIELDS", customFields(customFields, isValid));
+    }
+
+    // {"field0":"value0",...}; the invalid variant ends with a blank value
+    private static String customFields(int size, boolean isValid) {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            json.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":\"")
+                    .append(!isValid && i == size - 1 ? " " : "value" + i).append('"');
+        }
+        return json.append('}').toString();
+    }
+}
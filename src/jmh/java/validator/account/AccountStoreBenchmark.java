@@ -0,0 +1,100 @@
+package validator.account;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account lookups at 1M and 50M accounts, in the heap and memory-mapped stores, with and without the cache
+ * (100k entries, the application default).
+ * <p>
+ * {@code uniform} picks any account; {@code skewed} sends 90% of lookups to 10k hot accounts. The mapped
+ * store files are written once to {@code target/} and reused by later runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AccountStoreBenchmark {
+
+    private static final int LOOKUPS = 1 << 20;
+    private static final int HOT_ACCOUNTS = 10_000;
+    private static final List<List<String>> ACCOUNT_LISTS = accountLists();
+
+    @Param({"1000000", "50000000"})
+    public int accounts;
+
+    @Param({"memory", "mapped"})
+    public String store;
+
+    @Param({"none", "caffeine"})
+    public String cache;
+
+    @Param({"uniform", "skewed"})
+    public String access;
+
+    private AccountStore accountStore;
+    private long[] lookups;
+    private int next;
+
+    // A small pool of associated-account lists shared by all accounts, so the 50M heap store fits
+    @SuppressWarnings("unchecked")
+    private static List<List<String>> accountLists() {
+        List<String>[] lists = new List[1024];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = List.of("Account" + i, "Account" + (i + 1));
+        }
+        return List.of(lists);
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        AccountStore base = "memory".equals(store) ? inMemory() : mapped();
+        accountStore = "caffeine".equals(cache) ? new CachedAccountStore(base, 100_000) : base;
+
+        SplittableRandom random = new SplittableRandom(42);
+        lookups = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            boolean hot = "skewed".equals(access) && random.nextInt(10) < 9;
+            lookups[i] = hot ? random.nextInt(HOT_ACCOUNTS) * (long) (accounts / HOT_ACCOUNTS) : random.nextInt(accounts);
+        }
+    }
+
+    private AccountStore inMemory() {
+        InMemoryAccountStore.Builder builder = InMemoryAccountStore.builder(accounts);
+        for (int id = 0; id < accounts; id++) {
+            builder.put(id, ACCOUNT_LISTS.get(id & 1023));
+        }
+        return builder.build();
+    }
+
+    private AccountStore mapped() throws IOException {
+        Path file = Path.of("target", "account-store-" + accounts + ".bin");
+        if (Files.exists(file)) {
+            MappedAccountStore existing = MappedAccountStore.open(file);
+            if (existing.size() == accounts) {
+                return existing;
+            }
+        }
+        Files.createDirectories(file.getParent());
+        try (MappedAccountStore.Writer writer = MappedAccountStore.create(file, accounts)) {
+            for (int id = 0; id < accounts; id++) {
+                writer.put(id, ACCOUNT_LISTS.get(id & 1023));
+            }
+        }
+        return MappedAccountStore.open(file);
+    }
+
+    @Benchmark
+    public List<String> lookup() {
+        long accountId = lookups[next++ & (LOOKUPS - 1)];
+        return accountStore.findAssociatedAccounts(accountId);
+    }
+}
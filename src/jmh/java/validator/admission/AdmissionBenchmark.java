@@ -0,0 +1,84 @@
+package validator.admission;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One admission decision per call from 64 threads, for {@link TokenBuckets} ({@code table}) and for the usual
+ * alternative ({@code locked}): a ConcurrentHashMap of buckets, each synchronized, which is never trimmed.
+ * {@code clients=1} has every thread on the same bucket, {@code clients=64} gives each thread its own, and
+ * {@code clients=1000000} draws random clients, far more than the table's 65536 slots.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="AdmissionBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class AdmissionBenchmark {
+
+    private static final double RATE = 1000;
+    private static final int BURST = 100;
+
+    @Param({"table", "locked"})
+    public String limiter;
+
+    @Param({"1", "64", "1000000"})
+    public int clients;
+
+    private TokenBuckets table;
+    private ConcurrentHashMap<Long, LockedBucket> locked;
+
+    // A textbook token bucket: a token count refilled from the time of the last request
+    private static final class LockedBucket {
+        private double tokens = BURST;
+        private long last = System.nanoTime();
+
+        synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(BURST, tokens + (now - last) * RATE / 1e9);
+            last = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+        long own;
+
+        @Setup
+        public void setUp() {
+            own = THREADS.getAndIncrement();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        table = new TokenBuckets(65536, RATE, BURST);
+        locked = new ConcurrentHashMap<>();
+    }
+
+    @Benchmark
+    public boolean admit(Client client) {
+        long id = clients == 1 ? 0 : clients == 64 ? client.own : ThreadLocalRandom.current().nextInt(clients);
+        // Spread like a real hash of the client name
+        long hash = id * 0x9E3779B97F4A7C15L;
+        if ("table".equals(limiter)) {
+            return table.tryAcquire(hash) == 0;
+        }
+        return locked.computeIfAbsent(hash, h -> new LockedBucket()).tryAcquire();
+    }
+}
@@ -0,0 +1,75 @@
+package validator.cache;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import validator.Payload;
+import validator.ValidatorApplication;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * A repeated body through standalone MockMvc with no result cache ({@code cached=false}) and answered from it
+ * ({@code cached=true}). {@code hash} is what a miss adds on top of the uncached request: reading the key.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ResultCacheBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultCacheBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"VALIDATION", "CURRENCY_CONVERSION"})
+    public Payload payload;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private MockMvc mvc;
+    private String body;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("org.springframework")).setLevel(Level.OFF);
+
+        LocalValidatorFactoryBean validator = new ValidatorApplication.ValidationConfig().getValidator();
+        validator.afterPropertiesSet();
+        var builder = MockMvcBuilders.standaloneSetup(new ValidationController(validator, null, CurrencyConverter.withDefaultRates(), null)).setValidator(validator);
+        if (cached) {
+            builder.addFilter(new ResultCacheFilter(new ResultCache("results", 10_000, Duration.ofMinutes(10)), 16384),
+                    payload.path());
+        }
+        mvc = builder.build();
+        body = payload.json(valid);
+        bytes = body.getBytes();
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        return mvc.perform(post(payload.path()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int hash() {
+        return new ResultCache.Key(bytes.clone(), MediaType.APPLICATION_JSON_VALUE, null).hashCode();
+    }
+}
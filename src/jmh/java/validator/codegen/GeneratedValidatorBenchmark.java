@@ -0,0 +1,65 @@
+package validator.codegen;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import validator.payload.CurrencyConversionRequest;
+import validator.payload.TransactionRequestValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Validator against the compile-time generated validators for valid payloads.
+ * Run with {@code -prof gc}: the generated path should report ~0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratedValidatorBenchmark {
+
+    @Param({"hibernate", "generated"})
+    public String engine;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private CurrencyConversionRequest conversion;
+    private TransactionRequestValidator.Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = "generated".equals(engine) ? new GeneratedValidator(factory.getValidator(), factory.getMessageInterpolator()) : factory.getValidator();
+
+        conversion = new CurrencyConversionRequest();
+        conversion.setFromCurrency("USD");
+        conversion.setToCurrency("EUR");
+        conversion.setAmount(100.0);
+
+        transaction = new TransactionRequestValidator.Transaction();
+        transaction.setAmount(150.0);
+        transaction.setSid(123);
+        transaction.setManager("12345");
+        transaction.setLogin("54321");
+        transaction.setCurrency("USD");
+        transaction.setComment("Valid transaction");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Object currencyConversionRequest() {
+        return validator.validate(conversion);
+    }
+
+    @Benchmark
+    public Object transaction() {
+        return validator.validate(transaction);
+    }
+}
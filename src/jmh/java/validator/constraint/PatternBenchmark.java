@@ -0,0 +1,62 @@
+package validator.constraint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Per-field cost of the {@code @Pattern} checks in the payloads: {@code String.matches} as
+ * TransactionRequestValidator used it, a precompiled {@link Pattern} as Hibernate uses it,
+ * and {@link PatternMatchers}.
+ * <p>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PatternBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PatternBenchmark {
+
+    @Param({"accountId", "currency", "country", "phone"})
+    private String field;
+
+    private String regexp;
+    private String value;
+    private Pattern pattern;
+    private PatternMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        switch (field) {
+            case "accountId" -> { regexp = "^\\d+$"; value = "1234567890"; }
+            case "currency" -> { regexp = "^[A-Z]{3}$"; value = "USD"; }
+            case "country" -> { regexp = "^[A-Z]{2}$"; value = "US"; }
+            case "phone" -> { regexp = "^\\+\\d{1,15}$"; value = "+254712345678"; }
+            default -> throw new IllegalArgumentException(field);
+        }
+        pattern = Pattern.compile(regexp);
+        matcher = PatternMatchers.compile(regexp);
+    }
+
+    @Benchmark
+    public boolean stringMatches() {
+        return value.matches(regexp);
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return pattern.matcher(value).matches();
+    }
+
+    @Benchmark
+    public boolean patternMatcher() {
+        return matcher.matches(value);
+    }
+}
@@ -0,0 +1,109 @@
+package validator.controller;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import validator.Payload;
+import validator.ValidatorApplication;
+import validator.currency.CurrencyConverter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Full request cost of the {@link ValidationController} endpoints: message conversion,
+ * {@code @Valid} and the handler, on a standalone MockMvc without a servlet container.
+ * <p>
+ * {@code endpoint} covers the fixed-size payloads, {@code validate} and {@code validateBatch}
+ * the {@code ValidationClass} endpoints with small and large {@code customFields} maps. Add {@code -prof gc}
+ * for the bytes allocated per request.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationControllerBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    @State(Scope.Benchmark)
+    public static class Controller {
+
+        MockMvc mvc;
+
+        @Setup
+        public void setUpController() {
+            // Rejected requests are logged by the exception resolvers; keep that out of the measurement
+            ((Logger) LoggerFactory.getLogger("org.springframework")).setLevel(Level.OFF);
+
+            LocalValidatorFactoryBean validator = new ValidatorApplication.ValidationConfig().getValidator();
+            validator.afterPropertiesSet();
+            mvc = MockMvcBuilders.standaloneSetup(new ValidationController(validator, null, CurrencyConverter.withDefaultRates(), null))
+                    .setValidator(validator)
+                    .build();
+        }
+
+        int perform(String path, MediaType contentType, String body) throws Exception {
+            return mvc.perform(post(path).contentType(contentType).content(body))
+                    .andReturn().getResponse().getStatus();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Endpoint extends Controller {
+
+        @Param({"TRANSACTION", "USER_ACCOUNT", "CURRENCY_CONVERSION", "USER_VERIFICATION", "PAGINATION"})
+        public Payload payload;
+
+        @Param({"true", "false"})
+        public boolean valid;
+
+        String body;
+
+        @Setup
+        public void setUp() {
+            body = payload.json(valid);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CustomFields extends Controller {
+
+        @Param({"true", "false"})
+        public boolean valid;
+
+        @Param({"4", "1000"})
+        public int customFields;
+
+        String body;
+        String batch;
+
+        @Setup
+        public void setUp() {
+            body = Payload.VALIDATION.json(valid, customFields);
+            batch = (body.replace("\n", "") + "\n").repeat(BATCH_SIZE);
+        }
+    }
+
+    @Benchmark
+    public int endpoint(Endpoint state) throws Exception {
+        return state.perform(state.payload.path(), MediaType.APPLICATION_JSON, state.body);
+    }
+
+    @Benchmark
+    public int validate(CustomFields state) throws Exception {
+        return state.perform(Payload.VALIDATION.path(), MediaType.APPLICATION_JSON, state.body);
+    }
+
+    @Benchmark
+    public int validateBatch(CustomFields state) throws Exception {
+        return state.perform("/api/validate/batch", MediaType.APPLICATION_NDJSON, state.batch);
+    }
+}
@@ -0,0 +1,77 @@
+package validator.currency;
+
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import validator.payload.CurrencyBatchRequest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch conversion: {@code convert} is the arithmetic alone over {@code size} amounts, {@code convertJson} what
+ * {@code /api/convert/batch} does with a body of that size (bind the amounts, check them, convert, write the
+ * response) with the application's fast double parser and writer. Amounts per second = ops/s * size.
+ * {@code lookup} converts one amount between two codes given as strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyConverterBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private final CurrencyConverter converter = CurrencyConverter.withDefaultRates();
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+            .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+            .build();
+    private final ObjectReader reader = mapper.readerFor(CurrencyBatchRequest.class);
+    private final ObjectWriter writer = mapper.writer();
+    private double[] amounts;
+    private double[] work;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        amounts = new double[size];
+        for (int i = 0; i < size; i++) {
+            amounts[i] = Math.round(random.nextDouble() * 1_000_000) / 100.0 + 0.01;
+        }
+        work = new double[size];
+        CurrencyBatchRequest request = new CurrencyBatchRequest();
+        request.setFromCurrency("USD");
+        request.setToCurrency("EUR");
+        request.setAmounts(amounts);
+        body = mapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public double[] convert() {
+        System.arraycopy(amounts, 0, work, 0, size);
+        return converter.convertAll("USD", "EUR", work).convertedAmounts();
+    }
+
+    @Benchmark
+    public byte[] convertJson() throws Exception {
+        CurrencyBatchRequest request = reader.readValue(body);
+        if (CurrencyConverter.firstInvalidAmount(request.getAmounts()) >= 0) {
+            throw new IllegalStateException();
+        }
+        return writer.writeValueAsBytes(converter.convertAll(request.getFromCurrency(), request.getToCurrency(), request.getAmounts()));
+    }
+
+    @Benchmark
+    public double lookup() {
+        return converter.convert("GBP", "JPY", 12.5).convertedAmount();
+    }
+}
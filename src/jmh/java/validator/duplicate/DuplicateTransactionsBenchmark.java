@@ -0,0 +1,70 @@
+package validator.duplicate;
+
+import org.openjdk.jmh.annotations.*;
+import validator.payload.TransactionRequestValidator;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One duplicate check per call from four threads on random fingerprints, for {@link FingerprintWindow}
+ * ({@code window}, 2^24 slots off-heap) and for a ConcurrentHashMap of fingerprint to time added ({@code map}),
+ * which keeps every entry on the heap. {@code fingerprint} is the cost of {@link DuplicateTransactions#fingerprint}
+ * alone. Run with {@code -prof gc} to compare allocation.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="DuplicateTransactionsBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DuplicateTransactionsBenchmark {
+
+    private static final int SLOTS = 1 << 24;
+
+    private FingerprintWindow window;
+    private ConcurrentHashMap<Long, Long> map;
+    private DuplicateTransactions duplicates;
+    private TransactionRequestValidator.Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        window = new FingerprintWindow(SLOTS, Duration.ofMinutes(10));
+        map = new ConcurrentHashMap<>();
+        duplicates = new DuplicateTransactions(window);
+        transaction = new TransactionRequestValidator.Transaction();
+        transaction.setAmount(1250.5);
+        transaction.setSid(12345);
+        transaction.setManager("1234567");
+        transaction.setLogin("123456789");
+        transaction.setCurrency("usd");
+        transaction.setComment("Invoice 2024-118");
+    }
+
+    @Benchmark
+    public boolean window() {
+        return window.add(ThreadLocalRandom.current().nextLong());
+    }
+
+    @Benchmark
+    public boolean map() {
+        // Bounded like the window, by starting over once full; clearing is rare enough not to count
+        if (map.size() >= SLOTS / 2) {
+            map.clear();
+        }
+        long now = System.nanoTime();
+        Long previous = map.putIfAbsent(ThreadLocalRandom.current().nextLong(), now);
+        return previous == null;
+    }
+
+    @Benchmark
+    public long fingerprint() {
+        return duplicates.fingerprint(transaction);
+    }
+}
@@ -0,0 +1,153 @@
+package validator.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Burst of slow clients against a running instance, to compare platform and virtual request threads, and the
+ * MVC API with its WebFlux variant.
+ * <p>
+ * Every client opens a connection per request and sends the headers with {@code Expect: 100-continue}.
+ * Tomcat answers {@code 100 Continue} once a request thread has picked the request up, Netty once the handler
+ * subscribes to the body; the client then takes {@code --slow-ms} to upload the body, holding that thread on
+ * Tomcat, and reads the response to the end. With platform threads at most {@code server.tomcat.threads.max}
+ * uploads are in progress at once and the other clients wait for a thread; with virtual threads and on Netty
+ * they all proceed together.
+ * <p>
+ * Reports p50/p99/max latency (connect to last response byte), throughput, errors and the peak number of
+ * connections the server was serving at the same time (between {@code 100 Continue} and the response), also
+ * per server core ({@code --server-cores}, this machine's by default).
+ * <pre>
+ * java -cp target/test-classes validator.load.LoadTest --port 4052 --clients 1000 --requests 1 --slow-ms 1000
+ * </pre>
+ * See {@code scripts/load-test.sh} for a run against both thread modes.
+ */
+public final class LoadTest {
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+    private static final AtomicInteger errors = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        String host = option(args, "--host", "localhost");
+        int port = Integer.parseInt(option(args, "--port", "4052"));
+        String path = option(args, "--path", "/api/validate/pagination");
+        String body = option(args, "--body", "{\"fromUserId\":1,\"limit\":10,\"offset\":0}");
+        int clients = Integer.parseInt(option(args, "--clients", "1000"));
+        int requests = Integer.parseInt(option(args, "--requests", "1"));
+        long slowMillis = Long.parseLong(option(args, "--slow-ms", "1000"));
+        String label = option(args, "--label", "");
+        int serverCores = Integer.parseInt(option(args, "--server-cores", String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        byte[] head = ("POST " + path + " HTTP/1.1\r\nHost: " + host + ":" + port
+                + "\r\nContent-Type: application/json\r\nContent-Length: " + payload.length
+                + "\r\nExpect: 100-continue\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        InetSocketAddress address = new InetSocketAddress(host, port);
+
+        long[] latencies = new long[clients * requests];
+        AtomicInteger completed = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    for (int r = 0; r < requests; r++) {
+                        long latency = send(address, head, payload, slowMillis);
+                        if (latency >= 0) {
+                            latencies[completed.getAndIncrement()] = latency;
+                        }
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = Arrays.copyOf(latencies, completed.get());
+        Arrays.sort(sorted);
+        System.out.printf(Locale.ROOT, "%-10s clients=%d requests=%d ok=%d errors=%d throughput=%.0f/s "
+                        + "p50=%.1fms p99=%.1fms max=%.1fms peakServed=%d perCore=%d%n",
+                label, clients, clients * requests, sorted.length, errors.get(),
+                sorted.length / (elapsed / 1e9), millis(sorted, 0.50), millis(sorted, 0.99), millis(sorted, 1.0),
+                peakInFlight.get(), peakInFlight.get() / serverCores);
+    }
+
+    // Latency in nanoseconds, or -1 when the request failed or was not answered with 200
+    private static long send(InetSocketAddress address, byte[] head, byte[] payload, long slowMillis) {
+        long start = System.nanoTime();
+        try (Socket socket = new Socket()) {
+            socket.connect(address, 30_000);
+            socket.setSoTimeout(60_000);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            out.write(head);
+            out.flush();
+            if (!readContinue(in)) {
+                errors.incrementAndGet();
+                return -1;
+            }
+            // The server is now working on this request
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(slowMillis);
+                out.write(payload);
+                out.flush();
+
+                byte[] buffer = new byte[1024];
+                int read = in.read(buffer);
+                boolean ok = read > 12 && new String(buffer, 9, 3, StandardCharsets.US_ASCII).equals("200");
+                while (read >= 0) {
+                    read = in.read(buffer);
+                }
+                if (!ok) {
+                    errors.incrementAndGet();
+                    return -1;
+                }
+                return System.nanoTime() - start;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        } catch (IOException | InterruptedException e) {
+            errors.incrementAndGet();
+            return -1;
+        }
+    }
+
+    // Reads the interim response up to its blank line; true when it is 100 Continue
+    private static boolean readContinue(InputStream in) throws IOException {
+        StringBuilder response = new StringBuilder();
+        int b;
+        while ((b = in.read()) >= 0) {
+            response.append((char) b);
+            if (response.length() >= 4 && response.lastIndexOf("\r\n\r\n") == response.length() - 4) {
+                return response.indexOf("HTTP/1.1 100") == 0;
+            }
+        }
+        return false;
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
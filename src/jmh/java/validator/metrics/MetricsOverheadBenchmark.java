@@ -0,0 +1,114 @@
+package validator.metrics;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.Payload;
+import validator.ValidatorApplication;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Per-request cost of validation metrics.
+ * <p>
+ * {@code request} runs the same standalone MockMvc requests with {@code metrics=false} (no meters at all) and
+ * {@code metrics=true} (deserialization advice, metered validator and streaming endpoint timers recording into
+ * a {@link SimpleMeterRegistry}). The difference is well below run-to-run noise on small machines, so
+ * {@code record} measures what metrics add to one request on its own: the clock reads, both timers, the
+ * outcome counter and one counter per violation. Divide it by {@code request} for the overhead.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="MetricsOverheadBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    @Param({"CURRENCY_CONVERSION", "USER_ACCOUNT", "PAGINATION"})
+    public Payload payload;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private MockMvc mvc;
+    private String body;
+    private ValidationMetrics recorder;
+    private String type;
+    private Set<ConstraintViolation<Object>> violations;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("org.springframework")).setLevel(Level.OFF);
+
+        LocalValidatorFactoryBean hibernate = new ValidatorApplication.ValidationConfig().getValidator();
+        hibernate.afterPropertiesSet();
+        if (metrics) {
+            ValidationMetrics validationMetrics = new ValidationMetrics(new SimpleMeterRegistry());
+            Validator validator = new MeteredValidator(hibernate, validationMetrics);
+            mvc = MockMvcBuilders.standaloneSetup(new ValidationController(validator, validationMetrics, CurrencyConverter.withDefaultRates(), null))
+                    .setControllerAdvice(new DeserializationTimingAdvice(validationMetrics))
+                    .setValidator(new SpringValidatorAdapter(validator))
+                    .build();
+        } else {
+            mvc = MockMvcBuilders.standaloneSetup(new ValidationController(hibernate, null, CurrencyConverter.withDefaultRates(), null))
+                    .setValidator(hibernate)
+                    .build();
+        }
+        body = payload.json(valid);
+
+        recorder = new ValidationMetrics(new SimpleMeterRegistry());
+        type = ValidationMetrics.type(payload.type());
+        violations = payload == Payload.PAGINATION ? Set.of() : hibernate.validate(bind(payload, body));
+    }
+
+    private static Object bind(Payload payload, String json) {
+        try {
+            return new ObjectMapper().readValue(json, payload.type());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        return mvc.perform(post(payload.path()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public long record() {
+        long start = System.nanoTime();
+        if (payload == Payload.PAGINATION) {
+            // Streaming check: one timer and the outcome
+            recorder.validated(type, System.nanoTime() - start, valid ? ValidationMetrics.VALID : ValidationMetrics.INVALID);
+            return start;
+        }
+        recorder.deserialized(type, System.nanoTime() - start);
+        long validation = System.nanoTime();
+        recorder.validated(type, System.nanoTime() - validation, violations);
+        return validation;
+    }
+}
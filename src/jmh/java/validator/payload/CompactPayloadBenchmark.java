@@ -0,0 +1,130 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import validator.Payload;
+import validator.codegen.GeneratedValidator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Binding and validating a request body as the boxed payload class and as its compact counterpart
+ * ({@code validator.payload.compact}), with Hibernate Validator or the generated validators.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, the bytes allocated per request.
+ * <p>
+ * The sample bodies use small numbers, which box to cached {@code Integer}s; {@code largeNumbers} adds
+ * 100000 to every positive integer so that boxing allocates, as it does for real ids and balances.
+ * <p>
+ * The {@code Archive} variants read the body as {@value #RECORDS} NDJSON records through
+ * {@link MappedNdjsonReader}, on one thread, and report per record. There the parser is set up once per
+ * chunk rather than per request, so what remains is mostly the bound object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactPayloadBenchmark {
+
+    private static final int RECORDS = 10_000;
+
+    // A positive integer value of a field
+    private static final Pattern POSITIVE_INT = Pattern.compile("(?<=\":)[1-9]\\d*(?=[,}])");
+
+    @Param({"VALIDATION", "PAGINATION", "USER_VERIFICATION"})
+    public Payload payload;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    @Param({"true", "false"})
+    public boolean generated;
+
+    @Param({"false", "true"})
+    public boolean largeNumbers;
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private byte[] body;
+    private ObjectReader boxedReader;
+    private ObjectReader compactReader;
+    private Path archive;
+    private MappedNdjsonReader<Object> boxedArchiveReader;
+    private MappedNdjsonReader<Object> compactArchiveReader;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() throws IOException {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = generated ? new GeneratedValidator(factory.getValidator(), factory.getMessageInterpolator()) : factory.getValidator();
+        String json = payload.json(valid);
+        if (largeNumbers) {
+            json = POSITIVE_INT.matcher(json).replaceAll(number -> String.valueOf(Integer.parseInt(number.group()) + 100_000));
+        }
+        body = json.getBytes(StandardCharsets.UTF_8);
+        ObjectMapper mapper = new ObjectMapper();
+        boxedReader = mapper.readerFor(payload.type());
+        compactReader = mapper.readerFor(payload.compactType());
+
+        archive = Files.createTempFile("compact", ".ndjson");
+        Files.writeString(archive, (json.replace("\n", "") + "\n").repeat(RECORDS));
+        boxedArchiveReader = new MappedNdjsonReader<>(mapper, (Class<Object>) payload.type());
+        compactArchiveReader = new MappedNdjsonReader<>(mapper, (Class<Object>) payload.compactType());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        factory.close();
+        Files.delete(archive);
+    }
+
+    // Validates every record of the archive, as Revalidate does
+    private long readArchive(MappedNdjsonReader<Object> reader) throws IOException {
+        long[] violations = new long[1];
+        reader.read(archive, 1, new MappedNdjsonReader.Handler<>() {
+            @Override
+            public void record(long offset, Object record) {
+                violations[0] += validator.validate(record).size();
+            }
+
+            @Override
+            public void malformed(long offset, String message) {
+                throw new IllegalStateException(message);
+            }
+        });
+        return violations[0];
+    }
+
+    @Benchmark
+    public Set<?> boxed() throws Exception {
+        return validator.validate(boxedReader.readValue(body));
+    }
+
+    @Benchmark
+    public Set<?> compact() throws Exception {
+        return validator.validate(compactReader.readValue(body));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long boxedArchive() throws IOException {
+        return readArchive(boxedArchiveReader);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public long compactArchive() throws IOException {
+        return readArchive(compactArchiveReader);
+    }
+}
@@ -0,0 +1,90 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import validator.Payload;
+import validator.ValidatorApplication;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialize-then-validate for every payload class, with the application's validator
+ * and without any web layer.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Binding {
+
+        final ObjectMapper mapper = new ObjectMapper();
+        LocalValidatorFactoryBean validator;
+
+        @Setup
+        public void setUpValidator() {
+            validator = new ValidatorApplication.ValidationConfig().getValidator();
+            validator.afterPropertiesSet();
+        }
+
+        @TearDown
+        public void tearDownValidator() {
+            validator.close();
+        }
+
+        Set<ConstraintViolation<Object>> validate(String json, Class<?> type) throws Exception {
+            Object bean = mapper.readValue(json, type);
+            return validator.validate(bean);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Fixed extends Binding {
+
+        @Param({"TRANSACTION", "USER_ACCOUNT", "CURRENCY_CONVERSION", "ACCOUNT", "USER_VERIFICATION", "PAGINATION"})
+        public Payload payload;
+
+        @Param({"true", "false"})
+        public boolean valid;
+
+        String json;
+
+        @Setup
+        public void setUp() {
+            json = payload.json(valid);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CustomFields extends Binding {
+
+        @Param({"true", "false"})
+        public boolean valid;
+
+        @Param({"4", "1000"})
+        public int customFields;
+
+        String json;
+
+        @Setup
+        public void setUp() {
+            json = Payload.VALIDATION.json(valid, customFields);
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> deserializeAndValidate(Fixed state) throws Exception {
+        return state.validate(state.json, state.payload.type());
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> validationClass(CustomFields state) throws Exception {
+        return state.validate(state.json, ValidationClass.class);
+    }
+}
@@ -0,0 +1,115 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import validator.Payload;
+import validator.codegen.GeneratedValidator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Re-validates an NDJSON archive through {@link MappedNdjsonReader} and reports records per second and memory.
+ * <p>
+ * {@code --generate-gb n} first writes an archive of about n GB, alternating the payload's valid and invalid
+ * sample. Resident memory is read from {@code /proc/self/status}: {@code VmHWM} is the peak, and includes
+ * pages of the mapped file the kernel has not reclaimed yet.
+ * <pre>
+ * java -Xmx256m -cp target/test-classes:... validator.payload.Revalidate --file /data/users.ndjson --type USER_ACCOUNT --generate-gb 50
+ * java -Xmx256m -cp target/test-classes:... validator.payload.Revalidate --file /data/pages.ndjson --type PAGINATION --compact true
+ * </pre>
+ */
+public final class Revalidate {
+
+    public static void main(String[] args) throws Exception {
+        Path file = Path.of(option(args, "--file", "target/revalidate.ndjson"));
+        Payload payload = Payload.valueOf(option(args, "--type", "USER_ACCOUNT"));
+        int threads = Integer.parseInt(option(args, "--threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        double generateGb = Double.parseDouble(option(args, "--generate-gb", "0"));
+        // false measures reading and binding alone
+        boolean validate = Boolean.parseBoolean(option(args, "--validate", "true"));
+        // "generated" validates with the compile-time validators, "hibernate" with Bean Validation alone
+        boolean generated = option(args, "--validator", "generated").equals("generated");
+        // true binds the payload's counterpart in validator.payload.compact, with primitive fields
+        boolean compact = Boolean.parseBoolean(option(args, "--compact", "false"));
+        Class<?> type = compact ? payload.compactType() : payload.type();
+        if (type == null) {
+            throw new IllegalArgumentException(payload + " has no compact counterpart");
+        }
+
+        if (generateGb > 0) {
+            long start = System.nanoTime();
+            generate(file, payload, (long) (generateGb * (1L << 30)));
+            System.out.printf(Locale.ROOT, "generated %s (%.1f GB) in %.0fs%n",
+                    file, Files.size(file) / (double) (1L << 30), (System.nanoTime() - start) / 1e9);
+        }
+
+        LongAdder invalid = new LongAdder();
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = generated ? new GeneratedValidator(factory.getValidator(), factory.getMessageInterpolator()) : factory.getValidator();
+            MappedNdjsonReader.Handler<Object> handler = new MappedNdjsonReader.Handler<>() {
+                @Override
+                public void record(long offset, Object record) {
+                    if (validate && !validator.validate(record).isEmpty()) {
+                        invalid.increment();
+                    }
+                }
+
+                @Override
+                public void malformed(long offset, String message) {
+                }
+            };
+
+            long start = System.nanoTime();
+            @SuppressWarnings("unchecked")
+            MappedNdjsonReader<Object> reader = new MappedNdjsonReader<>(new ObjectMapper(), (Class<Object>) type);
+            MappedNdjsonReader.Stats stats = reader.read(file, threads, handler);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Runtime runtime = Runtime.getRuntime();
+            System.out.printf(Locale.ROOT, "%s compact=%b validator=%s threads=%d records=%d invalid=%d malformed=%d time=%.0fs "
+                            + "records/s=%.0f MB/s=%.0f %s %s heapUsed=%dMB%n",
+                    payload, compact, validate ? (generated ? "generated" : "hibernate") : "none", threads, stats.records(), invalid.sum(), stats.malformed(), seconds,
+                    stats.records() / seconds, stats.bytes() / seconds / (1 << 20),
+                    status("VmHWM"), status("VmRSS"), (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+        }
+    }
+
+    private static void generate(Path file, Payload payload, long bytes) throws IOException {
+        List<String> lines = List.of(payload.json(true).replace("\n", "") + "\n", payload.json(false).replace("\n", "") + "\n");
+        long written = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; written < bytes; i++) {
+                String line = lines.get(i & 1);
+                writer.write(line);
+                written += line.length();
+            }
+        }
+    }
+
+    private static String status(String field) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+            if (line.startsWith(field + ":")) {
+                return field + "=" + line.substring(field.length() + 1).trim().replace(" ", "");
+            }
+        }
+        return field + "=?";
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,72 @@
+package validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import validator.Payload;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hand-written static {@code validate} methods of {@link PaginationValidator} and
+ * {@link UserVerificationValidator}: {@code validate} alone on a bound object and
+ * {@code parseAndValidate} the way the controller used to call it (tree, field check, bind, validate)
+ * and {@code streamAndValidate} the way it calls it now (one pass over the tokens).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StaticValidatorBenchmark {
+
+    @Param({"PAGINATION", "USER_VERIFICATION"})
+    public Payload payload;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String json;
+    private byte[] bytes;
+    private PaginationValidator pagination;
+    private UserVerificationValidator userVerification;
+
+    @Setup
+    public void setUp() throws Exception {
+        json = payload.json(valid);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+        pagination = mapper.readValue(Payload.PAGINATION.json(valid), PaginationValidator.class);
+        userVerification = mapper.readValue(Payload.USER_VERIFICATION.json(valid), UserVerificationValidator.class);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return payload == Payload.PAGINATION
+                ? PaginationValidator.validate(pagination)
+                : UserVerificationValidator.validate(userVerification);
+    }
+
+    @Benchmark
+    public boolean parseAndValidate() throws Exception {
+        JsonNode node = mapper.readTree(json);
+        if (payload == Payload.PAGINATION) {
+            return node.has("fromUserId") && node.has("limit") && node.has("offset")
+                    && PaginationValidator.validate(mapper.treeToValue(node, PaginationValidator.class));
+        }
+        return node.has("user") && node.has("isVerified") && node.has("verified")
+                && UserVerificationValidator.validate(mapper.treeToValue(node, UserVerificationValidator.class));
+    }
+
+    @Benchmark
+    public ValidationOutcome streamAndValidate() throws Exception {
+        try (JsonParser parser = mapper.createParser(bytes)) {
+            return payload == Payload.PAGINATION
+                    ? PaginationValidator.validate(parser)
+                    : UserVerificationValidator.validate(parser);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package validator.payload;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of {@code size} transactions, about one in ten invalid, checked one object at a time with
+ * {@link TransactionRequestValidator#validate(TransactionRequestValidator.Transaction)} ({@code perObject})
+ * and column by column with {@link TransactionRequestValidator#validate(TransactionColumns)} ({@code columnar}).
+ * {@code encodeAndValidate} adds building the columns from the same objects, for callers that have objects.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="TransactionBatchBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBatchBenchmark {
+
+    private static final String[] CURRENCIES = {"USD", "EUR", "KES", "usd"};
+
+    @Param({"1000000"})
+    public int size;
+
+    private final TransactionRequestValidator validator = new TransactionRequestValidator();
+    private TransactionRequestValidator.Transaction[] transactions;
+    private TransactionColumns columns;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        transactions = new TransactionRequestValidator.Transaction[size];
+        columns = new TransactionColumns(size);
+        for (int i = 0; i < size; i++) {
+            TransactionRequestValidator.Transaction t = new TransactionRequestValidator.Transaction();
+            boolean invalid = random.nextInt(10) == 0;
+            t.setAmount(invalid && random.nextBoolean() ? -1 : 1 + random.nextInt(100_000) / 100.0);
+            t.setSid(1 + random.nextInt(1_000_000));
+            t.setManager(Long.toString(1_000_000 + random.nextInt(9_000_000)));
+            t.setLogin(Long.toString(100_000_000L + random.nextInt(900_000_000)));
+            t.setCurrency(invalid ? "JPY" : CURRENCIES[random.nextInt(CURRENCIES.length)]);
+            t.setComment("Invoice " + i);
+            transactions[i] = t;
+            columns.add(t);
+        }
+    }
+
+    @Benchmark
+    public int perObject() {
+        int invalid = 0;
+        for (TransactionRequestValidator.Transaction transaction : transactions) {
+            if (!validator.validate(transaction)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public TransactionViolations columnar() {
+        return validator.validate(columns);
+    }
+
+    @Benchmark
+    public void encodeAndValidate(Blackhole blackhole) {
+        TransactionColumns batch = new TransactionColumns(size);
+        for (TransactionRequestValidator.Transaction transaction : transactions) {
+            batch.add(transaction);
+        }
+        blackhole.consume(validator.validate(batch));
+    }
+}
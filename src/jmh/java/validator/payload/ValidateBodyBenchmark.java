@@ -0,0 +1,59 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ValidationClass#validateBody} on payloads with growing {@code customFields} maps
+ * (about 1 MB at 50000 entries), against the previous approach of binding the whole body to a {@code Map}.
+ * <p>
+ * {@code complete} has every required key, with {@code customFields} before the last three;
+ * {@code missingKey} lacks {@code leverage}, so the whole top level is scanned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidateBodyBenchmark {
+
+    @Param({"4", "1000", "50000"})
+    public int customFields;
+
+    @Param({"complete", "missingKey"})
+    public String payload;
+
+    private final ValidationClass validationClass = new ValidationClass();
+    private String json;
+
+    @Setup
+    public void setUp() {
+        StringBuilder fields = new StringBuilder("{");
+        for (int i = 0; i < customFields; i++) {
+            fields.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":\"value").append(i).append('"');
+        }
+        fields.append('}');
+        json = "{\"user\":1,\"password\":\"secret\",\"sid\":2,\"groupName\":\"group\","
+                + ("complete".equals(payload) ? "\"leverage\":100," : "")
+                + "\"customFields\":" + fields + ",\"initialBalance\":100,\"notifyDisable\":false,\"readOnly\":false}";
+    }
+
+    @Benchmark
+    public boolean validateBody() throws Exception {
+        return validationClass.validateBody(json);
+    }
+
+    // validateBody as it was: a new mapper per call and the full payload bound to a Map
+    @Benchmark
+    public boolean bindToMap() throws Exception {
+        Map<?, ?> data = new ObjectMapper().readValue(json, Map.class);
+        return data.containsKey("user") && data.containsKey("password") && data.containsKey("sid")
+                && data.containsKey("groupName") && data.containsKey("leverage") && data.containsKey("initialBalance")
+                && data.containsKey("notifyDisable") && data.containsKey("readOnly")
+                && data.get("customFields") instanceof Map;
+    }
+}
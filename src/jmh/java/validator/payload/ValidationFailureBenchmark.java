@@ -0,0 +1,181 @@
+package validator.payload;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.jackson.JacksonDataFormat;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import validator.Payload;
+import validator.account.AccountStore;
+import validator.account.InMemoryAccountStore;
+import validator.route.ValidationRoute;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rejecting requests by throwing {@code IllegalArgumentException} ({@code exception}, the old
+ * behaviour) against returning a {@link ValidationResult} ({@code result}), with every other
+ * request invalid.
+ * <p>
+ * The route's validator ignores the {@code customFields} violation that
+ * {@code ValidationClass.setCustomFields} causes, so the valid body really is valid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationFailureBenchmark {
+
+    @Param({"exception", "result"})
+    public String failure;
+
+    private ValidatorFactory factory;
+    private CamelContext context;
+    private ProducerTemplate template;
+    private AccountStore store;
+    private AccountID accountID;
+    private final String[] bodies = new String[2];
+    private final AccountID.AccountRequest[] requests = {
+            new AccountID.AccountRequest("1"), new AccountID.AccountRequest("999")};
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((Logger) LoggerFactory.getLogger("org.apache.camel")).setLevel(Level.OFF);
+
+        factory = Validation.buildDefaultValidatorFactory();
+        Validator validator = new IgnoringCustomFields(factory.getValidator());
+        context = new DefaultCamelContext();
+        context.addRoutes("result".equals(failure) ? new ValidationRoute(validator, null) : new ThrowingRoute(validator));
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:processValidPayload").stop();
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+        bodies[0] = Payload.VALIDATION.json(true);
+        bodies[1] = Payload.VALIDATION.json(false);
+
+        store = InMemoryAccountStore.builder(1).put(1, List.of("AccountA", "AccountB")).build();
+        accountID = new AccountID(new AccountService(store), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        factory.close();
+    }
+
+    @Benchmark
+    public Exchange route() {
+        String body = bodies[next++ & 1];
+        return template.send("direct:validatePayload", exchange -> exchange.getIn().setBody(body));
+    }
+
+    @Benchmark
+    public ResponseEntity<?> associatedAccounts() {
+        AccountID.AccountRequest request = requests[next++ & 1];
+        if ("result".equals(failure)) {
+            return accountID.getAssociatedAccounts(request);
+        }
+        // AccountService and AccountID as they were before
+        try {
+            List<String> accounts = store.findAssociatedAccounts(AccountService.parseAccountId(request.getAccountId()));
+            if (accounts.isEmpty()) {
+                throw new IllegalArgumentException("No associated accounts found for account ID " + request.getAccountId());
+            }
+            return ResponseEntity.ok(accounts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    // ValidationRoute as it was before
+    static final class ThrowingRoute extends RouteBuilder {
+
+        private final Validator validator;
+
+        ThrowingRoute(Validator validator) {
+            this.validator = validator;
+        }
+
+        @Override
+        public void configure() {
+            from("direct:validatePayload")
+                    .unmarshal(new JacksonDataFormat(ValidationClass.class))
+                    .process(exchange -> {
+                        ValidationClass request = exchange.getIn().getBody(ValidationClass.class);
+                        Set<ConstraintViolation<ValidationClass>> violations = validator.validate(request);
+                        if (!violations.isEmpty()) {
+                            StringBuilder errorMessage = new StringBuilder("Validation failed: ");
+                            for (ConstraintViolation<ValidationClass> violation : violations) {
+                                errorMessage.append(violation.getMessage()).append("; ");
+                            }
+                            throw new IllegalArgumentException(errorMessage.toString());
+                        }
+                    })
+                    .to("direct:processValidPayload");
+        }
+    }
+
+    static final class IgnoringCustomFields implements Validator {
+
+        private final Validator delegate;
+
+        IgnoringCustomFields(Validator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+            return delegate.validate(object, groups).stream()
+                    .filter(violation -> !violation.getPropertyPath().toString().equals("customFields"))
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+            return delegate.validateProperty(object, propertyName, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+            return delegate.validateValue(beanType, propertyName, value, groups);
+        }
+
+        @Override
+        public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+            return delegate.getConstraintsForClass(clazz);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            return delegate.unwrap(type);
+        }
+
+        @Override
+        public ExecutableValidator forExecutables() {
+            return delegate.forExecutables();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import validator.Payload;
+import validator.ValidatorApplication;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and validating each payload class's valid body when it arrives as JSON, Smile or CBOR, as the
+ * endpoints do: bound and validated with the application's validator, or token by token for
+ * {@code USER_VERIFICATION} and {@code PAGINATION}. The encoded size of each body is printed at setup.
+ * Run with {@code -prof gc} to compare allocation too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"VALIDATION", "TRANSACTION", "USER_ACCOUNT", "CURRENCY_CONVERSION", "ACCOUNT", "USER_VERIFICATION", "PAGINATION"})
+    public Payload payload;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public WireFormat format;
+
+    private LocalValidatorFactoryBean validator;
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        validator = new ValidatorApplication.ValidationConfig().getValidator();
+        validator.afterPropertiesSet();
+        mapper = format.mapper();
+        reader = mapper.readerFor(payload.type());
+        byte[] json = payload.json(true).getBytes(StandardCharsets.UTF_8);
+        body = format.transcode(json);
+        System.out.printf("%n%s as %s: %d bytes (JSON %d)%n", payload, format, body.length, json.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.close();
+    }
+
+    @Benchmark
+    public Object parseAndValidate() throws IOException {
+        if (payload == Payload.USER_VERIFICATION || payload == Payload.PAGINATION) {
+            try (JsonParser parser = mapper.createParser(body)) {
+                return payload == Payload.PAGINATION ? PaginationValidator.validate(parser) : UserVerificationValidator.validate(parser);
+            }
+        }
+        return validator.validate(reader.readValue(body));
+    }
+}
@@ -0,0 +1,124 @@
+package validator.route;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import validator.Payload;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-exchange cost of {@code direct:validatePayload}.
+ * <p>
+ * {@code shared} is the current route (one validator for the application lifetime),
+ * {@code perExchange} reproduces the old behaviour of bootstrapping a new factory per message.
+ * Run with {@code -prof gc} to compare heap churn ({@code gc.alloc.rate.norm}).
+ * <p>
+ * Note that {@code ValidationClass.setCustomFields} discards its argument, so even the
+ * {@code valid} payload currently ends in a "Custom fields cannot be null" violation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationRouteBenchmark {
+
+    @Param({"shared", "perExchange"})
+    public String validator;
+
+    @Param({"valid", "invalid"})
+    public String payload;
+
+    @Param({"4", "1000"})
+    public int customFields;
+
+    private ValidatorFactory factory;
+    private CamelContext context;
+    private ProducerTemplate template;
+    private String body;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Failed exchanges are logged by the default error handler; keep that out of the measurement
+        ((Logger) LoggerFactory.getLogger("org.apache.camel")).setLevel(Level.OFF);
+
+        factory = Validation.buildDefaultValidatorFactory();
+        Validator routeValidator = "shared".equals(validator) ? factory.getValidator() : new BootstrappingValidator();
+
+        context = new DefaultCamelContext();
+        context.addRoutes(new ValidationRoute(routeValidator, null));
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:processValidPayload").stop();
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+        body = Payload.VALIDATION.json("valid".equals(payload), customFields);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        factory.close();
+    }
+
+    @Benchmark
+    public Exchange validatePayload() {
+        return template.send("direct:validatePayload", exchange -> exchange.getIn().setBody(body));
+    }
+
+    // The route as it was before: a fresh ValidatorFactory for every validate call, never closed
+    static final class BootstrappingValidator implements Validator {
+
+        private static Validator newValidator() {
+            return Validation.buildDefaultValidatorFactory().getValidator();
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+            return newValidator().validate(object, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+            return newValidator().validateProperty(object, propertyName, groups);
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+            return newValidator().validateValue(beanType, propertyName, value, groups);
+        }
+
+        @Override
+        public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+            return newValidator().getConstraintsForClass(clazz);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            return newValidator().unwrap(type);
+        }
+
+        @Override
+        public ExecutableValidator forExecutables() {
+            return newValidator().forExecutables();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package validator.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import validator.Payload;
+import validator.ValidatorApplication;
+import validator.codegen.Checks;
+import validator.codegen.GeneratedValidator;
+import validator.constraint.PatternMatcher;
+import validator.constraint.PatternMatchers;
+import validator.payload.TransactionRequestValidator;
+import validator.payload.UserAccountRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bundled schema rules ({@code rules/*.rules}, the same constraints as the annotations) against the same
+ * checks written in Java. {@code handWritten}, {@code compiledRules} and {@code constantRules} return the bit mask
+ * of failed rules; {@code constantRules} invokes the rules' handle from a static final field, where the JIT can
+ * inline through it, and {@code compiledRules} from the reloadable {@link ValidationRules}, as the application
+ * does. The {@code Validator} benchmarks also build the violations: {@code ruleValidator}, the compile-time
+ * {@code generated} validators and {@code hibernate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RulesBenchmark {
+
+    private static final TypeRules USER_ACCOUNT_RULES = read("rules/UserAccountRequest.rules");
+    private static final TypeRules TRANSACTION_RULES = read("rules/Transaction.rules");
+    private static final MethodHandle USER_ACCOUNT_CHECK = USER_ACCOUNT_RULES.check();
+    private static final MethodHandle TRANSACTION_CHECK = TRANSACTION_RULES.check();
+
+    private static final PatternMatcher COUNTRY = PatternMatchers.compile("^[A-Z]{2}$");
+    private static final PatternMatcher PHONE = PatternMatchers.compile("^\\+\\d{1,15}$");
+
+    @Param({"USER_ACCOUNT", "TRANSACTION"})
+    public Payload payload;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private LocalValidatorFactoryBean hibernate;
+    private GeneratedValidator generated;
+    private RuleValidator ruleValidator;
+    private ValidationRules rules;
+    private Object bean;
+
+    private static TypeRules read(String schema) {
+        try {
+            return RuleSchema.read(new ClassPathResource(schema));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        hibernate = new ValidatorApplication.ValidationConfig().getValidator();
+        hibernate.afterPropertiesSet();
+        generated = new GeneratedValidator(hibernate, hibernate.getMessageInterpolator());
+        rules = new ValidationRules(Map.of(UserAccountRequest.class, USER_ACCOUNT_RULES,
+                TransactionRequestValidator.Transaction.class, TRANSACTION_RULES));
+        ruleValidator = new RuleValidator(hibernate, rules);
+        bean = new ObjectMapper().readValue(payload.json(valid), payload.type());
+    }
+
+    @TearDown
+    public void tearDown() {
+        hibernate.close();
+    }
+
+    @Benchmark
+    public int handWritten() {
+        if (bean instanceof UserAccountRequest request) {
+            return (Checks.notBlank(request.getFirstName()) ? 0 : 1)
+                    | (Checks.notBlank(request.getLastName()) ? 0 : 1 << 1)
+                    | (Checks.notBlank(request.getCountry()) ? 0 : 1 << 2)
+                    | (request.getCountry() == null || COUNTRY.matches(request.getCountry()) ? 0 : 1 << 3)
+                    | (Checks.notBlank(request.getPhone()) ? 0 : 1 << 4)
+                    | (request.getPhone() == null || PHONE.matches(request.getPhone()) ? 0 : 1 << 5)
+                    | (Checks.notBlank(request.getEmail()) ? 0 : 1 << 6)
+                    | (request.getEmail() == null || Checks.isEmail(request.getEmail()) ? 0 : 1 << 7)
+                    | (Checks.notBlank(request.getClientType()) ? 0 : 1 << 8);
+        }
+        TransactionRequestValidator.Transaction transaction = (TransactionRequestValidator.Transaction) bean;
+        return (Checks.notBlank(transaction.getManager()) ? 0 : 1 << 2)
+                | (Checks.notBlank(transaction.getLogin()) ? 0 : 1 << 3)
+                | (Checks.notBlank(transaction.getCurrency()) ? 0 : 1 << 4)
+                | (Checks.notBlank(transaction.getComment()) ? 0 : 1 << 5);
+    }
+
+    @Benchmark
+    public int compiledRules() {
+        return rules.forType(bean.getClass()).failures(bean);
+    }
+
+    @Benchmark
+    public int constantRules() throws Throwable {
+        return payload == Payload.USER_ACCOUNT
+                ? (int) USER_ACCOUNT_CHECK.invokeExact(bean)
+                : (int) TRANSACTION_CHECK.invokeExact(bean);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> ruleValidator() {
+        return ruleValidator.validate(bean);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> generated() {
+        return generated.validate(bean);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> hibernate() {
+        return hibernate.validate(bean);
+    }
+}
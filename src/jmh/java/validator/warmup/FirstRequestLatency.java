@@ -0,0 +1,98 @@
+package validator.warmup;
+
+import validator.Payload;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Time to the first fast request on a freshly started instance, with or without startup warm-up.
+ * <p>
+ * Start the application and this tool together. It polls {@code /actuator/health/readiness} until the
+ * instance reports ready, then sends the valid sample of every payload to its endpoint for {@code --rounds}
+ * rounds. A request is fast when it takes at most twice its endpoint's median over the last half of the
+ * rounds. Reports the time to readiness, the first latency per endpoint next to that median, and the time
+ * from launch until every endpoint had answered a request fast.
+ * <pre>
+ * java -cp target/test-classes:target/classes validator.warmup.FirstRequestLatency --port 4052 --label warm
+ * </pre>
+ * See {@code scripts/first-request.sh} for a run with warm-up off and on.
+ */
+public final class FirstRequestLatency {
+
+    public static void main(String[] args) throws Exception {
+        long launch = System.nanoTime();
+        String base = "http://localhost:" + option(args, "--port", "4052");
+        int rounds = Integer.parseInt(option(args, "--rounds", "40"));
+        String label = option(args, "--label", "");
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create(base + "/actuator/health/readiness")).build();
+        while (true) {
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    break;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        long ready = System.nanoTime();
+
+        Payload[] payloads = Payload.values();
+        // Latency of every request, and when it completed
+        double[][] latency = new double[payloads.length][rounds];
+        long[][] completed = new long[payloads.length][rounds];
+        for (int round = 0; round < rounds; round++) {
+            for (Payload payload : payloads) {
+                latency[payload.ordinal()][round] = send(client, base, payload);
+                completed[payload.ordinal()][round] = System.nanoTime();
+            }
+        }
+
+        long allFast = ready;
+        StringBuilder endpoints = new StringBuilder();
+        for (Payload payload : payloads) {
+            double[] steady = Arrays.copyOfRange(latency[payload.ordinal()], rounds / 2, rounds);
+            Arrays.sort(steady);
+            double median = steady[steady.length / 2];
+            int fast = 0;
+            while (latency[payload.ordinal()][fast] > 2 * median) {
+                fast++;
+            }
+            allFast = Math.max(allFast, completed[payload.ordinal()][fast]);
+            endpoints.append(String.format(Locale.ROOT, "%-6s %-20s first=%6.1fms median=%5.1fms fastAfter=%d%n",
+                    label, payload, latency[payload.ordinal()][0], median, fast));
+        }
+
+        System.out.printf(Locale.ROOT, "%-6s ready=%dms allFast=%dms (%dms after ready)%n", label,
+                (ready - launch) / 1_000_000, (allFast - launch) / 1_000_000, (allFast - ready) / 1_000_000);
+        System.out.print(endpoints);
+    }
+
+    private static double send(HttpClient client, String base, Payload payload) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + payload.path()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(payload.json(true)))
+                .build();
+        long start = System.nanoTime();
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -1,12 +1,25 @@
 package validator;
 
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import validator.aot.ValidatorRuntimeHints;
+import validator.codegen.GeneratedValidator;
+import validator.constraint.FastPatternValidator;
+import validator.metrics.MeteredValidator;
+import validator.metrics.ValidationMetrics;
+import validator.rules.RuleValidator;
+import validator.rules.ValidationRules;
 
 @SpringBootApplication
+@ImportRuntimeHints(ValidatorRuntimeHints.class)
 public class ValidatorApplication {
 
 	public static void main(String[] args) {
@@ -16,11 +29,31 @@ public class ValidatorApplication {
 
 	@Configuration
 	public static class ValidationConfig {
+		// Single validator for the whole application; Spring initialises it once and closes it on shutdown
 		@Bean
 		public LocalValidatorFactoryBean getValidator() {
-			LocalValidatorFactoryBean bean = new LocalValidatorFactoryBean();
-			bean.afterPropertiesSet();
-			return bean;
+			LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+			// @Pattern checks without a Matcher per call for simple expressions
+			validator.setConfigurationInitializer(FastPatternValidator::register);
+			return validator;
+		}
+
+		// The validator the application uses: compile-time generated validators in front of Hibernate Validator
+		// (validation.generated-validators.enabled), schema rules in front of both for the types that have them
+		// (validation.rules.dir), timed and counted when validation metrics are enabled
+		@Bean(destroyMethod = "")
+		@Primary
+		public Validator validator(LocalValidatorFactoryBean validator,
+								   @Value("${validation.generated-validators.enabled:false}") boolean generated,
+								   ObjectProvider<ValidationRules> rules,
+								   ObjectProvider<ValidationMetrics> metrics) {
+			Validator result = generated ? new GeneratedValidator(validator, validator.getMessageInterpolator()) : validator;
+			ValidationRules validationRules = rules.getIfAvailable();
+			if (validationRules != null) {
+				result = new RuleValidator(result, validationRules);
+			}
+			ValidationMetrics validationMetrics = metrics.getIfAvailable();
+			return validationMetrics != null ? new MeteredValidator(result, validationMetrics) : result;
 		}
 	}
 
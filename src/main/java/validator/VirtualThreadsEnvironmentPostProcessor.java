@@ -0,0 +1,24 @@
+package validator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Extends {@code spring.threads.virtual.enabled} to Camel. Spring Boot switches Tomcat request handling
+ * and its own executors to virtual threads, but Camel picks its thread type from the
+ * {@code camel.threads.virtual.enabled} system property when its thread pools are first used, so the
+ * property is set here, before any Camel class is initialised. An explicit system property wins.
+ */
+public class VirtualThreadsEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String CAMEL_VIRTUAL_THREADS = "camel.threads.virtual.enabled";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        boolean enabled = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (enabled && System.getProperty(CAMEL_VIRTUAL_THREADS) == null) {
+            System.setProperty(CAMEL_VIRTUAL_THREADS, "true");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package validator.account;
+
+import java.util.List;
+
+/**
+ * Read-only lookup of the accounts associated with an account ID. Account IDs are the non-negative
+ * numeric IDs accepted by {@code AccountRequest}; negative IDs are never found.
+ */
+public interface AccountStore {
+
+    /**
+     * Associated accounts of the given account, empty when it has none or is unknown.
+     */
+    List<String> findAssociatedAccounts(long accountId);
+
+    /**
+     * Number of accounts in the store.
+     */
+    long size();
+}
@@ -0,0 +1,41 @@
+package validator.account;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Selects the account store with {@code accounts.store} and puts the cache in front of it.
+ */
+@Configuration
+public class AccountStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "accounts.store", havingValue = "memory", matchIfMissing = true)
+    public AccountStore inMemoryAccountStore() {
+        return InMemoryAccountStore.builder(2)
+                .put(1, List.of("AccountA", "AccountB"))
+                .put(2, List.of("AccountC"))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "accounts.store", havingValue = "mapped")
+    public AccountStore mappedAccountStore(@Value("${accounts.store.file}") Path file) throws IOException {
+        return MappedAccountStore.open(file);
+    }
+
+    // Primary, so everything that asks for an AccountStore goes through the cache
+    @Bean
+    @Primary
+    public CachedAccountStore cachedAccountStore(AccountStore accountStore,
+                                                 @Value("${accounts.cache.maximum-size:100000}") long maximumSize) {
+        return new CachedAccountStore(accountStore, maximumSize);
+    }
+}
@@ -0,0 +1,30 @@
+package validator.account;
+
+/**
+ * Open-addressing layout shared by the stores: a power-of-two table probed linearly, with keys stored as
+ * {@code accountId + 1} so that a zeroed slot is empty and new tables need no initialisation.
+ */
+final class AccountTables {
+
+    // At most three quarters of the slots are used
+    static final int MAX_LOAD_PERCENT = 75;
+
+    private AccountTables() {
+    }
+
+    static long capacity(long expectedSize) {
+        long minimum = Math.max(2, expectedSize * 100 / MAX_LOAD_PERCENT + 1);
+        return Long.highestOneBit(minimum - 1) << 1;
+    }
+
+    static boolean isStorable(long accountId) {
+        return accountId >= 0 && accountId < Long.MAX_VALUE;
+    }
+
+    // Stafford variant 13 mix, so sequential IDs spread over the table
+    static long hash(long key) {
+        key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+        return key ^ (key >>> 31);
+    }
+}
@@ -0,0 +1,55 @@
+package validator.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache in front of another store. Caffeine's W-TinyLFU policy keeps frequently requested
+ * accounts even through bursts of one-off lookups. Unknown accounts are cached too, as empty lists.
+ * As a {@link MeterBinder} bean it publishes the {@code cache.*} metrics, tagged {@code cache=accounts}.
+ */
+public final class CachedAccountStore implements AccountStore, MeterBinder {
+
+    private final AccountStore store;
+    private final Cache<Long, List<String>> cache;
+    private final Function<Long, List<String>> loader;
+
+    public CachedAccountStore(AccountStore store, long maximumSize) {
+        this.store = store;
+        // Eviction bookkeeping runs on the calling thread; on small machines the common pool would start a
+        // thread for every maintenance pass
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        this.loader = store::findAssociatedAccounts;
+    }
+
+    @Override
+    public List<String> findAssociatedAccounts(long accountId) {
+        return cache.get(accountId, loader);
+    }
+
+    @Override
+    public long size() {
+        return store.size();
+    }
+
+    // Hit and miss counts since startup
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "accounts");
+    }
+}
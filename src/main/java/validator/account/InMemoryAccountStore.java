@@ -0,0 +1,115 @@
+package validator.account;
+
+import java.util.List;
+
+/**
+ * Heap store keyed by primitive {@code long} account IDs in an open-addressing table, without boxing or
+ * per-entry map nodes. Built once with a {@link Builder} and read-only afterwards.
+ */
+public final class InMemoryAccountStore implements AccountStore {
+
+    private final long[] keys;
+    private final List<String>[] values;
+    private final int mask;
+    private final int size;
+
+    private InMemoryAccountStore(Builder builder) {
+        this.keys = builder.keys;
+        this.values = builder.values;
+        this.mask = keys.length - 1;
+        this.size = builder.size;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    @Override
+    public List<String> findAssociatedAccounts(long accountId) {
+        if (!AccountTables.isStorable(accountId)) {
+            return List.of();
+        }
+        long key = accountId + 1;
+        for (int slot = (int) AccountTables.hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == 0) {
+                return List.of();
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    public static final class Builder {
+
+        private long[] keys;
+        private List<String>[] values;
+        private int size;
+
+        private Builder(int expectedSize) {
+            allocate(AccountTables.capacity(expectedSize));
+        }
+
+        /**
+         * Adds or replaces the associated accounts of an account.
+         */
+        public Builder put(long accountId, List<String> accounts) {
+            if (!AccountTables.isStorable(accountId)) {
+                throw new IllegalArgumentException("Account ID must be between 0 and " + (Long.MAX_VALUE - 1) + ": " + accountId);
+            }
+            if ((size + 1) * 100L > keys.length * (long) AccountTables.MAX_LOAD_PERCENT) {
+                grow();
+            }
+            if (insert(accountId + 1, List.copyOf(accounts))) {
+                size++;
+            }
+            return this;
+        }
+
+        public InMemoryAccountStore build() {
+            InMemoryAccountStore store = new InMemoryAccountStore(this);
+            keys = null;
+            values = null;
+            return store;
+        }
+
+        // True when the key was not present yet
+        private boolean insert(long key, List<String> accounts) {
+            int mask = keys.length - 1;
+            for (int slot = (int) AccountTables.hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == 0 || keys[slot] == key) {
+                    boolean added = keys[slot] == 0;
+                    keys[slot] = key;
+                    values[slot] = accounts;
+                    return added;
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            List<String>[] oldValues = values;
+            allocate(oldKeys.length * 2L);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void allocate(long capacity) {
+            if (capacity > 1 << 30) {
+                throw new IllegalStateException("Too many accounts for an in-memory store");
+            }
+            keys = new long[(int) capacity];
+            values = (List<String>[]) new List<?>[(int) capacity];
+        }
+    }
+}
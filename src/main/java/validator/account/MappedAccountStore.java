@@ -0,0 +1,247 @@
+package validator.account;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Store backed by a memory-mapped file, for account graphs too large for the heap. The operating system
+ * pages the file in on demand, so only the hot part of it occupies memory.
+ * <p>
+ * File layout, all values big-endian:
+ * <pre>
+ * header   int magic, int version, long size, long capacity, int chunkShift, int padding
+ * table    capacity slots of { long accountId + 1 (0 when empty), long record offset }
+ * records  { int count, count x { unsigned short length, UTF-8 bytes } }
+ * </pre>
+ * The file is mapped in chunks of {@code 1 << chunkShift} bytes, since a single mapping is limited to
+ * 2 GB. Slots are 16-byte aligned and the writer never lets a record cross a chunk boundary, so every
+ * read stays within one chunk.
+ */
+public final class MappedAccountStore implements AccountStore {
+
+    static final int MAGIC = 0x41434354; // "ACCT"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int SLOT_SIZE = 16;
+    static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    private final MappedByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long size;
+    private final long tableMask;
+
+    private MappedAccountStore(MappedByteBuffer[] chunks, int chunkShift, long size, long capacity) {
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+        this.size = size;
+        this.tableMask = capacity - 1;
+    }
+
+    public static MappedAccountStore open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not an account store: " + file);
+            }
+            long size = header.getLong(8);
+            long capacity = header.getLong(16);
+            int chunkShift = header.getInt(24);
+
+            long length = channel.size();
+            long chunkSize = 1L << chunkShift;
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((length + chunkSize - 1) >> chunkShift)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = (long) i << chunkShift;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, length - position));
+            }
+            return new MappedAccountStore(chunks, chunkShift, size, capacity);
+        }
+    }
+
+    public static Writer create(Path file, long expectedSize) throws IOException {
+        return new Writer(file, expectedSize, DEFAULT_CHUNK_SHIFT);
+    }
+
+    @Override
+    public List<String> findAssociatedAccounts(long accountId) {
+        if (!AccountTables.isStorable(accountId)) {
+            return List.of();
+        }
+        long key = accountId + 1;
+        for (long slot = AccountTables.hash(key) & tableMask; ; slot = (slot + 1) & tableMask) {
+            long position = HEADER_SIZE + slot * SLOT_SIZE;
+            MappedByteBuffer chunk = chunks[(int) (position >>> chunkShift)];
+            int offset = (int) (position & chunkMask);
+            long current = chunk.getLong(offset);
+            if (current == key) {
+                return readRecord(chunk.getLong(offset + 8));
+            }
+            if (current == 0) {
+                return List.of();
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    private List<String> readRecord(long position) {
+        MappedByteBuffer chunk = chunks[(int) (position >>> chunkShift)];
+        int offset = (int) (position & chunkMask);
+        int count = chunk.getInt(offset);
+        offset += 4;
+        String[] accounts = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = Short.toUnsignedInt(chunk.getShort(offset));
+            byte[] bytes = new byte[length];
+            chunk.get(offset + 2, bytes);
+            accounts[i] = new String(bytes, StandardCharsets.UTF_8);
+            offset += 2 + length;
+        }
+        return List.of(accounts);
+    }
+
+    /**
+     * Writes a store file. The table is sized for the expected number of accounts up front and written
+     * through a mapping; records are appended after it. Adding an account again replaces its record
+     * pointer; the old record stays in the file.
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final int chunkShift;
+        private final long chunkSize;
+        private final long capacity;
+        private final List<MappedByteBuffer> table = new ArrayList<>();
+        private ByteBuffer record = ByteBuffer.allocate(1024);
+        // Records not written yet; they start at pendingPosition and are contiguous
+        private final ByteBuffer pending = ByteBuffer.allocateDirect(1 << 20);
+        private long pendingPosition;
+        private long recordPosition;
+        private long size;
+
+        Writer(Path file, long expectedSize, int chunkShift) throws IOException {
+            this.chunkShift = chunkShift;
+            this.chunkSize = 1L << chunkShift;
+            this.capacity = AccountTables.capacity(expectedSize);
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long tableEnd = HEADER_SIZE + capacity * SLOT_SIZE;
+            // A freshly extended file reads as zeros, which is an empty table
+            for (long position = 0; position < tableEnd; position += chunkSize) {
+                table.add(channel.map(FileChannel.MapMode.READ_WRITE, position, Math.min(chunkSize, tableEnd - position)));
+            }
+            this.recordPosition = tableEnd;
+            this.pendingPosition = tableEnd;
+        }
+
+        public Writer put(long accountId, List<String> accounts) throws IOException {
+            if (!AccountTables.isStorable(accountId)) {
+                throw new IllegalArgumentException("Account ID must be between 0 and " + (Long.MAX_VALUE - 1) + ": " + accountId);
+            }
+            if ((size + 1) * 100 > capacity * AccountTables.MAX_LOAD_PERCENT) {
+                throw new IllegalStateException("More accounts than the expected size the store was created with");
+            }
+            long offset = writeRecord(accounts);
+            long key = accountId + 1;
+            for (long slot = AccountTables.hash(key) & (capacity - 1); ; slot = (slot + 1) & (capacity - 1)) {
+                long position = HEADER_SIZE + slot * SLOT_SIZE;
+                MappedByteBuffer chunk = table.get((int) (position >>> chunkShift));
+                int index = (int) (position & (chunkSize - 1));
+                long current = chunk.getLong(index);
+                if (current == 0 || current == key) {
+                    size += current == 0 ? 1 : 0;
+                    chunk.putLong(index, key);
+                    chunk.putLong(index + 8, offset);
+                    return this;
+                }
+            }
+        }
+
+        // Appends a record, moved to the next chunk if it would cross a boundary; returns its position
+        private long writeRecord(List<String> accounts) throws IOException {
+            record.clear();
+            ensureRecordCapacity(4);
+            record.putInt(accounts.size());
+            for (String account : accounts) {
+                byte[] bytes = account.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > 0xFFFF) {
+                    throw new IllegalArgumentException("Account name longer than 65535 bytes");
+                }
+                ensureRecordCapacity(2 + bytes.length);
+                record.putShort((short) bytes.length).put(bytes);
+            }
+            record.flip();
+            if (record.remaining() > chunkSize) {
+                throw new IllegalArgumentException("Record larger than a chunk");
+            }
+            long chunkEnd = ((recordPosition >>> chunkShift) + 1) << chunkShift;
+            if (recordPosition + record.remaining() > chunkEnd) {
+                flush();
+                recordPosition = chunkEnd;
+                pendingPosition = chunkEnd;
+            }
+            long position = recordPosition;
+            recordPosition += record.remaining();
+            if (record.remaining() > pending.remaining()) {
+                flush();
+            }
+            if (record.remaining() > pending.remaining()) {
+                write(record, position);
+                pendingPosition = recordPosition;
+            } else {
+                pending.put(record);
+            }
+            return position;
+        }
+
+        private void flush() throws IOException {
+            pending.flip();
+            write(pending, pendingPosition);
+            pendingPosition += pending.limit();
+            pending.clear();
+        }
+
+        private void write(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+
+        private void ensureRecordCapacity(int bytes) {
+            if (record.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + bytes));
+                record.flip();
+                record = larger.put(record);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (channel) {
+                flush();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .putInt(MAGIC).putInt(VERSION).putLong(size).putLong(capacity).putInt(chunkShift).putInt(0)
+                        .flip();
+                table.getFirst().put(0, header, 0, HEADER_SIZE);
+                for (MappedByteBuffer chunk : table) {
+                    chunk.force();
+                }
+            }
+        }
+    }
+}
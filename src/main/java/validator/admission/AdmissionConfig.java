@@ -0,0 +1,55 @@
+package validator.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-client rate limits on /api (validation.admission.*), on either web stack. The filters run ahead of the
+ * result caches and everything else that reads the body.
+ */
+@Configuration
+@ConditionalOnProperty(name = "validation.admission.enabled", havingValue = "true")
+public class AdmissionConfig {
+
+    private static final String API = "/api/";
+
+    @Bean
+    public AdmissionControl admissionControl(@Value("${validation.admission.rate:100}") double rate,
+                                             @Value("${validation.admission.burst:200}") int burst,
+                                             @Value("${validation.admission.max-clients:65536}") int maxClients,
+                                             @Value("${validation.admission.client-header:}") String clientHeader) {
+        return new AdmissionControl(new TokenBuckets(maxClients, rate, burst), clientHeader);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "validation.admission.enabled", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet {
+
+        @Bean
+        public FilterRegistrationBean<AdmissionFilter> admissionFilter(AdmissionControl admission) {
+            FilterRegistrationBean<AdmissionFilter> registration = new FilterRegistrationBean<>(new AdmissionFilter(admission));
+            registration.addUrlPatterns(API + "*");
+            registration.setName("admission control");
+            // After the request observation filter, so rejections are still counted in http.server.requests
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "validation.admission.enabled", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+
+        @Bean
+        public ReactiveAdmissionFilter reactiveAdmissionFilter(AdmissionControl admission) {
+            return new ReactiveAdmissionFilter(admission, API);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package validator.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import validator.cache.XxHash64;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-client request limits for the API, checked before a request body is read. A client is the value of
+ * {@code clientHeader} when the request has one (set it at a trusted proxy, since clients can send anything),
+ * otherwise the remote address. Names are hashed with a seed chosen at startup, so nobody can pick a name that
+ * shares another client's bucket.
+ * <p>
+ * As a {@link MeterBinder} bean it publishes {@code validation.admission.rejected} and
+ * {@code validation.admission.evictions} (buckets dropped for lack of room before they were full).
+ */
+public class AdmissionControl implements MeterBinder {
+
+    private final TokenBuckets buckets;
+    private final String clientHeader;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionControl(TokenBuckets buckets, String clientHeader) {
+        this.buckets = buckets;
+        this.clientHeader = clientHeader == null || clientHeader.isBlank() ? null : clientHeader;
+    }
+
+    // Header naming the client, null to go by remote address only
+    public String clientHeader() {
+        return clientHeader;
+    }
+
+    /**
+     * @return 0 when the client may go ahead, otherwise the seconds it should wait (at least 1)
+     */
+    public long admit(String client) {
+        byte[] name = client.getBytes(StandardCharsets.UTF_8);
+        long wait = buckets.tryAcquire(XxHash64.hash(name, 0, name.length, seed));
+        if (wait == 0) {
+            return 0;
+        }
+        rejected.increment();
+        return Math.max(1, TimeUnit.MICROSECONDS.toSeconds(wait + TimeUnit.SECONDS.toMicros(1) - 1));
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("validation.admission.rejected", rejected, LongAdder::sum).register(registry);
+        FunctionCounter.builder("validation.admission.evictions", buckets, TokenBuckets::evictions).register(registry);
+    }
+}
@@ -0,0 +1,37 @@
+package validator.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers clients over their limit with 429 and a Retry-After, leaving the body unread. The status is set
+ * directly rather than sent as an error, so a rejection does not go through the error page.
+ */
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admission;
+
+    public AdmissionFilter(AdmissionControl admission) {
+        this.admission = admission;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = admission.clientHeader() != null ? request.getHeader(admission.clientHeader()) : null;
+        long retryAfter = admission.admit(client != null ? client : request.getRemoteAddr());
+        if (retryAfter == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+    }
+}
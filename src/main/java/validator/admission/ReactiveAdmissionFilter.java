@@ -0,0 +1,51 @@
+package validator.admission;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * {@link AdmissionFilter} for WebFlux: clients over their limit get 429 before the body is subscribed to.
+ */
+public class ReactiveAdmissionFilter implements WebFilter {
+
+    private final AdmissionControl admission;
+    private final String pathPrefix;
+
+    public ReactiveAdmissionFilter(AdmissionControl admission, String pathPrefix) {
+        this.admission = admission;
+        this.pathPrefix = pathPrefix;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!request.getPath().pathWithinApplication().value().startsWith(pathPrefix)) {
+            return chain.filter(exchange);
+        }
+        long retryAfter = admission.admit(client(request));
+        if (retryAfter == 0) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        return response.setComplete();
+    }
+
+    private String client(ServerHttpRequest request) {
+        String client = admission.clientHeader() != null ? request.getHeaders().getFirst(admission.clientHeader()) : null;
+        if (client != null) {
+            return client;
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote == null ? "" : remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+}
@@ -0,0 +1,127 @@
+package validator.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for any number of clients in a fixed table of longs, updated with compare-and-set only.
+ * <p>
+ * A bucket is one word: an 18-bit tag taken from the client's hash, and in the other 46 bits the time, in
+ * microseconds since the table was created, at which the bucket is full again (the "theoretical arrival time"
+ * of GCRA, which is a token bucket without a token count). Taking a token moves that time one interval
+ * ({@code 1 / rate}) further; a request is refused when it would end up more than {@code burst} intervals
+ * ahead of now. So a bucket is updated by a single CAS and nothing is ever locked.
+ * <p>
+ * The table is divided into stripes of eight slots, 64 bytes. A client's hash selects its stripe,
+ * where it uses the slot holding its tag or else claims one. A bucket that has filled up again is no
+ * different from a new one, so its slot is stale and reused without losing anything; when a stripe has no
+ * stale slot, the bucket closest to full is replaced ({@link #evictions()}). Memory stays at eight bytes a
+ * slot however many clients there are. Two clients with the same stripe and tag share a bucket, which only
+ * ever makes their limit stricter. Times run out after 2^46 µs, about two years of uptime.
+ */
+public final class TokenBuckets {
+
+    static final int STRIPE = 8;
+    private static final int TIME_BITS = 46;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int stripeMask;
+    private final long interval;
+    private final long limit;
+    private final LongSupplier nanoTime;
+    private final long origin;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxClients buckets to keep, rounded up to a power of two of at least one stripe
+     * @param rate       tokens per second added to every bucket
+     * @param burst      tokens a bucket holds
+     */
+    public TokenBuckets(int maxClients, double rate, int burst) {
+        this(maxClients, rate, burst, System::nanoTime);
+    }
+
+    TokenBuckets(int maxClients, double rate, int burst, LongSupplier nanoTime) {
+        if (maxClients < 1 || !(rate > 0) || burst < 1) {
+            throw new IllegalArgumentException("maxClients, rate and burst must be positive");
+        }
+        int size = Math.max(STRIPE, Integer.highestOneBit(maxClients - 1) << 1);
+        this.slots = new AtomicLongArray(size);
+        this.stripeMask = size / STRIPE - 1;
+        this.interval = Math.max(1, Math.round(TimeUnit.SECONDS.toMicros(1) / rate));
+        this.limit = interval * burst;
+        this.nanoTime = nanoTime;
+        // Minus one microsecond, so no time stored is 0
+        this.origin = nanoTime.getAsLong() - TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    /**
+     * Takes a token from the bucket of the client with this hash.
+     *
+     * @return 0 when a token was taken, otherwise the microseconds until the bucket has one again
+     */
+    public long tryAcquire(long hash) {
+        long now = (nanoTime.getAsLong() - origin) / 1000;
+        int base = ((int) hash & stripeMask) * STRIPE;
+        long tag = tag(hash);
+        while (true) {
+            int slot = -1;
+            long word = 0;
+            long full = 0;
+            // The client's own slot, else the one whose bucket fills up first: an empty slot (0) or a stale one
+            int victim = base;
+            long victimWord = 0;
+            long victimFull = Long.MAX_VALUE;
+            for (int i = base; i < base + STRIPE; i++) {
+                long current = slots.get(i);
+                if ((current & ~TIME_MASK) == tag) {
+                    slot = i;
+                    word = current;
+                    full = Math.max(current & TIME_MASK, now);
+                    break;
+                }
+                if ((current & TIME_MASK) < victimFull) {
+                    victim = i;
+                    victimWord = current;
+                    victimFull = current & TIME_MASK;
+                }
+            }
+            boolean claimed = slot < 0;
+            if (claimed) {
+                slot = victim;
+                word = victimWord;
+                full = now;
+            }
+
+            long next = full + interval;
+            if (next - now > limit) {
+                return next - now - limit;
+            }
+            if (slots.compareAndSet(slot, word, tag | next)) {
+                if (claimed && victimFull > now) {
+                    evictions.increment();
+                }
+                return 0;
+            }
+            // Another request changed the stripe; look again
+        }
+    }
+
+    // Buckets taken over from another client before they were full
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    // Never 0, which marks an empty slot
+    private static long tag(long hash) {
+        long tag = hash >>> TIME_BITS;
+        return (tag != 0 ? tag : 1) << TIME_BITS;
+    }
+}
@@ -0,0 +1,48 @@
+package validator.aot;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+import validator.codegen.GeneratedValidator;
+import validator.constraint.FastPatternValidator;
+import validator.currency.RateFile;
+import validator.payload.PayloadTypes;
+import validator.warmup.ValidationWarmup;
+
+/**
+ * Reflection and resource hints for a native image, registered while Spring AOT processes the application.
+ * <p>
+ * MVC controller arguments get binding hints from Spring itself, but payloads are also bound by the streaming
+ * and batch endpoints, the Camel {@code JacksonDataFormat} in {@code ValidationRoute} and startup warm-up,
+ * and all of them are validated by Hibernate Validator through reflection. So every payload class gets:
+ * <ul>
+ * <li>Jackson binding hints: constructors and properties, including {@code ValidationClass}'s Object-typed
+ * {@code setUser}/{@code setSid} and the Lombok-generated accessors, which are ordinary methods by then</li>
+ * <li>its declared fields and methods, which Hibernate Validator reads for field and getter constraints</li>
+ * <li>the constructor of its compile-time generated validator, which {@link GeneratedValidator} loads by name</li>
+ * </ul>
+ */
+public class ValidatorRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : PayloadTypes.find(classLoader)) {
+            bindings.registerReflectionHints(hints.reflection(), type);
+            hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+            String generated = GeneratedValidator.generatedName(type);
+            if (ClassUtils.isPresent(generated, classLoader)) {
+                hints.reflection().registerType(TypeReference.of(generated), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+        // Registered with Hibernate Validator by class and instantiated reflectively
+        hints.reflection().registerType(FastPatternValidator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.resources().registerPattern(ValidationWarmup.SAMPLES);
+        hints.resources().registerPattern(RateFile.DEFAULT);
+    }
+}
@@ -0,0 +1,135 @@
+package validator.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Responses of one endpoint, keyed by the raw request body. Entries expire a fixed time after they are written
+ * and the cache holds at most {@code maximumSize} of them. As a {@link MeterBinder} bean it publishes the
+ * {@code cache.*} metrics, tagged with its name; {@code cache.gets} split by {@code result} gives the hit rate.
+ * <p>
+ * Whatever swaps state a response depends on besides the body, such as exchange rates or rule schemas, calls
+ * {@link #invalidateAll()} afterwards. Each entry carries the generation it was computed in, so a response
+ * still being computed with the old state when the cache is invalidated is never served.
+ */
+public final class ResultCache implements MeterBinder {
+
+    /**
+     * Request body plus the headers that select the response representation. The body's XXH64 is the hash
+     * code; equality compares the bytes, so two bodies that collide never share a response.
+     */
+    public static final class Key {
+        private final long hash;
+        private final byte[] body;
+        private final String contentType;
+        private final String accept;
+
+        public Key(byte[] body, String contentType, String accept) {
+            this.body = body;
+            this.contentType = contentType;
+            this.accept = accept;
+            this.hash = XxHash64.hash(body) ^ 31L * Objects.hashCode(contentType) ^ Objects.hashCode(accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && hash == key.hash && Arrays.equals(body, key.body)
+                    && Objects.equals(contentType, key.contentType) && Objects.equals(accept, key.accept);
+        }
+    }
+
+    // What the controller sent: a body, or an error the container renders (validation failures, malformed JSON)
+    public sealed interface Response {
+        void replay(HttpServletResponse response) throws IOException;
+    }
+
+    public record Body(int status, String contentType, byte[] content) implements Response {
+        @Override
+        public void replay(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(content.length);
+            response.getOutputStream().write(content);
+        }
+    }
+
+    public record Error(int status, String message) implements Response {
+        @Override
+        public void replay(HttpServletResponse response) throws IOException {
+            if (message != null) {
+                response.sendError(status, message);
+            } else {
+                response.sendError(status);
+            }
+        }
+    }
+
+    // A response and the generation() read before it was computed
+    private record Entry(long generation, Response response) {
+    }
+
+    private final String name;
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResultCache(String name, long maximumSize, Duration timeToLive) {
+        this.name = name;
+        // Maintenance runs on the calling thread, as in CachedAccountStore
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    // Read before computing a response, and passed to put with it
+    public long generation() {
+        return generation.get();
+    }
+
+    public Response get(Key key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null && entry.generation == generation.get() ? entry.response : null;
+    }
+
+    public void put(Key key, long generation, Response response) {
+        if (generation == this.generation.get()) {
+            cache.put(key, new Entry(generation, response));
+        }
+    }
+
+    // Drops every response, including those still being computed
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // Hit and miss counts since startup
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+}
@@ -0,0 +1,71 @@
+package validator.cache;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Result caches for the endpoints that see byte-for-byte retries, each switched on separately
+ * (validation.result-cache.validate.enabled, validation.result-cache.convert.enabled). Servlet stack only.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResultCacheConfig {
+
+    @Value("${validation.result-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${validation.result-cache.ttl:60s}")
+    private Duration timeToLive;
+
+    @Value("${validation.result-cache.max-body-size:16384}")
+    private int maxBodySize;
+
+    private FilterRegistrationBean<ResultCacheFilter> filter(ResultCache cache, String path) {
+        FilterRegistrationBean<ResultCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResultCacheFilter(cache, maxBodySize));
+        registration.addUrlPatterns(path);
+        registration.setName(path + " result cache");
+        return registration;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "validation.result-cache.validate.enabled", havingValue = "true")
+    static class Validate {
+
+        // Emptied by RuleSchemaReloader when the rule schemas change
+        @Bean
+        public ResultCache validateResultCache(ResultCacheConfig config) {
+            return new ResultCache("validate-results", config.maximumSize, config.timeToLive);
+        }
+
+        @Bean
+        public FilterRegistrationBean<ResultCacheFilter> validateResultCacheFilter(
+                ResultCacheConfig config, @Qualifier("validateResultCache") ResultCache cache) {
+            return config.filter(cache, "/api/validate");
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "validation.result-cache.convert.enabled", havingValue = "true")
+    static class Convert {
+
+        // Emptied by RateFileReloader when the rates change, and by RuleSchemaReloader when the rule schemas do
+        @Bean
+        public ResultCache convertResultCache(ResultCacheConfig config) {
+            return new ResultCache("convert-results", config.maximumSize, config.timeToLive);
+        }
+
+        @Bean
+        public FilterRegistrationBean<ResultCacheFilter> convertResultCacheFilter(
+                ResultCacheConfig config, @Qualifier("convertResultCache") ResultCache cache) {
+            return config.filter(cache, "/api/convert");
+        }
+    }
+}
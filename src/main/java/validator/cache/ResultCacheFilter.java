@@ -0,0 +1,141 @@
+package validator.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Answers repeated request bodies from a {@link ResultCache} without deserializing or validating them again.
+ * <p>
+ * Only POSTs with a Content-Length up to {@code maxBodySize} are cached, and only their 200 and 400 responses.
+ * Those depend on the body and on the rates or rule schemas in force, which are only swapped together with
+ * {@link ResultCache#invalidateAll()}. Rejections the controllers do not render themselves are sent with
+ * {@code sendError}, so for those the cache keeps the status and lets the container render the error page again.
+ */
+public class ResultCacheFilter extends OncePerRequestFilter {
+
+    private final ResultCache cache;
+    private final int maxBodySize;
+
+    public ResultCacheFilter(ResultCache cache, int maxBodySize) {
+        this.cache = cache;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        long length = request.getContentLengthLong();
+        return !"POST".equals(request.getMethod()) || length < 0 || length > maxBodySize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readNBytes(request.getContentLength());
+        ResultCache.Key key = new ResultCache.Key(body, request.getContentType(), request.getHeader(HttpHeaders.ACCEPT));
+        long generation = cache.generation();
+        ResultCache.Response cached = cache.get(key);
+        if (cached != null) {
+            cached.replay(response);
+            return;
+        }
+
+        CapturingResponse capture = new CapturingResponse(response);
+        chain.doFilter(new BodyRequest(request, body), capture);
+        if (capture.error != null) {
+            cache.put(key, generation, capture.error);
+            return;
+        }
+        int status = capture.getStatus();
+        if (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_BAD_REQUEST) {
+            cache.put(key, generation, new ResultCache.Body(status, capture.getContentType(), capture.getContentAsByteArray()));
+        }
+        capture.copyBodyToResponse();
+    }
+
+    // Serves the body that was already read for the key
+    private static final class BodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        BodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already here, so the listener is told at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (in.available() > 0) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+    }
+
+    // Buffers the body and remembers sendError, which commits the response before the filter sees it
+    private static final class CapturingResponse extends ContentCachingResponseWrapper {
+        private ResultCache.Error error;
+
+        CapturingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            record(status, null);
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            record(status, message);
+            super.sendError(status, message);
+        }
+
+        private void record(int status, String message) {
+            if (status == HttpServletResponse.SC_BAD_REQUEST) {
+                error = new ResultCache.Error(status, message);
+            }
+        }
+    }
+}
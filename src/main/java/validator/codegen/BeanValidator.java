@@ -0,0 +1,17 @@
+package validator.codegen;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+
+/**
+ * Validator generated at compile time for a single payload type by
+ * {@code validator.codegen.processor.ValidatorProcessor}.
+ * <p>
+ * Implementations check the default group only and return an empty set without allocating
+ * when the bean is valid.
+ */
+public interface BeanValidator<T> {
+
+    Set<ConstraintViolation<T>> validate(T bean);
+}
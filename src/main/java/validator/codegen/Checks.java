@@ -0,0 +1,93 @@
+package validator.codegen;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.net.IDN;
+import java.util.regex.Pattern;
+
+/**
+ * Checks shared by generated validators, written to match Hibernate Validator's results.
+ */
+public final class Checks {
+
+    // Hibernate's @Email rules (AbstractEmailValidator and DomainNameUtil), copied as they are not public API;
+    // ChecksTest compares the two, so an upgrade that changes Hibernate's fails the build
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_PART_LENGTH = 255;
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+    private static final String LOCAL_PART_WORD = "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")";
+    private static final Pattern LOCAL_PART = Pattern.compile(LOCAL_PART_WORD + "(?:\\." + LOCAL_PART_WORD + ")*", Pattern.CASE_INSENSITIVE);
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+    private static final String DOMAIN_LABEL = "(?:" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+    private static final String DOMAIN = DOMAIN_LABEL + "+(?:\\." + DOMAIN_LABEL + "+)*";
+    private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+    private static final String IP_V4 = "(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])";
+    private static final String IP_V6_DOMAIN = "(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,7}:"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}"
+            + "|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})"
+            + "|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)"
+            + "|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}"
+            + "|::(?:ffff(:0{1,4}){0,1}:){0,1}" + IP_V4
+            + "|(?:[0-9a-fA-F]{1,4}:){1,4}:" + IP_V4 + ")";
+    private static final Pattern EMAIL_DOMAIN = Pattern.compile(
+            DOMAIN + "|\\[" + IP_DOMAIN + "\\]|\\[IPv6:" + IP_V6_DOMAIN + "\\]", Pattern.CASE_INSENSITIVE);
+
+    private Checks() {
+    }
+
+    // Resolves a (possibly private) field once, so generated code never reflects per call
+    public static VarHandle field(Class<?> owner, String name, Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).findVarHandle(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + owner.getName() + "." + name, e);
+        }
+    }
+
+    // Same as Hibernate's toString().trim().length() > 0, without the copy
+    public static boolean notBlank(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0, n = value.length(); i < n; i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Same as Hibernate's @Email: null and empty are valid, the domain is the part after the last @
+    public static boolean isEmail(CharSequence value) {
+        if (value == null || value.length() == 0) {
+            return true;
+        }
+        String email = value.toString();
+        int at = email.lastIndexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        String localPart = email.substring(0, at);
+        if (localPart.length() > MAX_LOCAL_PART_LENGTH || !LOCAL_PART.matcher(localPart).matches()) {
+            return false;
+        }
+        String domain = email.substring(at + 1);
+        if (domain.endsWith(".")) {
+            return false;
+        }
+        try {
+            if (IDN.toASCII(domain).length() > MAX_DOMAIN_PART_LENGTH) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return EMAIL_DOMAIN.matcher(domain).matches();
+    }
+}
@@ -0,0 +1,108 @@
+package validator.codegen;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import java.util.Set;
+
+/**
+ * Drop-in {@link Validator} that runs the compile-time generated validator for a bean's class
+ * when one exists, and delegates to Hibernate Validator for everything else: explicit groups,
+ * property/value validation, metadata, method validation and types the processor skipped.
+ * Messages of the violations found are interpolated with the factory's {@link MessageInterpolator},
+ * as Hibernate Validator would.
+ * <p>
+ * Generated validators are looked up by name: {@code validator.payload.TransactionRequestValidator.Transaction}
+ * is checked by {@code validator.payload.TransactionRequestValidator_Transaction_Validator}.
+ */
+public class GeneratedValidator implements Validator {
+
+    private static final ClassValue<BeanValidator<?>> GENERATED = new ClassValue<>() {
+        @Override
+        protected BeanValidator<?> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private final Validator delegate;
+    private final MessageInterpolator interpolator;
+
+    public GeneratedValidator(Validator delegate, MessageInterpolator interpolator) {
+        this.delegate = delegate;
+        this.interpolator = interpolator;
+    }
+
+    // Name of the class the processor generates for the given payload type
+    public static String generatedName(Class<?> type) {
+        String binaryName = type.getName().substring(type.getPackageName().length());
+        return type.getPackageName() + binaryName.replace('$', '_') + "_Validator";
+    }
+
+    static BeanValidator<?> load(Class<?> type) {
+        try {
+            Class<?> generated = Class.forName(generatedName(type), true, type.getClassLoader());
+            return (BeanValidator<?>) generated.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate generated validator for " + type.getName(), e);
+        }
+    }
+
+    public boolean hasGeneratedValidator(Class<?> type) {
+        return GENERATED.get(type) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        if (object == null || !isDefaultGroup(groups)) {
+            return delegate.validate(object, groups);
+        }
+        BeanValidator<T> generated = (BeanValidator<T>) GENERATED.get(object.getClass());
+        if (generated == null) {
+            return delegate.validate(object, groups);
+        }
+        Set<ConstraintViolation<T>> violations = generated.validate(object);
+        for (ConstraintViolation<T> violation : violations) {
+            ((SimpleConstraintViolation<T>) violation).bind(delegate, interpolator);
+        }
+        return violations;
+    }
+
+    private static boolean isDefaultGroup(Class<?>... groups) {
+        return groups.length == 0 || (groups.length == 1 && groups[0] == Default.class);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return delegate.validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+        return delegate.validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return delegate.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return delegate.forExecutables();
+    }
+}
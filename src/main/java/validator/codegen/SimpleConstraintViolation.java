@@ -0,0 +1,162 @@
+package validator.codegen;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Path;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * Violation raised by a generated validator. The message is interpolated when the violation is
+ * bound, with the factory's interpolator; the {@link ConstraintDescriptor} is looked up from the
+ * bound Hibernate validator, for that or when someone asks for it (Spring does, to build error codes).
+ */
+final class SimpleConstraintViolation<T> implements ConstraintViolation<T> {
+
+    private final T rootBean;
+    private final Object invalidValue;
+    private final SimplePath propertyPath;
+    private final Class<? extends Annotation> constraint;
+    private final String messageTemplate;
+    private String message;
+    private Validator descriptorSource;
+    private ConstraintDescriptor<?> descriptor;
+
+    SimpleConstraintViolation(T rootBean, Object invalidValue, SimplePath propertyPath,
+                              Class<? extends Annotation> constraint, String messageTemplate) {
+        this.rootBean = rootBean;
+        this.invalidValue = invalidValue;
+        this.propertyPath = propertyPath;
+        this.constraint = constraint;
+        this.messageTemplate = messageTemplate;
+    }
+
+    // On the validating thread, as the interpolator may take the locale from it (Spring's does)
+    void bind(Validator validator, MessageInterpolator interpolator) {
+        this.descriptorSource = validator;
+        this.message = interpolator.interpolate(messageTemplate, new MessageInterpolator.Context() {
+            @Override
+            public ConstraintDescriptor<?> getConstraintDescriptor() {
+                return SimpleConstraintViolation.this.getConstraintDescriptor();
+            }
+
+            @Override
+            public Object getValidatedValue() {
+                return invalidValue;
+            }
+
+            @Override
+            public <U> U unwrap(Class<U> type) {
+                throw new ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+            }
+        });
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    @Override
+    public T getRootBean() {
+        return rootBean;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<T> getRootBeanClass() {
+        return (Class<T>) rootBean.getClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return rootBean;
+    }
+
+    @Override
+    public Object[] getExecutableParameters() {
+        return null;
+    }
+
+    @Override
+    public Object getExecutableReturnValue() {
+        return null;
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return propertyPath;
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return invalidValue;
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        if (descriptor == null && descriptorSource != null) {
+            descriptor = lookupDescriptor();
+        }
+        return descriptor;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+    }
+
+    private ConstraintDescriptor<?> lookupDescriptor() {
+        Path.Node property = propertyPath.iterator().next();
+        PropertyDescriptor propertyDescriptor = descriptorSource.getConstraintsForClass(getRootBeanClass())
+                .getConstraintsForProperty(property.getName());
+        if (propertyDescriptor == null) {
+            return null;
+        }
+        Integer typeArgument = null;
+        for (Path.Node node : propertyPath) {
+            if (node.getKind() == ElementKind.CONTAINER_ELEMENT) {
+                typeArgument = node.as(Path.ContainerElementNode.class).getTypeArgumentIndex();
+            }
+        }
+        if (typeArgument == null) {
+            return find(propertyDescriptor.getConstraintDescriptors());
+        }
+        for (ContainerElementTypeDescriptor element : propertyDescriptor.getConstrainedContainerElementTypes()) {
+            if (typeArgument.equals(element.getTypeArgumentIndex())) {
+                return find(element.getConstraintDescriptors());
+            }
+        }
+        return null;
+    }
+
+    private ConstraintDescriptor<?> find(Set<ConstraintDescriptor<?>> descriptors) {
+        for (ConstraintDescriptor<?> candidate : descriptors) {
+            if (candidate.getAnnotation().annotationType() == constraint
+                    && messageTemplate.equals(candidate.getMessageTemplate())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleConstraintViolation{propertyPath=" + propertyPath + ", message='" + message + "'}";
+    }
+}
@@ -0,0 +1,105 @@
+package validator.codegen;
+
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Property paths produced by generated validators and schema rules. {@link #toString()} uses Hibernate
+ * Validator's format, e.g. {@code customFields[field1].<map value>}.
+ */
+public final class SimplePath implements Path {
+
+    private final List<Node> nodes;
+    private final String text;
+
+    private SimplePath(List<Node> nodes, String text) {
+        this.nodes = nodes;
+        this.text = text;
+    }
+
+    public static SimplePath property(String property) {
+        return new SimplePath(List.of(new PathNode(property, ElementKind.PROPERTY, false, null, null)), property);
+    }
+
+    static SimplePath mapKey(String property) {
+        return new SimplePath(List.of(
+                new PathNode(property, ElementKind.PROPERTY, false, null, null),
+                new PathNode("<map key>", ElementKind.CONTAINER_ELEMENT, true, null, 0)),
+                property + "<K>[].<map key>");
+    }
+
+    static SimplePath mapValue(String property, Object key) {
+        return new SimplePath(List.of(
+                new PathNode(property, ElementKind.PROPERTY, false, null, null),
+                new PathNode("<map value>", ElementKind.CONTAINER_ELEMENT, true, key, 1)),
+                property + "[" + key + "].<map value>");
+    }
+
+    @Override
+    public Iterator<Node> iterator() {
+        return nodes.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private record PathNode(String name, ElementKind kind, boolean inIterable, Object key, Integer typeArgumentIndex)
+            implements PropertyNode, ContainerElementNode {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isInIterable() {
+            return inIterable;
+        }
+
+        @Override
+        public Integer getIndex() {
+            return null;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public ElementKind getKind() {
+            return kind;
+        }
+
+        @Override
+        public Class<?> getContainerClass() {
+            return typeArgumentIndex == null ? null : Map.class;
+        }
+
+        @Override
+        public Integer getTypeArgumentIndex() {
+            return typeArgumentIndex;
+        }
+
+        @Override
+        public <T extends Node> T as(Class<T> nodeType) {
+            if ((kind == ElementKind.PROPERTY && nodeType == PropertyNode.class)
+                    || (kind == ElementKind.CONTAINER_ELEMENT && nodeType == ContainerElementNode.class)
+                    || nodeType == Node.class) {
+                return nodeType.cast(this);
+            }
+            throw new ClassCastException(kind + " node cannot be viewed as " + nodeType.getName());
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package validator.codegen;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Violation collector used by generated validators. Nothing is allocated until the first
+ * violation is added, so valid beans end with {@code toSet(null)} and an immutable empty set.
+ */
+public final class Violations<T> {
+
+    private final Set<ConstraintViolation<T>> violations = new HashSet<>();
+
+    private Violations() {
+    }
+
+    public static <T> Violations<T> property(Violations<T> violations, T bean, String property, Object value,
+                                             Class<? extends Annotation> constraint, String template) {
+        return add(violations, new SimpleConstraintViolation<>(bean, value, SimplePath.property(property),
+                constraint, template));
+    }
+
+    public static <T> Violations<T> mapKey(Violations<T> violations, T bean, String property, Object key,
+                                           Class<? extends Annotation> constraint, String template) {
+        return add(violations, new SimpleConstraintViolation<>(bean, key, SimplePath.mapKey(property),
+                constraint, template));
+    }
+
+    public static <T> Violations<T> mapValue(Violations<T> violations, T bean, String property, Object key, Object value,
+                                             Class<? extends Annotation> constraint, String template) {
+        return add(violations, new SimpleConstraintViolation<>(bean, value, SimplePath.mapValue(property, key),
+                constraint, template));
+    }
+
+    public static <T> Set<ConstraintViolation<T>> toSet(Violations<T> violations) {
+        return violations == null ? Collections.emptySet() : violations.violations;
+    }
+
+    private static <T> Violations<T> add(Violations<T> violations, ConstraintViolation<T> violation) {
+        if (violations == null) {
+            violations = new Violations<>();
+        }
+        violations.violations.add(violation);
+        return violations;
+    }
+}
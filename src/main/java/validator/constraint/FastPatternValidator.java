@@ -0,0 +1,67 @@
+package validator.constraint;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Pattern;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+
+/**
+ * {@code @Pattern} validator backed by {@link PatternMatchers}, a drop-in replacement for
+ * Hibernate's own {@code PatternValidator}: same null handling, flags and {@code regexp}
+ * message parameter, but simple patterns are matched without creating a {@code Matcher}.
+ */
+public class FastPatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+
+    private PatternMatcher matcher;
+    private String escapedRegexp;
+
+    @Override
+    public void initialize(Pattern constraint) {
+        int flags = 0;
+        for (Pattern.Flag flag : constraint.flags()) {
+            flags |= flag.getValue();
+        }
+        matcher = PatternMatchers.compile(constraint.regexp(), flags);
+        escapedRegexp = escapeMessageParameter(constraint.regexp());
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        if (context instanceof HibernateConstraintValidatorContext) {
+            context.unwrap(HibernateConstraintValidatorContext.class).addMessageParameter("regexp", escapedRegexp);
+        }
+        return matcher.matches(value);
+    }
+
+    // As Hibernate escapes message parameters, so {, }, $ and \ in the regexp are not interpolated
+    private static String escapeMessageParameter(String parameter) {
+        StringBuilder escaped = new StringBuilder(parameter.length() + 8);
+        for (int i = 0; i < parameter.length(); i++) {
+            char c = parameter.charAt(i);
+            if (c == '\\' || c == '{' || c == '}' || c == '$') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Registers this validator in place of Hibernate's for every {@code @Pattern} constraint.
+     */
+    public static void register(Configuration<?> configuration) {
+        if (configuration instanceof HibernateValidatorConfiguration hibernate) {
+            ConstraintMapping mapping = hibernate.createConstraintMapping();
+            mapping.constraintDefinition(Pattern.class)
+                    .includeExistingValidators(false)
+                    .validatedBy(FastPatternValidator.class);
+            hibernate.addMapping(mapping);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package validator.constraint;
+
+/**
+ * A compiled {@code @Pattern} regular expression, matched against the whole input
+ * like {@link java.util.regex.Matcher#matches()}. Obtain instances from {@link PatternMatchers}.
+ */
+public interface PatternMatcher {
+
+    boolean matches(CharSequence value);
+}
@@ -0,0 +1,194 @@
+package validator.constraint;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the regular expressions used by {@code @Pattern} constraints and validators.
+ * <p>
+ * Simple shapes, an optional literal prefix followed by a run of one character class, are
+ * matched with a plain char loop and never allocate:
+ * <pre>
+ * ^\d+$          digits only
+ * ^[A-Z]{3}$     fixed-length upper case (currency codes)
+ * ^\+\d{1,15}$   '+' followed by up to 15 digits (phone numbers)
+ * </pre>
+ * Supported classes are {@code \d}, {@code [0-9]}, {@code [A-Z]}, {@code [a-z]}, {@code [A-Za-z]}
+ * and {@code [A-Za-z0-9]} with {@code + * {n} {m,} {m,n}} quantifiers. Anything else, or any
+ * flags, falls back to a {@link Pattern} that is compiled once and cached. The cache is meant
+ * for constant expressions, such as the ones declared in annotations.
+ */
+public final class PatternMatchers {
+
+    private static final ConcurrentMap<Key, PatternMatcher> CACHE = new ConcurrentHashMap<>();
+
+    private PatternMatchers() {
+    }
+
+    public static PatternMatcher compile(String regexp) {
+        return compile(regexp, 0);
+    }
+
+    public static PatternMatcher compile(String regexp, int flags) {
+        return CACHE.computeIfAbsent(new Key(regexp, flags), PatternMatchers::create);
+    }
+
+    private static PatternMatcher create(Key key) {
+        if (key.flags() == 0) {
+            CharRun run = CharRun.parse(key.regexp());
+            if (run != null) {
+                return run;
+            }
+        }
+        return new Regex(Pattern.compile(key.regexp(), key.flags()));
+    }
+
+    private record Key(String regexp, int flags) {
+    }
+
+    private record Regex(Pattern pattern) implements PatternMatcher {
+
+        @Override
+        public boolean matches(CharSequence value) {
+            return pattern.matcher(value).matches();
+        }
+
+        @Override
+        public String toString() {
+            return pattern.pattern();
+        }
+    }
+
+    enum CharClass {
+        DIGIT, UPPER, LOWER, ALPHA, ALNUM;
+
+        boolean contains(char c) {
+            boolean digit = c >= '0' && c <= '9';
+            boolean upper = c >= 'A' && c <= 'Z';
+            boolean lower = c >= 'a' && c <= 'z';
+            return switch (this) {
+                case DIGIT -> digit;
+                case UPPER -> upper;
+                case LOWER -> lower;
+                case ALPHA -> upper || lower;
+                case ALNUM -> upper || lower || digit;
+            };
+        }
+
+        static CharClass of(String expression) {
+            return switch (expression) {
+                case "\\d", "[0-9]" -> DIGIT;
+                case "[A-Z]" -> UPPER;
+                case "[a-z]" -> LOWER;
+                case "[A-Za-z]", "[a-zA-Z]" -> ALPHA;
+                case "[A-Za-z0-9]", "[a-zA-Z0-9]", "[0-9A-Za-z]" -> ALNUM;
+                default -> null;
+            };
+        }
+    }
+
+    // Literal prefix followed by min..max characters of one class
+    record CharRun(String prefix, CharClass charClass, int min, int max, String regexp) implements PatternMatcher {
+
+        private static final String META = "\\^$.|?*+()[]{}";
+
+        @Override
+        public boolean matches(CharSequence value) {
+            int length = value.length();
+            int prefixLength = prefix.length();
+            int runLength = length - prefixLength;
+            if (runLength < min || runLength > max) {
+                return false;
+            }
+            for (int i = 0; i < prefixLength; i++) {
+                if (value.charAt(i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            for (int i = prefixLength; i < length; i++) {
+                if (!charClass.contains(value.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return regexp;
+        }
+
+        static CharRun parse(String regexp) {
+            int end = regexp.length();
+            int i = regexp.startsWith("^") ? 1 : 0;
+            if (regexp.endsWith("$") && !regexp.endsWith("\\$")) {
+                end--;
+            }
+
+            StringBuilder prefix = new StringBuilder();
+            CharClass charClass = null;
+            while (i < end && charClass == null) {
+                char c = regexp.charAt(i);
+                if (c == '[') {
+                    int close = regexp.indexOf(']', i);
+                    charClass = close < 0 ? null : CharClass.of(regexp.substring(i, close + 1));
+                    if (charClass == null) {
+                        return null;
+                    }
+                    i = close + 1;
+                } else if (c == '\\' && i + 1 < end) {
+                    char escaped = regexp.charAt(i + 1);
+                    if (escaped == 'd') {
+                        charClass = CharClass.DIGIT;
+                    } else if (META.indexOf(escaped) >= 0 || escaped == '-' || escaped == '/') {
+                        prefix.append(escaped);
+                    } else {
+                        return null;
+                    }
+                    i += 2;
+                } else if (META.indexOf(c) < 0) {
+                    prefix.append(c);
+                    i++;
+                } else {
+                    return null;
+                }
+                // A quantified literal is not a prefix
+                if (charClass == null && i < end && "?*+{".indexOf(regexp.charAt(i)) >= 0) {
+                    return null;
+                }
+            }
+            if (charClass == null) {
+                return null;
+            }
+
+            int min = 1;
+            int max = 1;
+            if (i < end) {
+                char quantifier = regexp.charAt(i);
+                if (quantifier == '+' || quantifier == '*') {
+                    min = quantifier == '+' ? 1 : 0;
+                    max = Integer.MAX_VALUE;
+                    i++;
+                } else if (quantifier == '{') {
+                    int close = regexp.indexOf('}', i);
+                    if (close < 0) {
+                        return null;
+                    }
+                    String[] bounds = regexp.substring(i + 1, close).split(",", -1);
+                    try {
+                        min = Integer.parseInt(bounds[0]);
+                        max = bounds.length == 1 ? min : bounds[1].isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(bounds[1]);
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    if (bounds.length > 2 || min > max) {
+                        return null;
+                    }
+                    i = close + 1;
+                }
+            }
+            return i == end ? new CharRun(prefix.toString(), charClass, min, max, regexp) : null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package validator.constraint;
+
+/**
+ * A bean that records which of its primitive fields were set, for {@link Present}.
+ */
+public interface PresenceTracked {
+
+    /**
+     * Bit {@code i} is set when the field named by the {@code i}-th entry of {@link Present#value()} was set.
+     */
+    int presentFields();
+}
@@ -0,0 +1,35 @@
+package validator.constraint;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @NotNull} for primitive fields. A primitive is never null, so the bean ({@link PresenceTracked})
+ * keeps a bitmask of the fields that were set, and every field named here without its bit is reported
+ * like a null {@code @NotNull} field: on its own property, with the message of its {@code @NotNull}
+ * annotation. The named fields should carry that annotation; Hibernate Validator passes it on a primitive,
+ * but it supplies the message and documents the field as required.
+ */
+@Documented
+@Constraint(validatedBy = PresentValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Present {
+
+    String message() default "{jakarta.validation.constraints.NotNull.message}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * The tracked fields; the {@code i}-th name is bit {@code i} of {@link PresenceTracked#presentFields()}.
+     */
+    String[] value();
+}
@@ -0,0 +1,58 @@
+package validator.constraint;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Validates {@link Present}: one violation per missing field, on that field, with its {@code @NotNull} message.
+ */
+public class PresentValidator implements ConstraintValidator<Present, PresenceTracked> {
+
+    private String[] fields;
+    private String defaultTemplate;
+
+    // Message template of each field's @NotNull, resolved once per bean class
+    private final ClassValue<String[]> templates = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(Class<?> type) {
+            String[] result = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    NotNull notNull = type.getDeclaredField(fields[i]).getAnnotation(NotNull.class);
+                    result[i] = notNull != null ? notNull.message() : defaultTemplate;
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException("@Present names unknown field " + type.getName() + "." + fields[i], e);
+                }
+            }
+            return result;
+        }
+    };
+
+    @Override
+    public void initialize(Present constraint) {
+        fields = constraint.value();
+        defaultTemplate = constraint.message();
+    }
+
+    @Override
+    public boolean isValid(PresenceTracked value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        int missing = ~value.presentFields() & ((1 << fields.length) - 1);
+        if (missing == 0) {
+            return true;
+        }
+        String[] messages = templates.get(value.getClass());
+        context.disableDefaultConstraintViolation();
+        for (int i = 0; i < fields.length; i++) {
+            if ((missing & (1 << i)) != 0) {
+                context.buildConstraintViolationWithTemplate(messages[i])
+                        .addPropertyNode(fields[i])
+                        .addConstraintViolation();
+            }
+        }
+        return false;
+    }
+}
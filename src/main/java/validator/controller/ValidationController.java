@@ -1,77 +1,204 @@
 package validator.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import jakarta.annotation.Nullable;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import validator.currency.CurrencyConverter;
+import validator.currency.UnknownCurrencyException;
+import validator.duplicate.DuplicateTransactions;
+import validator.metrics.ValidationMetrics;
 import validator.payload.*;
+import validator.response.EncodedResponse;
+import validator.response.ErrorBody;
+import validator.response.Responses;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The validation endpoints. Fixed responses are {@link Responses}, written straight to the servlet response;
+ * rejected bodies, including those failing {@code @Valid}, get an {@link ErrorBody}.
+ * <p>
+ * Bodies may be JSON, Smile or CBOR ({@link WireFormat}), by Content-Type: {@code @RequestBody} is read by the
+ * matching Jackson converter, the streaming endpoints by a parser for it. Error bodies, conversions and batch
+ * results are answered in the same format.
+ */
 @RestController
 @RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ValidationController {
 
-    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<WireFormat, BatchValidator<ValidationClass>> batchValidators = new EnumMap<>(WireFormat.class);
+    private final ValidationMetrics metrics;
+    private final CurrencyConverter converter;
+    private final DuplicateTransactions duplicates;
+
+    public ValidationController(Validator validator, @Nullable ValidationMetrics metrics, CurrencyConverter converter,
+                                @Nullable DuplicateTransactions duplicates) {
+        for (WireFormat format : WireFormat.values()) {
+            batchValidators.put(format, new BatchValidator<>(format.mapper(), validator, ValidationClass.class));
+        }
+        this.metrics = metrics;
+        this.converter = converter;
+        this.duplicates = duplicates;
+    }
 
     @PostMapping("/validate")
-    public ResponseEntity<String> validateRequest(@RequestBody @Valid ValidationClass request) {
+    public void validateRequest(@RequestBody @Valid ValidationClass request, HttpServletResponse response) throws IOException {
         // If validation passes (through @Valid annotation), process the request
-        return ResponseEntity.ok("Request validated successfully");
+        Responses.REQUEST_VALID.write(response);
+    }
+
+    // Accepts a JSON array or NDJSON body and streams back one NDJSON result line per element; Smile and CBOR
+    // bodies get a sequence of results in their format
+    @PostMapping(value = "/validate/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                    WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public void validateBatch(InputStream body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        WireFormat format = WireFormat.of(request.getContentType());
+        if (format.isBinary()) {
+            response.setContentType(format.contentType());
+        } else {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+        }
+        batchValidators.get(format).validate(body, response.getOutputStream());
     }
 
     @PostMapping("/validate/transaction")
-    public ResponseEntity<String> validateTransaction(@Valid @RequestBody TransactionRequestValidator.Transaction transaction) {
-        // If validation passes (through @Valid annotation), process the request
-        return ResponseEntity.ok("Transaction is valid.");
+    public void validateTransaction(@Valid @RequestBody TransactionRequestValidator.Transaction transaction,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // If validation passes (through @Valid annotation), process the request unless it was accepted before
+        if (duplicates != null && !duplicates.firstSeen(transaction)) {
+            Responses.DUPLICATE_TRANSACTION.in(WireFormat.of(request.getContentType())).write(response);
+        } else {
+            Responses.TRANSACTION_VALID.write(response);
+        }
     }
 
     @PostMapping("/validate/create")
-    public ResponseEntity<String> createUser(@Valid @RequestBody UserAccountRequest request) {
+    public void createUser(@Valid @RequestBody UserAccountRequest request, HttpServletRequest servletRequest,
+                           HttpServletResponse response) throws IOException {
         if (request.getEmailVerified() != null && !request.getEmailVerified()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Email must be verified to complete registration.");
+            Responses.EMAIL_NOT_VERIFIED.in(WireFormat.of(servletRequest.getContentType())).write(response);
+        } else {
+            Responses.USER_CREATED.write(response);
         }
-        return ResponseEntity.ok("User account created successfully.");
     }
 
     @PostMapping("/convert")
-    public ResponseEntity<String> convertCurrency(@Valid @RequestBody CurrencyConversionRequest request) {
-        // Here you would typically call a service to perform the conversion.
-        return ResponseEntity.ok("Currency conversion requested: " + request.getFromCurrency() + " to " + request.getToCurrency() + " for amount " + request.getAmount());
+    public ResponseEntity<?> convertCurrency(@Valid @RequestBody CurrencyConversionRequest request,
+                                             HttpServletRequest servletRequest) {
+        WireFormat format = WireFormat.of(servletRequest.getContentType());
+        if (request.getAmount() == null) {
+            return Responses.AMOUNT_REQUIRED.in(format).entity();
+        }
+        try {
+            return ResponseEntity.ok().contentType(format.mediaType())
+                    .body(converter.convert(request.getFromCurrency(), request.getToCurrency(), request.getAmount()));
+        } catch (UnknownCurrencyException e) {
+            return Responses.unknownCurrency(e, request.getFromCurrency()).in(format).entity();
+        }
     }
 
-    @PostMapping("/validate/user")
-    public ResponseEntity<String> validateUserPayload(@RequestBody String json) {
+    // All amounts at one rate; the response reuses the request's array
+    @PostMapping("/convert/batch")
+    public ResponseEntity<?> convertCurrencies(@Valid @RequestBody CurrencyBatchRequest request,
+                                               HttpServletRequest servletRequest) {
+        WireFormat format = WireFormat.of(servletRequest.getContentType());
+        int invalid = CurrencyConverter.firstInvalidAmount(request.getAmounts());
+        if (invalid >= 0) {
+            return Responses.invalidAmount(invalid).in(format).entity();
+        }
         try {
-            JsonNode jsonNode = mapper.readTree(json);  // Parse JSON once
-            if (jsonNode.has("user") && jsonNode.has("isVerified") && jsonNode.has("verified")) {
-                UserVerificationValidator dto = mapper.treeToValue(jsonNode, UserVerificationValidator.class);
-                boolean isValid = UserVerificationValidator.validate(dto);
-                return new ResponseEntity<>(isValid ? "User Verification Payload Valid" : "Invalid User Verification Payload", HttpStatus.OK);
-            } else {
-                return new ResponseEntity<>("Invalid User Verification Payload structure.", HttpStatus.BAD_REQUEST);
-            }
-        } catch (Exception e) {
-            return new ResponseEntity<>("Failed to parse JSON: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+            return ResponseEntity.ok().contentType(format.mediaType())
+                    .body(converter.convertAll(request.getFromCurrency(), request.getToCurrency(), request.getAmounts()));
+        } catch (UnknownCurrencyException e) {
+            return Responses.unknownCurrency(e, request.getFromCurrency()).in(format).entity();
         }
     }
 
+    // Both endpoints below validate the body token by token as it is read, without binding it
+    @PostMapping("/validate/user")
+    public void validateUserPayload(InputStream body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        WireFormat format = WireFormat.of(request.getContentType());
+        EncodedResponse result;
+        try (JsonParser parser = format.mapper().createParser(body)) {
+            ValidationOutcome outcome = UserVerificationValidator.validate(parser);
+            record("UserVerificationValidator", start, outcome);
+            result = switch (outcome) {
+                case VALID -> Responses.USER_VERIFICATION_VALID;
+                case INVALID -> Responses.USER_VERIFICATION_INVALID;
+                case MISSING_FIELDS -> Responses.MISSING_FIELDS;
+            };
+        } catch (IOException e) {
+            record("UserVerificationValidator", start, ValidationMetrics.MALFORMED);
+            result = Responses.MALFORMED_JSON;
+        }
+        result.in(format).write(response);
+    }
+
     @PostMapping("/validate/pagination")
-    public ResponseEntity<String> validatePaginationPayload(@RequestBody String json) {
-        try {
-            JsonNode jsonNode = mapper.readTree(json);  // Parse JSON once
-            if (jsonNode.has("fromUserId") && jsonNode.has("limit") && jsonNode.has("offset")) {
-                PaginationValidator dto = mapper.treeToValue(jsonNode, PaginationValidator.class);
-                boolean isValid = PaginationValidator.validate(dto);
-                return new ResponseEntity<>(isValid ? "Pagination Payload Valid" : "Invalid Pagination Payload", HttpStatus.OK);
-            } else {
-                return new ResponseEntity<>("Invalid Pagination Payload structure.", HttpStatus.BAD_REQUEST);
-            }
-        } catch (Exception e) {
-            return new ResponseEntity<>("Failed to parse JSON: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+    public void validatePaginationPayload(InputStream body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        WireFormat format = WireFormat.of(request.getContentType());
+        EncodedResponse result;
+        try (JsonParser parser = format.mapper().createParser(body)) {
+            ValidationOutcome outcome = PaginationValidator.validate(parser);
+            record("PaginationValidator", start, outcome);
+            result = switch (outcome) {
+                case VALID -> Responses.PAGINATION_VALID;
+                case INVALID -> Responses.PAGINATION_INVALID;
+                case MISSING_FIELDS -> Responses.MISSING_FIELDS;
+            };
+        } catch (IOException e) {
+            record("PaginationValidator", start, ValidationMetrics.MALFORMED);
+            result = Responses.MALFORMED_JSON;
+        }
+        result.in(format).write(response);
+    }
+
+    // @Valid failures, and bodies that could not be read as the parameter type
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public void rejected(MethodArgumentNotValidException e, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        EncodedResponse.json(HttpStatus.BAD_REQUEST, ErrorBody.of(e.getBindingResult()))
+                .in(WireFormat.of(request.getContentType())).write(response);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public void unreadable(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Responses.MALFORMED_JSON.in(WireFormat.of(request.getContentType())).write(response);
+    }
+
+    private void record(String type, long start, ValidationOutcome outcome) {
+        record(type, start, switch (outcome) {
+            case VALID -> ValidationMetrics.VALID;
+            // Well-formed, but without a required field
+            case INVALID, MISSING_FIELDS -> ValidationMetrics.INVALID;
+        });
+    }
+
+    private void record(String type, long start, String outcome) {
+        if (metrics != null) {
+            metrics.validated(type, System.nanoTime() - start, outcome);
         }
     }
-}
\ No newline at end of file
+}
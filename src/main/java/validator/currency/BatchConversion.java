@@ -0,0 +1,7 @@
+package validator.currency;
+
+/**
+ * Result of converting many amounts between one pair of currencies, all at the same rate.
+ */
+public record BatchConversion(String fromCurrency, String toCurrency, double rate, double[] convertedAmounts) {
+}
@@ -0,0 +1,7 @@
+package validator.currency;
+
+/**
+ * Result of converting one amount.
+ */
+public record Conversion(String fromCurrency, String toCurrency, double amount, double rate, double convertedAmount) {
+}
@@ -0,0 +1,39 @@
+package validator.currency;
+
+/**
+ * Packs a currency code of three letters {@code A-Z} (the {@code ^[A-Z]{3}$} codes accepted by
+ * {@code CurrencyConversionRequest}) into 15 bits, five per letter, so a currency is an index into an array
+ * of {@link #SPACE} entries.
+ */
+public final class CurrencyCodes {
+
+    // Number of distinct packed codes, 26 letters in 5 bits each
+    public static final int SPACE = 1 << 15;
+    public static final int INVALID = -1;
+
+    private CurrencyCodes() {
+    }
+
+    /**
+     * The packed code, {@link #INVALID} for anything but three upper-case ASCII letters.
+     */
+    public static int pack(CharSequence code) {
+        if (code == null || code.length() != 3) {
+            return INVALID;
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = code.charAt(i) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return INVALID;
+            }
+            packed = packed << 5 | letter;
+        }
+        return packed;
+    }
+
+    public static String unpack(int packed) {
+        return new String(new char[]{
+                (char) ('A' + (packed >> 10 & 31)), (char) ('A' + (packed >> 5 & 31)), (char) ('A' + (packed & 31))});
+    }
+}
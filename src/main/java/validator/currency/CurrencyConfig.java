@@ -0,0 +1,42 @@
+package validator.currency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import validator.cache.ResultCache;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Loads the rates from {@code currency.rates.file} and, when {@code currency.rates.refresh-interval} is set,
+ * reloads them whenever the file changes, emptying the {@code /api/convert} result cache if there is one.
+ */
+@Configuration
+public class CurrencyConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CurrencyConfig.class);
+
+    @Bean
+    public CurrencyConverter currencyConverter(@Value("${currency.rates.file:classpath:" + RateFile.DEFAULT + "}") Resource file)
+            throws IOException {
+        RateTable table = RateFile.read(file);
+        LOG.info("Loaded {} currency rates from {}", table.size(), file.getDescription());
+        return new CurrencyConverter(table);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "currency.rates.refresh-interval")
+    public RateFileReloader rateFileReloader(CurrencyConverter converter,
+                                             @Value("${currency.rates.file:classpath:" + RateFile.DEFAULT + "}") Resource file,
+                                             @Value("${currency.rates.refresh-interval}") Duration interval,
+                                             @Qualifier("convertResultCache") ObjectProvider<ResultCache> results) {
+        return new RateFileReloader(converter, file, interval, results.getIfAvailable());
+    }
+}
@@ -0,0 +1,97 @@
+package validator.currency;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Converts amounts with the current {@link RateTable}. Readers take the table from an {@link AtomicReference}
+ * without locking; a reload builds a whole new table and swaps it in, so a conversion, or a whole batch, always
+ * sees one consistent snapshot.
+ */
+public class CurrencyConverter {
+
+    // Smallest amount accepted, as @DecimalMin on CurrencyConversionRequest.amount
+    public static final double MINIMUM_AMOUNT = 0.01;
+
+    private final AtomicReference<RateTable> rates;
+
+    public CurrencyConverter(RateTable rates) {
+        this.rates = new AtomicReference<>(rates);
+    }
+
+    // The bundled rates, for tests and tools without a Spring context
+    public static CurrencyConverter withDefaultRates() {
+        try {
+            return new CurrencyConverter(RateFile.read(new ClassPathResource(RateFile.DEFAULT)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public RateTable rates() {
+        return rates.get();
+    }
+
+    /**
+     * Replaces all rates, as when the rate file is reloaded.
+     */
+    public void replace(RateTable table) {
+        rates.set(table);
+    }
+
+    public Conversion convert(String from, String to, double amount) {
+        double rate = rate(rates.get(), from, to);
+        return new Conversion(from, to, amount, rate, amount * rate);
+    }
+
+    /**
+     * Converts every amount, in place, at one rate from one snapshot.
+     */
+    public BatchConversion convertAll(String from, String to, double[] amounts) {
+        double rate = rate(rates.get(), from, to);
+        multiply(amounts, rate);
+        return new BatchConversion(from, to, rate, amounts);
+    }
+
+    /**
+     * Index of the first amount below {@link #MINIMUM_AMOUNT} (or NaN), -1 when all are valid.
+     */
+    public static int firstInvalidAmount(double[] amounts) {
+        // One pass without branches for the common all-valid batch, a second only to find the culprit
+        boolean valid = true;
+        for (double amount : amounts) {
+            valid &= amount >= MINIMUM_AMOUNT;
+        }
+        if (valid) {
+            return -1;
+        }
+        for (int i = 0; i < amounts.length; i++) {
+            if (!(amounts[i] >= MINIMUM_AMOUNT)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // A counted loop over one array, which C2 compiles to SIMD multiplies
+    static void multiply(double[] amounts, double rate) {
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] *= rate;
+        }
+    }
+
+    private static double rate(RateTable table, String from, String to) {
+        int fromCode = CurrencyCodes.pack(from);
+        int toCode = CurrencyCodes.pack(to);
+        if (!table.contains(fromCode)) {
+            throw new UnknownCurrencyException(from);
+        }
+        if (!table.contains(toCode)) {
+            throw new UnknownCurrencyException(to);
+        }
+        return table.crossRate(fromCode, toCode);
+    }
+}
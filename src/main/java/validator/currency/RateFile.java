@@ -0,0 +1,62 @@
+package validator.currency;
+
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Reads a {@link RateTable} from a local text file, so conversion needs no network access. One currency per
+ * line, its code and the units of it one unit of the base currency buys; {@code #} starts a comment:
+ * <pre>
+ * # Units per 1 USD
+ * USD 1
+ * EUR 0.9135
+ * </pre>
+ * The table's {@link RateTable#asOf()} is the file's modification time.
+ */
+public final class RateFile {
+
+    // Bundled with the application and used unless currency.rates.file points elsewhere
+    public static final String DEFAULT = "currency-rates.txt";
+
+    private RateFile() {
+    }
+
+    public static RateTable read(Resource resource) throws IOException {
+        RateTable.Builder builder = RateTable.builder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            int number = 0;
+            for (String line; (line = reader.readLine()) != null; ) {
+                number++;
+                int comment = line.indexOf('#');
+                String content = (comment >= 0 ? line.substring(0, comment) : line).strip();
+                if (content.isEmpty()) {
+                    continue;
+                }
+                String[] fields = content.split("\\s+");
+                try {
+                    if (fields.length != 2) {
+                        throw new IllegalArgumentException("expected a currency code and a rate");
+                    }
+                    builder.put(fields[0], Double.parseDouble(fields[1]));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(resource.getDescription() + ", line " + number + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return builder.asOf(lastModified(resource)).build();
+    }
+
+    static Instant lastModified(Resource resource) {
+        try {
+            return Instant.ofEpochMilli(resource.lastModified());
+        } catch (IOException e) {
+            // Not backed by a file, such as a resource inside the jar
+            return Instant.EPOCH;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package validator.currency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import jakarta.annotation.Nullable;
+import validator.cache.ResultCache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the rate file's modification time at a fixed interval and swaps in a new table when it changed,
+ * then empties the conversion result cache, whose responses were computed with the old rates. A file that
+ * fails to parse is logged and the current rates stay in use.
+ */
+public class RateFileReloader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RateFileReloader.class);
+
+    private final CurrencyConverter converter;
+    private final Resource file;
+    private final ResultCache results;
+    private final ScheduledExecutorService executor;
+    private Instant loaded;
+
+    public RateFileReloader(CurrencyConverter converter, Resource file, Duration interval, @Nullable ResultCache results) {
+        this.converter = converter;
+        this.file = file;
+        this.results = results;
+        this.loaded = RateFile.lastModified(file);
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("rate-file-reloader").daemon().factory());
+        executor.scheduleWithFixedDelay(this::reloadIfModified, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // True when a changed file was loaded
+    boolean reloadIfModified() {
+        Instant modified = RateFile.lastModified(file);
+        if (modified.equals(loaded)) {
+            return false;
+        }
+        try {
+            RateTable table = RateFile.read(file);
+            converter.replace(table);
+            if (results != null) {
+                results.invalidateAll();
+            }
+            loaded = modified;
+            LOG.info("Loaded {} currency rates from {}", table.size(), file.getDescription());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Keeping the current currency rates, cannot read {}: {}", file.getDescription(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,112 @@
+package validator.currency;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of exchange rates: for every known currency, how many units of it one unit of a common
+ * base currency buys. Rates sit in a dense array indexed by {@link CurrencyCodes#pack packed code}, NaN where
+ * a currency is unknown, so a lookup is one array load with no hashing or string comparison.
+ * <p>
+ * A published table never changes: new rates come as a new table from a {@link Builder}.
+ */
+public final class RateTable {
+
+    private final double[] rates;
+    private final int size;
+    private final Instant asOf;
+
+    private RateTable(double[] rates, int size, Instant asOf) {
+        this.rates = rates;
+        this.size = size;
+        this.asOf = asOf;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Units of the currency per unit of the base currency, NaN when it is unknown or the code is {@link CurrencyCodes#INVALID}.
+     */
+    public double rate(int code) {
+        return code >= 0 ? rates[code] : Double.NaN;
+    }
+
+    /**
+     * Units of {@code to} that one unit of {@code from} buys, NaN when either is unknown.
+     */
+    public double crossRate(int from, int to) {
+        return rate(to) / rate(from);
+    }
+
+    public boolean contains(int code) {
+        return !Double.isNaN(rate(code));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant asOf() {
+        return asOf;
+    }
+
+    // Known currencies by code, for logs and tests
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new TreeMap<>();
+        for (int code = 0; code < rates.length; code++) {
+            if (!Double.isNaN(rates[code])) {
+                map.put(CurrencyCodes.unpack(code), rates[code]);
+            }
+        }
+        return map;
+    }
+
+    private static double[] emptyRates() {
+        double[] rates = new double[CurrencyCodes.SPACE];
+        Arrays.fill(rates, Double.NaN);
+        return rates;
+    }
+
+    public static final class Builder {
+
+        private double[] rates = emptyRates();
+        private int size;
+        private Instant asOf = Instant.EPOCH;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds or replaces the rate of a currency; rates must be positive and finite.
+         */
+        public Builder put(String currency, double rate) {
+            int code = CurrencyCodes.pack(currency);
+            if (code == CurrencyCodes.INVALID) {
+                throw new IllegalArgumentException("Not a 3-letter currency code: " + currency);
+            }
+            if (!(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Rate of " + currency + " must be positive and finite: " + rate);
+            }
+            if (Double.isNaN(rates[code])) {
+                size++;
+            }
+            rates[code] = rate;
+            return this;
+        }
+
+        public Builder asOf(Instant asOf) {
+            this.asOf = asOf;
+            return this;
+        }
+
+        public RateTable build() {
+            RateTable table = new RateTable(rates, size, asOf);
+            rates = null;
+            return table;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package validator.currency;
+
+/**
+ * A currency without a rate in the current {@link RateTable}.
+ */
+public class UnknownCurrencyException extends IllegalArgumentException {
+
+    private final String currency;
+
+    public UnknownCurrencyException(String currency) {
+        super("Unknown currency: " + currency);
+        this.currency = currency;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+}
@@ -0,0 +1,71 @@
+package validator.duplicate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import validator.cache.XxHash64;
+import validator.payload.TransactionRequestValidator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accepts each transaction once per window: {@link #firstSeen} is false for one with the same sid, login, manager,
+ * amount, currency (in any case) and comment as a transaction accepted before within the window.
+ * <p>
+ * Transactions are fingerprinted with XXH64 and a seed chosen at startup, so nobody can make two different
+ * transactions collide on purpose. As a {@link MeterBinder} bean it publishes {@code validation.duplicates}
+ * (transactions turned away) and {@code validation.duplicates.evictions} (see {@link FingerprintWindow}).
+ */
+public class DuplicateTransactions implements MeterBinder {
+
+    private final FingerprintWindow window;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final LongAdder duplicates = new LongAdder();
+
+    public DuplicateTransactions(FingerprintWindow window) {
+        this.window = window;
+    }
+
+    // Records the transaction; false when it is a duplicate
+    public boolean firstSeen(TransactionRequestValidator.Transaction transaction) {
+        if (window.add(fingerprint(transaction))) {
+            return true;
+        }
+        duplicates.increment();
+        return false;
+    }
+
+    long fingerprint(TransactionRequestValidator.Transaction transaction) {
+        // Lengths before the strings, so no two field lists read the same
+        StringBuilder key = new StringBuilder(96)
+                .append(transaction.getSid()).append(' ')
+                .append(Double.doubleToLongBits(transaction.getAmount())).append(' ');
+        field(key, transaction.getLogin());
+        field(key, transaction.getManager());
+        field(key, transaction.getCurrency() == null ? null : transaction.getCurrency().toUpperCase(Locale.ROOT));
+        field(key, transaction.getComment());
+        byte[] bytes = key.toString().getBytes(StandardCharsets.UTF_8);
+        return XxHash64.hash(bytes, 0, bytes.length, seed);
+    }
+
+    private static void field(StringBuilder key, String value) {
+        if (value == null) {
+            key.append("-1:");
+        } else {
+            key.append(value.length()).append(':').append(value);
+        }
+    }
+
+    public long duplicates() {
+        return duplicates.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("validation.duplicates", duplicates, LongAdder::sum).register(registry);
+        FunctionCounter.builder("validation.duplicates.evictions", window, FingerprintWindow::evictions).register(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package validator.duplicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Turns away repeated transactions on /api/validate/transaction when {@code validation.duplicates.enabled}
+ * is set, remembering them for {@code validation.duplicates.window}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "validation.duplicates.enabled", havingValue = "true")
+public class DuplicateTransactionsConfig {
+
+    @Bean
+    public DuplicateTransactions duplicateTransactions(@Value("${validation.duplicates.window:10m}") Duration window,
+                                                       @Value("${validation.duplicates.capacity:16777216}") long capacity) {
+        return new DuplicateTransactions(new FingerprintWindow(capacity, window));
+    }
+}
@@ -0,0 +1,146 @@
+package validator.duplicate;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The 64-bit fingerprints seen in the last {@code window}, in a fixed table outside the Java heap, so hundreds
+ * of millions of them cost the garbage collector nothing. Updated with compare-and-set only.
+ * <p>
+ * A slot is one long: a 36-bit tag from the fingerprint and, in the low 28 bits, the second (since the table was
+ * created) at which it was added, which lasts about eight years. The table is divided into buckets of sixteen
+ * slots, 128 bytes; the fingerprint's low bits select the bucket, so together with the tag 50 to 60 of its bits
+ * tell entries apart. A slot older than the window is free again. When a bucket has no free slot the oldest
+ * entry is replaced ({@link #evictions()}), so once the table is too small for the traffic of a window, some
+ * duplicates get through; size it at about twice the fingerprints expected per window.
+ * <p>
+ * The table is allocated as direct buffers of at most 1 GB, since a buffer is indexed by int. Allow for it in
+ * {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size.
+ */
+public final class FingerprintWindow {
+
+    static final int BUCKET = 16;
+    private static final int TIME_BITS = 28;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final int CHUNK_SHIFT = 27;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+    private static final VarHandle SLOT = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer[] chunks;
+    private final long bucketMask;
+    private final long window;
+    private final LongSupplier nanoTime;
+    private final long origin;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity slots, rounded up to a power of two of at least one bucket; eight bytes each
+     * @param window   how long a fingerprint counts as seen, at least a second
+     */
+    public FingerprintWindow(long capacity, Duration window) {
+        this(capacity, window, System::nanoTime);
+    }
+
+    FingerprintWindow(long capacity, Duration window, LongSupplier nanoTime) {
+        if (capacity < 1 || window.toSeconds() < 1 || window.toSeconds() >= TIME_MASK) {
+            throw new IllegalArgumentException("capacity must be positive and window between 1 s and 8 years");
+        }
+        long slots = Math.max(BUCKET, Long.highestOneBit(capacity - 1) << 1);
+        this.chunks = new ByteBuffer[(int) ((slots + CHUNK_MASK) >>> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            long length = Math.min(slots - ((long) i << CHUNK_SHIFT), 1L << CHUNK_SHIFT) * Long.BYTES;
+            // Aligned, as atomic access through the VarHandle requires
+            chunks[i] = ByteBuffer.allocateDirect((int) length + Long.BYTES - 1).alignedSlice(Long.BYTES);
+        }
+        this.bucketMask = slots / BUCKET - 1;
+        this.window = window.toSeconds();
+        this.nanoTime = nanoTime;
+        // One second back, so no time stored is 0
+        this.origin = nanoTime.getAsLong() - TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Adds the fingerprint unless it was added within the window.
+     *
+     * @return true when it was added, false for a duplicate
+     */
+    public boolean add(long fingerprint) {
+        long now = TimeUnit.NANOSECONDS.toSeconds(nanoTime.getAsLong() - origin);
+        long base = (fingerprint & bucketMask) * BUCKET;
+        long tag = tag(fingerprint);
+        while (true) {
+            // A duplicate, else the first free slot, else the oldest entry
+            int free = -1;
+            long freeWord = 0;
+            int oldest = 0;
+            long oldestWord = 0;
+            long oldestTime = Long.MAX_VALUE;
+            for (int i = 0; i < BUCKET; i++) {
+                long word = get(base + i);
+                long time = word & TIME_MASK;
+                if (word == 0 || now - time >= window) {
+                    if (free < 0) {
+                        free = i;
+                        freeWord = word;
+                    }
+                } else if ((word & ~TIME_MASK) == tag) {
+                    return false;
+                } else if (time < oldestTime) {
+                    oldest = i;
+                    oldestWord = word;
+                    oldestTime = time;
+                }
+            }
+            int slot = free >= 0 ? free : oldest;
+            long entry = tag | now;
+            if (!compareAndSet(base + slot, free >= 0 ? freeWord : oldestWord, entry)) {
+                // Another add changed the slot; look again
+                continue;
+            }
+            if (free < 0) {
+                evictions.increment();
+            }
+            // Concurrent adds of one fingerprint take the same first free slot, and all but one retry and find it.
+            // They only pick different slots when an entry expires in between; then the later one gives way if
+            // the earlier is already written
+            for (int i = 0; i < slot; i++) {
+                long word = get(base + i);
+                if ((word & ~TIME_MASK) == tag && now - (word & TIME_MASK) < window) {
+                    compareAndSet(base + slot, entry, 0);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Entries replaced before they expired
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long capacity() {
+        return (bucketMask + 1) * BUCKET;
+    }
+
+    private long get(long slot) {
+        return (long) SLOT.getVolatile(chunks[(int) (slot >>> CHUNK_SHIFT)], (int) (slot & CHUNK_MASK) * Long.BYTES);
+    }
+
+    private boolean compareAndSet(long slot, long expected, long value) {
+        return SLOT.compareAndSet(chunks[(int) (slot >>> CHUNK_SHIFT)], (int) (slot & CHUNK_MASK) * Long.BYTES, expected, value);
+    }
+
+    // The fingerprint's top 36 bits, never 0, which marks an empty slot
+    private static long tag(long fingerprint) {
+        long tag = fingerprint & ~TIME_MASK;
+        return tag != 0 ? tag : 1L << TIME_BITS;
+    }
+}
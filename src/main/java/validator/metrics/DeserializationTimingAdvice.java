@@ -0,0 +1,66 @@
+package validator.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Times the conversion of every {@code @RequestBody} as {@code validation.deserialization}.
+ * <p>
+ * The message returned from {@code beforeBodyRead} is the one passed to {@code afterBodyRead},
+ * so it carries the start time. Bodies that fail to convert are not timed.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "validation.metrics.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DeserializationTimingAdvice extends RequestBodyAdviceAdapter {
+
+    private final ValidationMetrics metrics;
+
+    public DeserializationTimingAdvice(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    private record TimedMessage(HttpInputMessage message, long start) implements HttpInputMessage {
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return message.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return message.getHeaders();
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        return new TimedMessage(inputMessage, System.nanoTime());
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        if (inputMessage instanceof TimedMessage timed) {
+            metrics.deserialized(ValidationMetrics.type(parameter.getParameterType()), System.nanoTime() - timed.start);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,63 @@
+package validator.metrics;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import java.util.Set;
+
+/**
+ * {@link Validator} that records the duration, outcome and violations of every {@code validate} call.
+ */
+public class MeteredValidator implements Validator {
+
+    private final Validator delegate;
+    private final ValidationMetrics metrics;
+
+    public MeteredValidator(Validator delegate, ValidationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    // The validator being timed, for callers that must not be counted (startup warm-up)
+    public Validator getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        if (object == null) {
+            return delegate.validate(object, groups);
+        }
+        long start = System.nanoTime();
+        Set<ConstraintViolation<T>> violations = delegate.validate(object, groups);
+        metrics.validated(ValidationMetrics.type(object.getClass()), System.nanoTime() - start, violations);
+        return violations;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return delegate.validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+        return delegate.validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return delegate.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return delegate.forExecutables();
+    }
+}
@@ -0,0 +1,124 @@
+package validator.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation meters, looked up once per payload type and constraint and then recorded lock-free.
+ * <ul>
+ * <li>{@code validation.deserialization} timer, tagged {@code type}: JSON to payload object</li>
+ * <li>{@code validation.duration} timer, tagged {@code type}: Bean Validation, or the streaming check</li>
+ * <li>{@code validation.requests} counter, tagged {@code type} and {@code outcome} (valid, invalid, malformed)</li>
+ * <li>{@code validation.violations} counter, tagged {@code constraint}, e.g.
+ * {@code CurrencyConversionRequest.fromCurrency/Pattern}</li>
+ * </ul>
+ */
+public class ValidationMetrics {
+
+    public static final String VALID = "valid";
+    public static final String INVALID = "invalid";
+    public static final String MALFORMED = "malformed";
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, TypeMeters> types = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> violations = new ConcurrentHashMap<>();
+
+    private final class TypeMeters {
+        final Timer deserialization;
+        final Timer validation;
+        final Counter valid;
+        final Counter invalid;
+        final Counter malformed;
+
+        TypeMeters(String type) {
+            deserialization = Timer.builder("validation.deserialization").tag("type", type).register(registry);
+            validation = Timer.builder("validation.duration").tag("type", type).register(registry);
+            valid = outcome(type, VALID);
+            invalid = outcome(type, INVALID);
+            malformed = outcome(type, MALFORMED);
+        }
+
+        private Counter outcome(String type, String outcome) {
+            return Counter.builder("validation.requests").tag("type", type).tag("outcome", outcome).register(registry);
+        }
+    }
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private TypeMeters meters(String type) {
+        TypeMeters meters = types.get(type);
+        return meters != null ? meters : types.computeIfAbsent(type, TypeMeters::new);
+    }
+
+    // Payload type tag: simple name, with the enclosing class for nested payloads (TransactionRequestValidator.Transaction)
+    public static String type(Class<?> type) {
+        String name = type.getName();
+        return name.substring(name.lastIndexOf('.') + 1).replace('$', '.');
+    }
+
+    public void deserialized(String type, long nanos) {
+        meters(type).deserialization.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> void validated(String type, long nanos, Set<ConstraintViolation<T>> violations) {
+        TypeMeters meters = meters(type);
+        meters.validation.record(nanos, TimeUnit.NANOSECONDS);
+        if (violations.isEmpty()) {
+            meters.valid.increment();
+            return;
+        }
+        meters.invalid.increment();
+        for (ConstraintViolation<T> violation : violations) {
+            violation(type, violation).increment();
+        }
+    }
+
+    // Streaming checks, which validate while they read
+    public void validated(String type, long nanos, String outcome) {
+        TypeMeters meters = meters(type);
+        meters.validation.record(nanos, TimeUnit.NANOSECONDS);
+        outcome(meters, outcome);
+    }
+
+    // Outcome of a step that is not Bean Validation, e.g. looking up associated accounts
+    public void outcome(String type, String outcome) {
+        outcome(meters(type), outcome);
+    }
+
+    private static void outcome(TypeMeters meters, String outcome) {
+        switch (outcome) {
+            case VALID -> meters.valid.increment();
+            case INVALID -> meters.invalid.increment();
+            default -> meters.malformed.increment();
+        }
+    }
+
+    private Counter violation(String type, ConstraintViolation<?> violation) {
+        String constraint = constraint(type, violation);
+        Counter counter = violations.get(constraint);
+        return counter != null ? counter : violations.computeIfAbsent(constraint,
+                name -> Counter.builder("validation.violations").tag("constraint", name).register(registry));
+    }
+
+    // Type, property names and annotation; map keys and list indexes are left out to keep the tag bounded
+    static String constraint(String type, ConstraintViolation<?> violation) {
+        StringBuilder constraint = new StringBuilder(type);
+        for (Path.Node node : violation.getPropertyPath()) {
+            if (node.getName() != null) {
+                constraint.append('.').append(node.getName());
+            }
+        }
+        return constraint.append('/')
+                .append(violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName())
+                .toString();
+    }
+}
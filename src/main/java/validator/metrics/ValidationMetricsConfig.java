@@ -0,0 +1,19 @@
+package validator.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Validation metrics, exposed under {@code /actuator/metrics} (validation.metrics.enabled).
+ */
+@Configuration
+@ConditionalOnProperty(name = "validation.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ValidationMetricsConfig {
+
+    @Bean
+    public ValidationMetrics validationMetrics(MeterRegistry registry) {
+        return new ValidationMetrics(registry);
+    }
+}
@@ -8,12 +8,14 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import jakarta.annotation.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import validator.account.AccountStore;
+import validator.metrics.ValidationMetrics;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/account")
@@ -21,19 +23,23 @@ import java.util.Map;
 public class AccountID {
 
     private final AccountService accountService;
+    private final ValidationMetrics metrics;
 
-    public AccountID(AccountService accountService) {
+    public AccountID(AccountService accountService, @Nullable ValidationMetrics metrics) {
         this.accountService = accountService;
+        this.metrics = metrics;
     }
 
     @PostMapping("/getAssociatedAccounts")
     public ResponseEntity<?> getAssociatedAccounts(@Valid @RequestBody AccountRequest request) {
-        try {
-            List<String> associatedAccounts = accountService.getAssociatedAccounts(request.accountId);
-            return ResponseEntity.ok(associatedAccounts);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        ValidationResult<List<String>> result = accountService.getAssociatedAccounts(request.accountId);
+        if (metrics != null) {
+            metrics.outcome("AssociatedAccounts", result.isValid() ? ValidationMetrics.VALID : ValidationMetrics.INVALID);
         }
+        return switch (result) {
+            case ValidationResult.Valid<List<String>> valid -> ResponseEntity.ok(valid.value());
+            case ValidationResult.Invalid<List<String>> invalid -> ResponseEntity.status(HttpStatus.BAD_REQUEST).body(invalid.message());
+        };
     }
 
     // Nested static class for the request payload, combining model and validation
@@ -54,15 +60,34 @@ public class AccountID {
 // Service class to handle account associations
 @Service
 class AccountService {
-    private static final Map<String, List<String>> ACCOUNT_ASSOCIATIONS = Map.of(
-            "1", List.of("AccountA", "AccountB"), "2", List.of("AccountC")
-    );
+    private final AccountStore accountStore;
 
-    public List<String> getAssociatedAccounts(String accountId) {
-        List<String> accounts = ACCOUNT_ASSOCIATIONS.get(accountId);
-        if (accounts == null || accounts.isEmpty()) {
-            throw new IllegalArgumentException("No associated accounts found for account ID " + accountId);
+    AccountService(AccountStore accountStore) {
+        this.accountStore = accountStore;
+    }
+
+    public ValidationResult<List<String>> getAssociatedAccounts(String accountId) {
+        List<String> accounts = accountStore.findAssociatedAccounts(parseAccountId(accountId));
+        if (accounts.isEmpty()) {
+            return ValidationResult.invalid("No associated accounts found for account ID " + accountId);
+        }
+        return ValidationResult.valid(accounts);
+    }
+
+    // Numeric account ID as a long, -1 when it is not numeric, too large to be stored or has a leading zero,
+    // which the string keys the accounts were stored under never had
+    static long parseAccountId(String accountId) {
+        if (accountId == null || accountId.isEmpty() || (accountId.length() > 1 && accountId.charAt(0) == '0')) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = 0; i < accountId.length(); i++) {
+            int digit = accountId.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || id > (Long.MAX_VALUE - 1 - digit) / 10) {
+                return -1;
+            }
+            id = id * 10 + digit;
         }
-        return accounts;
+        return id;
     }
 }
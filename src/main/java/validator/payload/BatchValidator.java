@@ -0,0 +1,127 @@
+package validator.payload;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+
+/**
+ * Validates a stream of payloads one element at a time.
+ * <p>
+ * The input is either a JSON array or NDJSON (whitespace separated top-level objects).
+ * For each element one NDJSON result line is written:
+ * <pre>
+ * {"index":0,"valid":true}
+ * {"index":1,"valid":false,"errors":[{"field":"user","message":"must not be null"}]}
+ * </pre>
+ * Only the element being validated is held in memory. A syntax error ends the batch with a
+ * final {@code {"index":n,"error":"..."}} line, since the parser cannot resynchronise after it.
+ * <p>
+ * With a Smile or CBOR mapper the input is an array or a sequence of top-level values in that format, and the
+ * results are written in it as a sequence of values, without the newlines.
+ */
+public class BatchValidator<T> {
+
+    private final ObjectMapper mapper;
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final boolean lines;
+
+    public BatchValidator(ObjectMapper mapper, Validator validator, Class<T> type) {
+        this.mapper = mapper;
+        this.reader = mapper.readerFor(type);
+        this.validator = validator;
+        this.lines = !mapper.getFactory().canHandleBinaryNatively();
+    }
+
+    /**
+     * Reads elements from {@code in} and writes one result line per element to {@code out}.
+     *
+     * @return the number of elements validated
+     */
+    public long validate(InputStream in, OutputStream out) throws IOException {
+        long index = 0;
+        try (JsonParser parser = mapper.createParser(in);
+             JsonGenerator generator = mapper.createGenerator(out, JsonEncoding.UTF8)) {
+            if (lines) {
+                generator.setRootValueSeparator(null);
+            }
+            try {
+                JsonToken token = parser.nextToken();
+                boolean array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+                while (token != null && token != JsonToken.END_ARRAY) {
+                    writeResult(generator, index, parser);
+                    index++;
+                    token = parser.nextToken();
+                }
+            } catch (StreamReadException e) {
+                // Malformed JSON: report where the batch stopped
+                generator.writeStartObject();
+                generator.writeNumberField("index", index);
+                generator.writeStringField("error", e.getOriginalMessage());
+                generator.writeEndObject();
+                endLine(generator);
+            }
+        }
+        return index;
+    }
+
+    private void writeResult(JsonGenerator generator, long index, JsonParser parser) throws IOException {
+        // Buffer just this element so a binding error doesn't leave the parser mid-object
+        TokenBuffer element = new TokenBuffer(parser);
+        element.copyCurrentStructure(parser);
+
+        generator.writeStartObject();
+        generator.writeNumberField("index", index);
+        try {
+            T value = reader.readValue(element.asParser());
+            if (value == null) {
+                generator.writeBooleanField("valid", false);
+                generator.writeStringField("error", "Element must be a JSON object");
+            } else {
+                writeViolations(generator, validator.validate(value));
+            }
+        } catch (DatabindException e) {
+            generator.writeBooleanField("valid", false);
+            generator.writeStringField("error", e.getOriginalMessage());
+        }
+        generator.writeEndObject();
+        endLine(generator);
+    }
+
+    private void endLine(JsonGenerator generator) throws IOException {
+        if (lines) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeViolations(JsonGenerator generator, Set<ConstraintViolation<T>> violations) throws IOException {
+        generator.writeBooleanField("valid", violations.isEmpty());
+        if (violations.isEmpty()) {
+            return;
+        }
+        generator.writeArrayFieldStart("errors");
+        for (ConstraintViolation<T> violation : violations) {
+            generator.writeStartObject();
+            generator.writeStringField("field", violation.getPropertyPath().toString());
+            generator.writeStringField("message", violation.getMessage());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
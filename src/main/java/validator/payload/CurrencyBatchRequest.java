@@ -0,0 +1,29 @@
+package validator.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Many amounts to convert between one pair of currencies. Amounts bind to a {@code double[]} without boxing;
+ * their 0.01 minimum is checked by the converter in one pass rather than per element by Bean Validation.
+ */
+@Setter
+@Getter
+public class CurrencyBatchRequest {
+    @NotBlank
+    @Pattern(regexp = "^[A-Z]{3}$", message = "fromCurrency must be a valid 3-letter currency code.")
+    @JsonProperty private String fromCurrency;
+
+    @NotBlank
+    @Pattern(regexp = "^[A-Z]{3}$", message = "toCurrency must be a valid 3-letter currency code.")
+    @JsonProperty private String toCurrency;
+
+    @NotNull
+    @Size(min = 1, max = 1_000_000, message = "amounts must hold between 1 and 1000000 values.")
+    @JsonProperty private double[] amounts;
+}
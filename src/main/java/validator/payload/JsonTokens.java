@@ -0,0 +1,39 @@
+package validator.payload;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads the current scalar token the way data binding would bind it, for the streaming validators.
+ * Plain numbers and booleans are read directly; strings, floats and other coercions go through the
+ * parser's codec so they behave exactly as {@code ObjectMapper} binding does.
+ */
+final class JsonTokens {
+
+    // Returned by readInt for a JSON null
+    static final long NULL = Long.MIN_VALUE;
+
+    private JsonTokens() {
+    }
+
+    static long readInt(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_NULL -> NULL;
+            default -> {
+                Integer value = parser.readValueAs(Integer.class);
+                yield value == null ? NULL : value;
+            }
+        };
+    }
+
+    static Boolean readBoolean(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> parser.readValueAs(Boolean.class);
+        };
+    }
+}
@@ -0,0 +1,196 @@
+package validator.payload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reads NDJSON files of any size straight from a memory mapping, for offline re-validation of archives.
+ * <p>
+ * The file is cut into chunks at newline boundaries and the chunks are parsed in parallel. Each chunk is
+ * mapped read-only and handed to Jackson's non-blocking {@code ByteBuffer} parser, so record bytes are
+ * never copied into heap buffers or {@code String}s; only the bound objects are allocated. A line that
+ * cannot be parsed or bound is reported and skipped, and parsing resumes on the next line.
+ * <p>
+ * The records of a parser share one deserialization context, so a type whose deserializer allocates nothing
+ * but the bean, like the {@code validator.payload.compact} payloads, costs little more than the bean itself.
+ */
+public class MappedNdjsonReader<T> {
+
+    // Below the 2 GB limit of a single mapping, and small enough to spread a file across cores
+    static final long DEFAULT_CHUNK_SIZE = 256L << 20;
+
+    /**
+     * Receives records from all reading threads at once.
+     */
+    public interface Handler<T> {
+
+        // offset is the byte offset of the record in the file
+        void record(long offset, T record);
+
+        void malformed(long offset, String message);
+    }
+
+    public record Stats(long records, long malformed, long bytes) {
+    }
+
+    private final JsonFactory factory;
+    private final ObjectReader reader;
+    private final long chunkSize;
+
+    public MappedNdjsonReader(ObjectMapper mapper, Class<T> type) {
+        this(mapper, type, DEFAULT_CHUNK_SIZE);
+    }
+
+    MappedNdjsonReader(ObjectMapper mapper, Class<T> type, long chunkSize) {
+        this.factory = mapper.getFactory();
+        this.reader = mapper.readerFor(type);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads every record of {@code file} on {@code parallelism} threads and returns once all are handled.
+     */
+    public Stats read(Path file, int parallelism, Handler<? super T> handler) throws IOException {
+        LongAdder records = new LongAdder();
+        LongAdder malformed = new LongAdder();
+        Handler<T> counting = new Handler<>() {
+            @Override
+            public void record(long offset, T record) {
+                records.increment();
+                handler.record(offset, record);
+            }
+
+            @Override
+            public void malformed(long offset, String message) {
+                malformed.increment();
+                handler.malformed(offset, message);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Future<?>> chunks = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = lineEnd(channel, Math.min(start + chunkSize, size), size);
+                long base = start;
+                long length = end - start;
+                // Mapped by the task, so only the chunks being read are mapped at once. FileChannel.map rather than
+                // a MemorySegment from an Arena: Jackson's feeder takes a ByteBuffer either way, and the mapping
+                // is released when the buffer is collected, with no arena to close once every parser is done
+                chunks.add(executor.submit(() -> {
+                    try {
+                        readChunk(channel.map(FileChannel.MapMode.READ_ONLY, base, length), base, counting);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+                start = end;
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+            return new Stats(records.sum(), malformed.sum(), size);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + file, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Position just past the first newline at or after position, or size when there is none
+    private static long lineEnd(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private void readChunk(ByteBuffer chunk, long base, Handler<T> handler) {
+        int position = 0;
+        while (position < chunk.limit()) {
+            position = readFrom(chunk, position, base, handler);
+        }
+    }
+
+    // Reads records from position to the end of the chunk; after a bad line returns where to resume
+    private int readFrom(ByteBuffer chunk, int position, long base, Handler<T> handler) {
+        // End of the last record read; the parser's token locations are not exact for async input
+        int previousEnd = position;
+        try (JsonParser parser = factory.createNonBlockingByteBufferParser()) {
+            ByteBufferFeeder feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            feeder.feedInput(chunk.slice(position, chunk.limit() - position));
+            feeder.endOfInput();
+            // Binds each record with the context created here, where readValue(parser) would create one per record
+            MappingIterator<T> records = reader.readValues(parser);
+            try {
+                // The ByteBuffer parser reports the end as NOT_AVAILABLE rather than null, even after endOfInput,
+                // which the iterator would take for a value, so the loop advances the parser itself
+                for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.NOT_AVAILABLE; token = parser.nextToken()) {
+                    T record = records.nextValue();
+                    handler.record(base + skipWhitespace(chunk, previousEnd), record);
+                    previousEnd = position + (int) parser.currentLocation().getByteOffset();
+                }
+                return chunk.limit();
+            } catch (JsonProcessingException e) {
+                int lineStart = skipWhitespace(chunk, previousEnd);
+                handler.malformed(base + lineStart, e.getOriginalMessage());
+                return nextLine(chunk, lineStart);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int skipWhitespace(ByteBuffer chunk, int position) {
+        while (position < chunk.limit() && isWhitespace(chunk.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static int nextLine(ByteBuffer chunk, int position) {
+        while (position < chunk.limit() && chunk.get(position++) != '\n') {
+        }
+        return position;
+    }
+}
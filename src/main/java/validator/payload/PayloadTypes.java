@@ -0,0 +1,61 @@
+package validator.payload;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the payload classes of this package and its subpackages: concrete classes, nested ones included,
+ * with at least one field carrying a Bean Validation constraint or {@code @Valid}. Controllers and services
+ * are skipped.
+ * <p>
+ * Scans class files, so it works on the JVM and during AOT processing but finds nothing in a native image.
+ */
+public final class PayloadTypes {
+
+    private PayloadTypes() {
+    }
+
+    public static List<Class<?>> find(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isConcrete() && definition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(".*")));
+        scanner.addExcludeFilter(new AnnotationTypeFilter(Component.class));
+
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(PayloadTypes.class.getPackageName())) {
+            Class<?> type = ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader);
+            if (isConstrained(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static boolean isConstrained(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            for (Annotation annotation : field.getAnnotations()) {
+                if (annotation instanceof Valid || annotation.annotationType().isAnnotationPresent(Constraint.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package validator.payload;
+
+import validator.currency.CurrencyCodes;
+
+import java.util.Arrays;
+
+/**
+ * Transactions as parallel primitive columns, for {@link TransactionRequestValidator#validate(TransactionColumns)}.
+ * <ul>
+ * <li>{@code amount}, {@code sid}: as in {@link TransactionRequestValidator.Transaction}</li>
+ * <li>{@code manager}, {@code login}: the number the digits spell ({@link #digits}), {@link #INVALID_DIGITS}
+ * when the value is not all digits</li>
+ * <li>{@code currency}: the packed code of the upper-cased value ({@link #currency}), {@link CurrencyCodes#INVALID}
+ * when it is not three letters</li>
+ * <li>{@code comment}: the length of the trimmed comment, so 0 when it is missing or blank</li>
+ * </ul>
+ * Rows are appended with {@link #add}, growing the arrays as needed, or the columns are passed in whole.
+ */
+public final class TransactionColumns {
+
+    public static final long INVALID_DIGITS = -1;
+
+    double[] amount;
+    int[] sid;
+    long[] manager;
+    long[] login;
+    int[] currency;
+    int[] comment;
+    private int size;
+
+    public TransactionColumns(int capacity) {
+        amount = new double[capacity];
+        sid = new int[capacity];
+        manager = new long[capacity];
+        login = new long[capacity];
+        currency = new int[capacity];
+        comment = new int[capacity];
+    }
+
+    // Columns already encoded; the arrays are used as they are, not copied
+    public TransactionColumns(double[] amount, int[] sid, long[] manager, long[] login, int[] currency, int[] comment) {
+        int length = amount.length;
+        if (sid.length != length || manager.length != length || login.length != length
+                || currency.length != length || comment.length != length) {
+            throw new IllegalArgumentException("Columns differ in length");
+        }
+        this.amount = amount;
+        this.sid = sid;
+        this.manager = manager;
+        this.login = login;
+        this.currency = currency;
+        this.comment = comment;
+        this.size = length;
+    }
+
+    public TransactionColumns add(TransactionRequestValidator.Transaction transaction) {
+        return add(transaction.getAmount(), transaction.getSid(), transaction.getManager(), transaction.getLogin(),
+                transaction.getCurrency(), transaction.getComment());
+    }
+
+    public TransactionColumns add(double amount, int sid, String manager, String login, String currency, String comment) {
+        if (size == this.amount.length) {
+            grow(Math.max(16, size * 2));
+        }
+        this.amount[size] = amount;
+        this.sid[size] = sid;
+        this.manager[size] = digits(manager);
+        this.login[size] = digits(login);
+        this.currency[size] = currency(currency);
+        this.comment[size] = comment == null ? 0 : comment.trim().length();
+        size++;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The number spelled by a non-empty string of ASCII digits, saturating at {@code Long.MAX_VALUE};
+     * {@link #INVALID_DIGITS} for anything else, as {@code \d+} would reject it.
+     */
+    public static long digits(CharSequence value) {
+        if (value == null || value.isEmpty()) {
+            return INVALID_DIGITS;
+        }
+        long number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_DIGITS;
+            }
+            number = number > (Long.MAX_VALUE - digit) / 10 ? Long.MAX_VALUE : number * 10 + digit;
+        }
+        return number;
+    }
+
+    // CurrencyCodes.pack of the value with ASCII letters upper-cased, as the per-object check's toUpperCase()
+    public static int currency(CharSequence value) {
+        if (value == null || value.length() != 3) {
+            return CurrencyCodes.INVALID;
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            char c = value.charAt(i);
+            int letter = c >= 'a' ? c - 'a' : c - 'A';
+            if (letter < 0 || letter >= 26) {
+                return CurrencyCodes.INVALID;
+            }
+            packed = packed << 5 | letter;
+        }
+        return packed;
+    }
+
+    private void grow(int capacity) {
+        amount = Arrays.copyOf(amount, capacity);
+        sid = Arrays.copyOf(sid, capacity);
+        manager = Arrays.copyOf(manager, capacity);
+        login = Arrays.copyOf(login, capacity);
+        currency = Arrays.copyOf(currency, capacity);
+        comment = Arrays.copyOf(comment, capacity);
+    }
+}
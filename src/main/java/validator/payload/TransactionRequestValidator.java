@@ -5,23 +5,85 @@ import jakarta.validation.constraints.NotNull;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
+import validator.constraint.PatternMatcher;
+import validator.constraint.PatternMatchers;
+import validator.currency.CurrencyCodes;
 
 import java.util.Set;
 
 public class TransactionRequestValidator {
 
     private static final Set<String> SUPPORTED_CURRENCIES = Set.of("USD", "EUR", "KES");
+    private static final PatternMatcher DIGITS = PatternMatchers.compile("\\d+");
+    private static final int BLOCK = 2048;
+    private static final int[] SUPPORTED_CODES = SUPPORTED_CURRENCIES.stream().mapToInt(CurrencyCodes::pack).toArray();
 
     // Validation logic
     public boolean validate(Transaction transaction) {
         return transaction.getAmount() > 0 &&
                 transaction.getSid() > 0 &&
-                transaction.getManager() != null && transaction.getManager().matches("\\d+") &&
-                transaction.getLogin() != null && transaction.getLogin().matches("\\d+") &&
+                transaction.getManager() != null && DIGITS.matches(transaction.getManager()) &&
+                transaction.getLogin() != null && DIGITS.matches(transaction.getLogin()) &&
                 SUPPORTED_CURRENCIES.contains(transaction.getCurrency().toUpperCase()) &&
                 transaction.getComment() != null && !transaction.getComment().trim().isEmpty();
     }
 
+    /**
+     * The same checks over a whole batch of columns, one column at a time. Each check is a loop of branch-free
+     * integer arithmetic over a primitive array, which C2 compiles to SIMD instructions, and sets its
+     * {@link TransactionViolations} bit in a flag word per row. A missing currency is a violation here rather than
+     * the NullPointerException of the per-object check.
+     */
+    public TransactionViolations validate(TransactionColumns batch) {
+        int size = batch.size();
+        double[] amount = batch.amount;
+        int[] sid = batch.sid;
+        long[] manager = batch.manager;
+        long[] login = batch.login;
+        int[] currency = batch.currency;
+        int[] comment = batch.comment;
+        // Flags are ints indexed like the columns: C2 does not vectorize or-ing into a byte[], nor arrays read at
+        // different offsets. They are narrowed to a byte per row at the end of each block, which is done a block
+        // at a time so its flags stay in cache while every column is checked
+        int[] flags = new int[size];
+        byte[] fields = new byte[(size + 63) & ~63];
+        for (int start = 0; start < size; start += BLOCK) {
+            int end = Math.min(size, start + BLOCK);
+            for (int i = start; i < end; i++) {
+                // amount > 0, NaN excluded: bits - 1 must be in [0, bits of +Infinity)
+                long bits = Double.doubleToRawLongBits(amount[i]) - 1;
+                flags[i] = (int) ((bits | ~(bits - 0x7FF0000000000000L)) >>> 63);
+            }
+            for (int i = start; i < end; i++) {
+                // sid > 0: neither sid nor sid - 1 is negative
+                flags[i] |= ((sid[i] - 1 | sid[i]) >>> 31) << 1;
+            }
+            for (int i = start; i < end; i++) {
+                flags[i] |= (int) (manager[i] >>> 63) << 2;
+            }
+            for (int i = start; i < end; i++) {
+                flags[i] |= (int) (login[i] >>> 63) << 3;
+            }
+            for (int i = start; i < end; i++) {
+                flags[i] |= TransactionViolations.CURRENCY;
+            }
+            for (int code : SUPPORTED_CODES) {
+                for (int i = start; i < end; i++) {
+                    // Clears the bit when currency == code: only then is (x - 1) & ~x negative
+                    int x = currency[i] ^ code;
+                    flags[i] &= ~((((x - 1) & ~x) >>> 31) << 4);
+                }
+            }
+            for (int i = start; i < end; i++) {
+                flags[i] |= ((comment[i] - 1) >>> 31) << 5;
+            }
+            for (int i = start; i < end; i++) {
+                fields[i] = (byte) flags[i];
+            }
+        }
+        return new TransactionViolations(fields, size);
+    }
+
     // Model class for JSON payload
     @Setter
     @Getter
@@ -0,0 +1,85 @@
+package validator.payload;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Result of validating {@link TransactionColumns}: a bitmap with a bit set for every invalid row, and for each
+ * row the checks it failed ({@link #AMOUNT}, {@link #SID}, ...).
+ */
+public final class TransactionViolations {
+
+    private static final VarHandle BYTES = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    public static final int AMOUNT = 1;
+    public static final int SID = 1 << 1;
+    public static final int MANAGER = 1 << 2;
+    public static final int LOGIN = 1 << 3;
+    public static final int CURRENCY = 1 << 4;
+    public static final int COMMENT = 1 << 5;
+
+    private final byte[] fields;
+    private final long[] invalid;
+    private final int size;
+
+    // fields holds a byte per row, padded with zeros to a multiple of 64 rows
+    TransactionViolations(byte[] fields, int size) {
+        this.fields = fields;
+        this.size = size;
+        this.invalid = new long[(size + 63) >>> 6];
+        for (int word = 0; word < invalid.length; word++) {
+            long bits = 0;
+            for (int part = 0; part < 8; part++) {
+                long rows = (long) BYTES.get(fields, word * 64 + part * 8);
+                // Top bit of every non-zero byte (all are below 0x80, so adding 0x7F never carries), then the
+                // multiply gathers those eight bits into the top byte in row order
+                long nonZero = ((rows + 0x7F7F7F7F7F7F7F7FL) & 0x8080808080808080L) >>> 7;
+                bits |= (nonZero * 0x0102040810204080L >>> 56) << part * 8;
+            }
+            invalid[word] = bits;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Bit i of word i / 64 is set when row i is invalid, as in BitSet.toLongArray(); not a copy
+    public long[] bitmap() {
+        return invalid;
+    }
+
+    public boolean isValid(int row) {
+        return fields[row] == 0;
+    }
+
+    // The checks row failed, 0 when it is valid
+    public int fields(int row) {
+        return fields[row];
+    }
+
+    public int count() {
+        int count = 0;
+        for (long word : invalid) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // First invalid row at or after from, -1 when there is none
+    public int nextInvalid(int from) {
+        int word = from >>> 6;
+        if (word >= invalid.length) {
+            return -1;
+        }
+        long bits = invalid[word] & -1L << from;
+        while (bits == 0) {
+            if (++word == invalid.length) {
+                return -1;
+            }
+            bits = invalid[word];
+        }
+        return word * 64 + Long.numberOfTrailingZeros(bits);
+    }
+}
@@ -1,12 +1,23 @@
 package validator.payload;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
+import java.util.List;
+
 @Setter
 @Getter
 public class UserVerificationValidator {
+    // Bit i of the presence and invalid masks is field i
+    private static final List<Object> FIELDS = List.of("user", "isVerified", "verified");
+    private static final int ALL_FIELDS = 0b111;
+
     // Getters and Setters
     @NotNull private Integer user;
     @NotNull private Boolean isVerified;
@@ -16,4 +27,49 @@ public class UserVerificationValidator {
         return dto.getUser() != null && dto.getUser() > 0 &&
                 dto.getIsVerified() != null && dto.getVerified() != null;
     }
+
+    /**
+     * Same checks as {@link #validate(UserVerificationValidator)}, applied to the JSON object as it is read
+     * instead of to a bound copy. The whole object is read, so the outcome is the one binding gives: a
+     * missing field first, then a value that cannot be coerced or an unknown field (thrown like
+     * {@code FAIL_ON_UNKNOWN_PROPERTIES}), and only then an invalid value. As with binding, the last
+     * of repeated fields counts.
+     */
+    public static ValidationOutcome validate(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return ValidationOutcome.MISSING_FIELDS;
+        }
+        int seen = 0;
+        int invalid = 0;
+        JsonMappingException failure = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            int field = FIELDS.indexOf(name);
+            if (field < 0) {
+                if (failure == null) {
+                    failure = UnrecognizedPropertyException.from(parser, UserVerificationValidator.class, name, FIELDS);
+                }
+                parser.skipChildren();
+                continue;
+            }
+            seen |= 1 << field;
+            try {
+                boolean valid = name.equals("user") ? JsonTokens.readInt(parser) > 0 : JsonTokens.readBoolean(parser) != null;
+                invalid = valid ? invalid & ~(1 << field) : invalid | 1 << field;
+            } catch (JsonMappingException e) {
+                // Reported like binding would, once the object is known to be complete
+                failure = failure == null ? e : failure;
+                parser.skipChildren();
+            }
+        }
+        if (seen != ALL_FIELDS) {
+            return ValidationOutcome.MISSING_FIELDS;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return invalid == 0 ? ValidationOutcome.VALID : ValidationOutcome.INVALID;
+    }
 }
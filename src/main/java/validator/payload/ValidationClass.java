@@ -1,8 +1,10 @@
 package validator.payload;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -10,10 +12,21 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Map;
 
 public class ValidationClass {
+    private static final Logger LOG = LoggerFactory.getLogger(ValidationClass.class);
+    // Thread-safe once configured; validateBody only creates parsers from it. Field names are not interned,
+    // so large customFields maps do not fill the JVM string table with their keys
+    private static final ObjectMapper MAPPER = new ObjectMapper(JsonFactory.builder()
+            .disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+            .build());
+    private static final int REQUIRED_KEYS = (1 << 9) - 1;
+
     @NotNull
     @JsonProperty
     private Integer user;
@@ -54,26 +67,50 @@ public class ValidationClass {
             @NotBlank(message = "Custom field value cannot be blank") String> customFields;
 
 
+    // Structural check of a raw payload: every required top-level key is present and customFields is an object.
+    // Only the top level is scanned; nested values are skipped without being built, and the scan stops as soon
+    // as all keys have been seen.
     boolean validateBody(String jsonPayload) throws JsonParseException {
-        ObjectMapper mapper = new ObjectMapper();
-        try {
-            var data = mapper.readValue(jsonPayload, Map.class);
-            return data.containsKey("user") &&
-                    data.containsKey("password") &&
-                    data.containsKey("sid") &&
-                    data.containsKey("groupName") &&
-                    data.containsKey("leverage") &&
-                    data.containsKey("initialBalance") &&
-                    data.containsKey("notifyDisable") &&
-                    data.containsKey("readOnly") &&
-                    data.containsKey("customFields") &&
-                    data.get("customFields") instanceof Map; // Check if customFields is a Map
-        } catch (JsonProcessingException e) {
-            // Handle JSON parsing errors
-            System.out.println("JSON Parsing Error: " + e.getMessage());
+        try (JsonParser parser = MAPPER.createParser(jsonPayload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            int seen = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("customFields".equals(key) && value != JsonToken.START_OBJECT) {
+                    return false; // customFields must be a Map
+                }
+                seen |= requiredKey(key);
+                if (seen == REQUIRED_KEYS) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException e) {
+            LOG.debug("Cannot parse the payload: {}", e.getMessage());
             return false;
         }
     }
+
+    // Bit of a key checked by validateBody, 0 for any other key
+    private static int requiredKey(String key) {
+        return switch (key) {
+            case "user" -> 1;
+            case "password" -> 1 << 1;
+            case "sid" -> 1 << 2;
+            case "groupName" -> 1 << 3;
+            case "leverage" -> 1 << 4;
+            case "initialBalance" -> 1 << 5;
+            case "notifyDisable" -> 1 << 6;
+            case "readOnly" -> 1 << 7;
+            case "customFields" -> 1 << 8;
+            default -> 0;
+        };
+    }
+
     public void setUser(Object user) {
         this.user = (Integer) user;
     }
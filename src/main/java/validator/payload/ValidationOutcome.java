@@ -0,0 +1,11 @@
+package validator.payload;
+
+/**
+ * Result of validating a JSON payload while it is read.
+ */
+public enum ValidationOutcome {
+    VALID,
+    INVALID,
+    // A required field is absent, or the body is not a JSON object
+    MISSING_FIELDS
+}
@@ -0,0 +1,42 @@
+package validator.payload;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+
+/**
+ * Either a value or the message explaining why there is none.
+ * Returned instead of throwing, so a rejected request costs no stack trace.
+ */
+public sealed interface ValidationResult<T> {
+
+    record Valid<T>(T value) implements ValidationResult<T> {
+    }
+
+    record Invalid<T>(String message) implements ValidationResult<T> {
+    }
+
+    static <T> ValidationResult<T> valid(T value) {
+        return new Valid<>(value);
+    }
+
+    static <T> ValidationResult<T> invalid(String message) {
+        return new Invalid<>(message);
+    }
+
+    // "Validation failed: a; b; " when there are violations, the value otherwise
+    static <T> ValidationResult<T> of(T value, Set<ConstraintViolation<T>> violations) {
+        if (violations.isEmpty()) {
+            return new Valid<>(value);
+        }
+        StringBuilder message = new StringBuilder("Validation failed: ");
+        for (ConstraintViolation<T> violation : violations) {
+            message.append(violation.getMessage()).append("; ");
+        }
+        return new Invalid<>(message.toString());
+    }
+
+    default boolean isValid() {
+        return this instanceof Valid;
+    }
+}
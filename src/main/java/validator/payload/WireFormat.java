@@ -0,0 +1,97 @@
+package validator.payload;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import jakarta.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The encodings payloads are accepted and answered in, chosen by the request's Content-Type. Smile and CBOR
+ * carry the same data model as JSON in binary, with numbers in binary and names and strings length-prefixed,
+ * so they parse with far less work; Jackson reads all three into the same tokens, and the same payload classes
+ * and constraints apply.
+ */
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON_VALUE),
+    SMILE(WireFormat.SMILE_VALUE),
+    CBOR(MediaType.APPLICATION_CBOR_VALUE);
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final String contentType;
+    private final MediaType mediaType;
+    // Default configuration, for the streaming validators and transcoding; thread-safe once built
+    private final ObjectMapper mapper;
+
+    WireFormat(String contentType) {
+        this.contentType = contentType;
+        this.mediaType = MediaType.parseMediaType(contentType);
+        this.mapper = new ObjectMapper(newFactory());
+    }
+
+    /**
+     * JSON unless the Content-Type names Smile or CBOR, so requests without one, or with a text type, are read as
+     * before. Compared as a string prefix rather than parsed, as this runs on every request.
+     */
+    public static WireFormat of(@Nullable String contentType) {
+        if (contentType != null) {
+            if (contentType.regionMatches(true, 0, SMILE_VALUE, 0, SMILE_VALUE.length())) {
+                return SMILE;
+            }
+            if (contentType.regionMatches(true, 0, MediaType.APPLICATION_CBOR_VALUE, 0, MediaType.APPLICATION_CBOR_VALUE.length())) {
+                return CBOR;
+            }
+        }
+        return JSON;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+
+    // A factory of its own, for a mapper configured differently from mapper()
+    public JsonFactory newFactory() {
+        return switch (this) {
+            case JSON -> new JsonFactory();
+            case SMILE -> new SmileFactory();
+            case CBOR -> new CBORFactory();
+        };
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    // The same value in this format, token by token
+    public byte[] transcode(byte[] json) {
+        if (this == JSON) {
+            return json;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = JSON.mapper.createParser(json);
+             JsonGenerator generator = mapper.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
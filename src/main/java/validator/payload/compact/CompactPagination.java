@@ -0,0 +1,93 @@
+package validator.payload.compact;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import validator.constraint.Present;
+import validator.constraint.PresenceTracked;
+import validator.payload.PaginationValidator;
+
+import java.io.IOException;
+
+/**
+ * {@link PaginationValidator} with {@code int} fields: binding and {@link #validate(CompactPagination)}
+ * allocate nothing but the bean. A field missing from the body, or null, keeps its bit clear and fails
+ * {@code @NotNull} through {@link Present}.
+ */
+@Getter
+@Present({"fromUserId", "limit", "offset"})
+@JsonDeserialize(using = CompactPagination.Deserializer.class)
+public class CompactPagination implements PresenceTracked {
+    private static final int ALL_FIELDS = 0b111;
+
+    @NotNull private int fromUserId;
+    @NotNull private int limit;
+    @NotNull private int offset;
+
+    @Getter(AccessLevel.NONE)
+    private int present;
+
+    public void setFromUserId(int fromUserId) {
+        this.fromUserId = fromUserId;
+        present |= 0b001;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+        present |= 0b010;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+        present |= 0b100;
+    }
+
+    @Override
+    public int presentFields() {
+        return present;
+    }
+
+    public static boolean validate(CompactPagination dto) {
+        return dto.present == ALL_FIELDS && dto.fromUserId > 0 && dto.limit > 0 && dto.offset >= 0;
+    }
+
+    public static class Deserializer extends PrimitiveDeserializer<CompactPagination> {
+
+        public Deserializer() {
+            super(CompactPagination.class, "fromUserId", "limit", "offset");
+        }
+
+        @Override
+        CompactPagination create() {
+            return new CompactPagination();
+        }
+
+        @Override
+        boolean read(CompactPagination bean, String name, JsonParser parser, DeserializationContext ctxt) throws IOException {
+            switch (name) {
+                case "fromUserId" -> {
+                    if (!isNull(parser)) {
+                        bean.setFromUserId(readInt(parser, ctxt));
+                    }
+                }
+                case "limit" -> {
+                    if (!isNull(parser)) {
+                        bean.setLimit(readInt(parser, ctxt));
+                    }
+                }
+                case "offset" -> {
+                    if (!isNull(parser)) {
+                        bean.setOffset(readInt(parser, ctxt));
+                    }
+                }
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
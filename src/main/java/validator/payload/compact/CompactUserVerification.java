@@ -0,0 +1,102 @@
+package validator.payload.compact;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.constraints.NotNull;
+import validator.constraint.Present;
+import validator.constraint.PresenceTracked;
+import validator.payload.UserVerificationValidator;
+
+import java.io.IOException;
+
+/**
+ * {@link UserVerificationValidator} with primitive fields: binding and
+ * {@link #validate(CompactUserVerification)} allocate nothing but the bean. A field missing from the body,
+ * or null, keeps its bit clear and fails {@code @NotNull} through {@link Present}.
+ */
+@Present({"user", "isVerified", "verified"})
+@JsonDeserialize(using = CompactUserVerification.Deserializer.class)
+public class CompactUserVerification implements PresenceTracked {
+    private static final int ALL_FIELDS = 0b111;
+
+    @NotNull private int user;
+    @NotNull private boolean isVerified;
+    @NotNull private boolean verified;
+
+    private int present;
+
+    // Written out: Lombok would name both boolean getters isVerified()
+    public int getUser() {
+        return user;
+    }
+
+    public void setUser(int user) {
+        this.user = user;
+        present |= 0b001;
+    }
+
+    public boolean getIsVerified() {
+        return isVerified;
+    }
+
+    public void setIsVerified(boolean isVerified) {
+        this.isVerified = isVerified;
+        present |= 0b010;
+    }
+
+    public boolean getVerified() {
+        return verified;
+    }
+
+    public void setVerified(boolean verified) {
+        this.verified = verified;
+        present |= 0b100;
+    }
+
+    @Override
+    public int presentFields() {
+        return present;
+    }
+
+    public static boolean validate(CompactUserVerification dto) {
+        return dto.present == ALL_FIELDS && dto.user > 0;
+    }
+
+    public static class Deserializer extends PrimitiveDeserializer<CompactUserVerification> {
+
+        public Deserializer() {
+            super(CompactUserVerification.class, "user", "isVerified", "verified");
+        }
+
+        @Override
+        CompactUserVerification create() {
+            return new CompactUserVerification();
+        }
+
+        @Override
+        boolean read(CompactUserVerification bean, String name, JsonParser parser, DeserializationContext ctxt) throws IOException {
+            switch (name) {
+                case "user" -> {
+                    if (!isNull(parser)) {
+                        bean.setUser(readInt(parser, ctxt));
+                    }
+                }
+                case "isVerified" -> {
+                    if (!isNull(parser)) {
+                        bean.setIsVerified(readBoolean(parser, ctxt));
+                    }
+                }
+                case "verified" -> {
+                    if (!isNull(parser)) {
+                        bean.setVerified(readBoolean(parser, ctxt));
+                    }
+                }
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package validator.payload.compact;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import validator.constraint.Present;
+import validator.constraint.PresenceTracked;
+import validator.payload.ValidationClass;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * {@link ValidationClass} with primitive fields in place of its boxed {@code Integer} and {@code Boolean}
+ * ones and typed accessors in place of the {@code Object} ones. Same properties and constraints: a
+ * required number missing from the body, or null, keeps its bit clear and fails {@code @NotNull} through
+ * {@link Present}. {@code notifyDisable} and {@code readOnly} are optional, and absent reads as false.
+ */
+@Getter
+@Present({"user", "sid", "initialBalance"})
+@JsonDeserialize(using = CompactValidationClass.Deserializer.class)
+public class CompactValidationClass implements PresenceTracked {
+    private static final int USER = 1;
+    private static final int SID = 1 << 1;
+    private static final int INITIAL_BALANCE = 1 << 2;
+
+    @NotNull
+    private int user;
+
+    @Setter
+    @NotBlank
+    private String password;
+
+    @NotNull
+    private int sid;
+
+    @Setter
+    @NotBlank
+    private String groupName;
+
+    @NotNull(message = "Initial balance cannot be null")
+    @PositiveOrZero(message = "Initial balance must be zero or positive")
+    private int initialBalance;
+
+    @Setter
+    private boolean notifyDisable;
+
+    @Setter
+    private boolean readOnly;
+
+    @Setter
+    @NotNull(message = "Custom fields cannot be null")
+    @Valid
+    private Map<@NotBlank(message = "Custom field key cannot be blank") String,
+            @NotBlank(message = "Custom field value cannot be blank") String> customFields;
+
+    @Getter(AccessLevel.NONE)
+    private int present;
+
+    public void setUser(int user) {
+        this.user = user;
+        present |= USER;
+    }
+
+    public void setSid(int sid) {
+        this.sid = sid;
+        present |= SID;
+    }
+
+    public void setInitialBalance(int initialBalance) {
+        this.initialBalance = initialBalance;
+        present |= INITIAL_BALANCE;
+    }
+
+    @Override
+    public int presentFields() {
+        return present;
+    }
+
+    public static class Deserializer extends PrimitiveDeserializer<CompactValidationClass> {
+
+        private static final JavaType CUSTOM_FIELDS = TypeFactory.defaultInstance()
+                .constructMapType(Map.class, String.class, String.class);
+
+        public Deserializer() {
+            super(CompactValidationClass.class, "user", "password", "sid", "groupName", "initialBalance",
+                    "notifyDisable", "readOnly", "customFields");
+        }
+
+        @Override
+        CompactValidationClass create() {
+            return new CompactValidationClass();
+        }
+
+        @Override
+        boolean read(CompactValidationClass bean, String name, JsonParser parser, DeserializationContext ctxt) throws IOException {
+            switch (name) {
+                case "user" -> {
+                    if (!isNull(parser)) {
+                        bean.setUser(readInt(parser, ctxt));
+                    }
+                }
+                case "password" -> bean.setPassword(readString(parser, ctxt));
+                case "sid" -> {
+                    if (!isNull(parser)) {
+                        bean.setSid(readInt(parser, ctxt));
+                    }
+                }
+                case "groupName" -> bean.setGroupName(readString(parser, ctxt));
+                case "initialBalance" -> {
+                    if (!isNull(parser)) {
+                        bean.setInitialBalance(readInt(parser, ctxt));
+                    }
+                }
+                case "notifyDisable" -> bean.setNotifyDisable(!isNull(parser) && readBoolean(parser, ctxt));
+                case "readOnly" -> bean.setReadOnly(!isNull(parser) && readBoolean(parser, ctxt));
+                case "customFields" -> bean.setCustomFields(isNull(parser) ? null : ctxt.readValue(parser, CUSTOM_FIELDS));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package validator.payload.compact;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Base of the compact payload deserializers: walks the object's fields and hands each value to
+ * {@link #read}, which stores it straight into a primitive field. Plain numbers, booleans and strings are
+ * taken from the current token; anything else (quoted numbers, floats, ...) goes through the context, so it
+ * is coerced or rejected exactly as {@code ObjectMapper} binding would. Unknown properties are handled by
+ * the context too, which honours {@code FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+abstract class PrimitiveDeserializer<T> extends StdDeserializer<T> {
+
+    private final List<Object> properties;
+
+    PrimitiveDeserializer(Class<T> type, String... properties) {
+        super(type);
+        this.properties = List.of((Object[]) properties);
+    }
+
+    abstract T create();
+
+    // Reads the current value into the bean; false for a property the bean does not have
+    abstract boolean read(T bean, String name, JsonParser parser, DeserializationContext ctxt) throws IOException;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(handledType(), parser);
+        }
+        T bean = create();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!read(bean, name, parser, ctxt)) {
+                ctxt.handleUnknownProperty(parser, this, bean, name);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public Collection<Object> getKnownPropertyNames() {
+        return properties;
+    }
+
+    // A JSON null leaves a tracked primitive unset, as it leaves a boxed field null
+    static boolean isNull(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NULL;
+    }
+
+    static int readInt(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                ? parser.getIntValue()
+                : ctxt.readValue(parser, Integer.TYPE);
+    }
+
+    static boolean readBoolean(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            default -> ctxt.readValue(parser, Boolean.TYPE);
+        };
+    }
+
+    static String readString(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(parser, String.class);
+        };
+    }
+}
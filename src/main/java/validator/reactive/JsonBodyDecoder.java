@@ -0,0 +1,146 @@
+package validator.reactive;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import validator.payload.WireFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Turns a request body into Jackson tokens as its {@link DataBuffer}s arrive, with the non-blocking
+ * {@code ByteBuffer} parser. Every buffer is tokenized and released on the thread that delivers it, so nothing
+ * waits for the rest of the body and no copy of the raw bytes is kept; the result is a {@link TokenBuffer} the
+ * payload is bound from, or the streaming validators read, once the body is complete.
+ * <p>
+ * Smile and CBOR bodies are collected instead and parsed when complete, as Jackson has no non-blocking parser
+ * for CBOR; both are compact and quick to parse. Either way the tokens are the same as for the JSON body.
+ */
+final class JsonBodyDecoder {
+
+    /**
+     * Tokens of one body and the time spent parsing them, excluding time waiting for the network.
+     */
+    record Body(TokenBuffer tokens, long parseNanos) {
+    }
+
+    private final ObjectMapper mapper;
+    private final int maxBodySize;
+
+    JsonBodyDecoder(ObjectMapper mapper, int maxBodySize) {
+        this.mapper = mapper;
+        this.maxBodySize = maxBodySize;
+    }
+
+    Mono<Body> decode(Flux<DataBuffer> buffers, WireFormat format) {
+        return Mono.using(() -> new Tokenizer(format),
+                tokenizer -> buffers.<Void>handle((buffer, sink) -> {
+                            try {
+                                tokenizer.feed(buffer);
+                            } catch (IOException e) {
+                                sink.error(e);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .then(Mono.fromCallable(tokenizer::finish)),
+                Tokenizer::close);
+    }
+
+    private final class Tokenizer {
+        private final WireFormat format;
+        private JsonParser parser;
+        private TokenBuffer tokens;
+        // The body so far, for the binary formats
+        private byte[] collected;
+        private int size;
+        private int depth;
+        private boolean started;
+        private long nanos;
+
+        Tokenizer(WireFormat format) throws IOException {
+            this.format = format;
+            if (format.isBinary()) {
+                collected = new byte[256];
+            } else {
+                parser = mapper.getFactory().createNonBlockingByteBufferParser();
+                tokens = new TokenBuffer(parser, mapper.getDeserializationContext());
+            }
+        }
+
+        void feed(DataBuffer buffer) throws IOException {
+            size += buffer.readableByteCount();
+            if (size > maxBodySize) {
+                throw new DataBufferLimitException("Request body exceeds " + maxBodySize + " bytes");
+            }
+            if (collected != null) {
+                int length = buffer.readableByteCount();
+                if (size > collected.length) {
+                    collected = Arrays.copyOf(collected, Math.min(Math.max(size, collected.length * 2), maxBodySize));
+                }
+                buffer.read(collected, size - length, length);
+                return;
+            }
+            long start = System.nanoTime();
+            try (DataBuffer.ByteBufferIterator readable = buffer.readableByteBuffers()) {
+                while (readable.hasNext()) {
+                    ByteBuffer bytes = readable.next();
+                    ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes);
+                    // The parser reads straight from the buffer, so it must be drained before the buffer is released
+                    drain();
+                }
+            }
+            nanos += System.nanoTime() - start;
+        }
+
+        Body finish() throws IOException {
+            long start = System.nanoTime();
+            if (collected != null) {
+                parser = format.mapper().createParser(collected, 0, size);
+                tokens = new TokenBuffer(parser, mapper.getDeserializationContext());
+            } else {
+                parser.getNonBlockingInputFeeder().endOfInput();
+            }
+            drain();
+            if (!started || depth != 0) {
+                throw new JsonEOFException(parser, JsonToken.NOT_AVAILABLE, "Unexpected end of body");
+            }
+            return new Body(tokens, nanos + System.nanoTime() - start);
+        }
+
+        // NOT_AVAILABLE means the parser needs more input; it also ends the stream after endOfInput
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                started = true;
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                tokens.copyCurrentEvent(parser);
+            }
+        }
+
+        void close() {
+            if (parser == null) {
+                return;
+            }
+            try {
+                parser.close();
+            } catch (IOException e) {
+                // Nothing is held open for a byte-fed parser
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package validator.reactive;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import jakarta.annotation.Nullable;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import validator.currency.CurrencyConverter;
+import validator.currency.UnknownCurrencyException;
+import validator.duplicate.DuplicateTransactions;
+import validator.metrics.ValidationMetrics;
+import validator.payload.*;
+import validator.response.EncodedResponse;
+import validator.response.ErrorBody;
+import validator.response.RejectedRequestException;
+import validator.response.Responses;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * The {@link validator.controller.ValidationController} endpoints on WebFlux, served when
+ * {@code spring.main.web-application-type=reactive}. Bodies are tokenized by {@link JsonBodyDecoder} as they
+ * arrive; binding and validation then run once, on the thread that delivered the last buffer. Both are a few
+ * microseconds of CPU with no I/O, so they do not hold up the event loop. Responses match the MVC controller:
+ * the same pre-encoded {@link Responses}, and the same {@link ErrorBody} for rejected and malformed bodies.
+ * Smile and CBOR bodies are accepted and answered in kind, as there.
+ */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveValidationController {
+
+    private final ObjectMapper mapper;
+    private final Validator validator;
+    private final ValidationMetrics metrics;
+    private final CurrencyConverter converter;
+    private final DuplicateTransactions duplicates;
+    private final JsonBodyDecoder decoder;
+
+    // The application's ObjectMapper, as for @RequestBody in MVC: same binding rules and deserializer cache
+    public ReactiveValidationController(ObjectMapper mapper, Validator validator, @Nullable ValidationMetrics metrics,
+                                        CurrencyConverter converter, @Nullable DuplicateTransactions duplicates,
+                                        @Value("${spring.codec.max-in-memory-size:262144}") int maxBodySize) {
+        this.mapper = mapper;
+        this.validator = validator;
+        this.metrics = metrics;
+        this.converter = converter;
+        this.duplicates = duplicates;
+        this.decoder = new JsonBodyDecoder(mapper, maxBodySize);
+    }
+
+    @PostMapping(value = "/validate", consumes = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<byte[]>> validateRequest(ServerHttpRequest request) {
+        return bind(request, ValidationClass.class)
+                .map(valid -> Responses.REQUEST_VALID.entity());
+    }
+
+    @PostMapping(value = "/validate/transaction", consumes = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<byte[]>> validateTransaction(ServerHttpRequest request) {
+        return bind(request, TransactionRequestValidator.Transaction.class).map(transaction -> {
+            if (duplicates != null && !duplicates.firstSeen(transaction)) {
+                return Responses.DUPLICATE_TRANSACTION.in(format(request)).entity();
+            }
+            return Responses.TRANSACTION_VALID.entity();
+        });
+    }
+
+    @PostMapping(value = "/validate/create", consumes = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<byte[]>> createUser(ServerHttpRequest request) {
+        return bind(request, UserAccountRequest.class).map(user -> {
+            if (user.getEmailVerified() != null && !user.getEmailVerified()) {
+                return Responses.EMAIL_NOT_VERIFIED.in(format(request)).entity();
+            }
+            return Responses.USER_CREATED.entity();
+        });
+    }
+
+    @PostMapping(value = "/convert", consumes = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<?>> convertCurrency(ServerHttpRequest request) {
+        WireFormat format = format(request);
+        return bind(request, CurrencyConversionRequest.class).map(conversion -> {
+            if (conversion.getAmount() == null) {
+                return Responses.AMOUNT_REQUIRED.in(format).entity();
+            }
+            try {
+                return ok(converter.convert(conversion.getFromCurrency(), conversion.getToCurrency(), conversion.getAmount()), format);
+            } catch (UnknownCurrencyException e) {
+                return Responses.unknownCurrency(e, conversion.getFromCurrency()).in(format).entity();
+            }
+        });
+    }
+
+    // Bodies are capped by spring.codec.max-in-memory-size here, so batches are far smaller than on MVC
+    @PostMapping(value = "/convert/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, WireFormat.SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<?>> convertCurrencies(ServerHttpRequest request) {
+        WireFormat format = format(request);
+        return bind(request, CurrencyBatchRequest.class).map(batch -> {
+            int invalid = CurrencyConverter.firstInvalidAmount(batch.getAmounts());
+            if (invalid >= 0) {
+                return Responses.invalidAmount(invalid).in(format).entity();
+            }
+            try {
+                return ok(converter.convertAll(batch.getFromCurrency(), batch.getToCurrency(), batch.getAmounts()), format);
+            } catch (UnknownCurrencyException e) {
+                return Responses.unknownCurrency(e, batch.getFromCurrency()).in(format).entity();
+            }
+        });
+    }
+
+    @PostMapping("/validate/user")
+    public Mono<ResponseEntity<byte[]>> validateUserPayload(ServerHttpRequest request) {
+        WireFormat format = format(request);
+        return decode(request, format)
+                .map(body -> {
+                    long start = System.nanoTime();
+                    try (JsonParser parser = body.tokens().asParser(mapper)) {
+                        ValidationOutcome outcome = UserVerificationValidator.validate(parser);
+                        record("UserVerificationValidator", body.parseNanos() + System.nanoTime() - start, outcome);
+                        return switch (outcome) {
+                            case VALID -> Responses.USER_VERIFICATION_VALID.entity();
+                            case INVALID -> Responses.USER_VERIFICATION_INVALID.entity();
+                            case MISSING_FIELDS -> Responses.MISSING_FIELDS.in(format).entity();
+                        };
+                    } catch (IOException e) {
+                        return parseFailure("UserVerificationValidator", format);
+                    }
+                })
+                .onErrorResume(IOException.class, e -> Mono.just(parseFailure("UserVerificationValidator", format)));
+    }
+
+    @PostMapping("/validate/pagination")
+    public Mono<ResponseEntity<byte[]>> validatePaginationPayload(ServerHttpRequest request) {
+        WireFormat format = format(request);
+        return decode(request, format)
+                .map(body -> {
+                    long start = System.nanoTime();
+                    try (JsonParser parser = body.tokens().asParser(mapper)) {
+                        ValidationOutcome outcome = PaginationValidator.validate(parser);
+                        record("PaginationValidator", body.parseNanos() + System.nanoTime() - start, outcome);
+                        return switch (outcome) {
+                            case VALID -> Responses.PAGINATION_VALID.entity();
+                            case INVALID -> Responses.PAGINATION_INVALID.entity();
+                            case MISSING_FIELDS -> Responses.MISSING_FIELDS.in(format).entity();
+                        };
+                    } catch (IOException e) {
+                        return parseFailure("PaginationValidator", format);
+                    }
+                })
+                .onErrorResume(IOException.class, e -> Mono.just(parseFailure("PaginationValidator", format)));
+    }
+
+    // Binds and validates the body; malformed and invalid bodies end in a 400 ErrorBody, as with @Valid @RequestBody
+    private <T> Mono<T> bind(ServerHttpRequest request, Class<T> type) {
+        WireFormat format = format(request);
+        return decode(request, format)
+                .map(body -> {
+                    long start = System.nanoTime();
+                    T payload;
+                    try (JsonParser parser = body.tokens().asParser(mapper)) {
+                        payload = mapper.readValue(parser, type);
+                    } catch (IOException e) {
+                        throw new RejectedRequestException(Responses.MALFORMED_JSON.in(format));
+                    }
+                    if (metrics != null) {
+                        metrics.deserialized(ValidationMetrics.type(type), body.parseNanos() + System.nanoTime() - start);
+                    }
+                    Set<ConstraintViolation<T>> violations = validator.validate(payload);
+                    if (!violations.isEmpty()) {
+                        throw new RejectedRequestException(
+                                EncodedResponse.json(HttpStatus.BAD_REQUEST, ErrorBody.of(violations)).in(format));
+                    }
+                    return payload;
+                })
+                .onErrorMap(IOException.class, e -> new RejectedRequestException(Responses.MALFORMED_JSON.in(format)));
+    }
+
+    private Mono<JsonBodyDecoder.Body> decode(ServerHttpRequest request, WireFormat format) {
+        return decoder.decode(request.getBody(), format)
+                .onErrorMap(DataBufferLimitException.class, e -> new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e));
+    }
+
+    private ResponseEntity<byte[]> parseFailure(String type, WireFormat format) {
+        if (metrics != null) {
+            metrics.outcome(type, ValidationMetrics.MALFORMED);
+        }
+        return Responses.MALFORMED_JSON.in(format).entity();
+    }
+
+    // WebFlux has no CBOR encoder for single values, so binary results are encoded here; JSON is left to the codecs
+    private static ResponseEntity<?> ok(Object result, WireFormat format) {
+        if (!format.isBinary()) {
+            return ResponseEntity.ok().contentType(format.mediaType()).body(result);
+        }
+        try {
+            return ResponseEntity.ok().contentType(format.mediaType()).body(format.mapper().writeValueAsBytes(result));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static WireFormat format(ServerHttpRequest request) {
+        return WireFormat.of(request.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+    }
+
+    @ExceptionHandler(RejectedRequestException.class)
+    public ResponseEntity<byte[]> rejected(RejectedRequestException e) {
+        return e.getResponse().entity();
+    }
+
+    private void record(String type, long nanos, ValidationOutcome outcome) {
+        if (metrics != null) {
+            metrics.validated(type, nanos, switch (outcome) {
+                case VALID -> ValidationMetrics.VALID;
+                // Well-formed, but without a required field
+                case INVALID, MISSING_FIELDS -> ValidationMetrics.INVALID;
+            });
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package validator.response;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import validator.payload.WireFormat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A status and a body already encoded as UTF-8, with its Content-Type and Content-Length headers.
+ * <p>
+ * MVC handlers {@link #write} it straight to the servlet response, skipping message converters and content
+ * negotiation. WebFlux handlers return {@link #entity()}, built once here, whose byte array the encoder wraps
+ * without copying. Instances are immutable and shared; see {@link Responses} for the fixed ones.
+ * <p>
+ * JSON bodies are also sent as Smile or CBOR to clients posting those ({@link #in}); text bodies are the same
+ * for every format.
+ */
+public final class EncodedResponse {
+
+    static final String TEXT = "text/plain;charset=UTF-8";
+
+    private final HttpStatus status;
+    private final String contentType;
+    private final byte[] body;
+    private final ResponseEntity<byte[]> entity;
+    // By WireFormat ordinal, for fixed JSON responses; others are transcoded when asked for
+    private final EncodedResponse[] formats;
+
+    private EncodedResponse(HttpStatus status, String contentType, byte[] body, boolean allFormats) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        headers.setContentLength(body.length);
+        this.entity = new ResponseEntity<>(body, headers, status);
+        if (allFormats) {
+            formats = new EncodedResponse[WireFormat.values().length];
+            for (WireFormat format : WireFormat.values()) {
+                formats[format.ordinal()] = format == WireFormat.JSON ? this
+                        : new EncodedResponse(status, format.contentType(), format.transcode(body), false);
+            }
+        } else {
+            formats = null;
+        }
+    }
+
+    public static EncodedResponse text(HttpStatus status, String message) {
+        return new EncodedResponse(status, TEXT, message.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    // json is an ErrorBody, or any other JSON already encoded; it is not copied
+    public static EncodedResponse json(HttpStatus status, byte[] json) {
+        return new EncodedResponse(status, WireFormat.JSON.contentType(), json, false);
+    }
+
+    // As json, with the Smile and CBOR bodies encoded now rather than on each request
+    static EncodedResponse fixedJson(HttpStatus status, byte[] json) {
+        return new EncodedResponse(status, WireFormat.JSON.contentType(), json, true);
+    }
+
+    // This response for a client that posted format
+    public EncodedResponse in(WireFormat format) {
+        if (format == WireFormat.JSON || contentType.equals(TEXT)) {
+            return this;
+        }
+        if (formats != null) {
+            return formats[format.ordinal()];
+        }
+        return new EncodedResponse(status, format.contentType(), format.transcode(body), false);
+    }
+
+    public void write(HttpServletResponse response) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(contentType);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public ResponseEntity<byte[]> entity() {
+        return entity;
+    }
+
+    public int status() {
+        return status.value();
+    }
+
+    // The encoded body itself, not a copy
+    public byte[] body() {
+        return body;
+    }
+}
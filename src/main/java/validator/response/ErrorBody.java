@@ -0,0 +1,128 @@
+package validator.response;
+
+import jakarta.validation.ConstraintViolation;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * The JSON body of a rejected request, written byte by byte without Jackson or reflection:
+ * <pre>
+ * {"errors":[{"path":"amounts[1]","code":"Positive"}]}
+ * </pre>
+ * {@code path} is the property path of the field at fault, {@code ""} for the body as a whole, and {@code code}
+ * the simple name of the constraint it broke ({@code NotNull}, {@code Pattern}, ...) or one of the codes below.
+ * Messages are left out; clients map codes to their own.
+ */
+public final class ErrorBody {
+
+    // The body is not valid JSON, or not the expected shape
+    public static final String MALFORMED_JSON = "MalformedJson";
+    // A streaming validator found required fields missing
+    public static final String MISSING_FIELDS = "MissingFields";
+    public static final String UNKNOWN_CURRENCY = "UnknownCurrency";
+    // The transaction was accepted before, within the duplicate window
+    public static final String DUPLICATE = "Duplicate";
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] json = new byte[64];
+    private int length;
+    private int errors;
+
+    public ErrorBody() {
+        ascii("{\"errors\":[");
+    }
+
+    public ErrorBody add(CharSequence path, String code) {
+        if (errors++ > 0) {
+            put((byte) ',');
+        }
+        ascii("{\"path\":");
+        string(path);
+        ascii(",\"code\":");
+        string(code);
+        put((byte) '}');
+        return this;
+    }
+
+    public byte[] toBytes() {
+        byte[] body = Arrays.copyOf(json, length + 2);
+        body[length] = ']';
+        body[length + 1] = '}';
+        return body;
+    }
+
+    public static byte[] of(CharSequence path, String code) {
+        return new ErrorBody().add(path, code).toBytes();
+    }
+
+    // In the order the validator reports them, which for a HashSet is none in particular
+    public static byte[] of(Set<? extends ConstraintViolation<?>> violations) {
+        ErrorBody body = new ErrorBody();
+        for (ConstraintViolation<?> violation : violations) {
+            body.add(violation.getPropertyPath().toString(),
+                    violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName());
+        }
+        return body.toBytes();
+    }
+
+    // Spring binding errors, as for @Valid @RequestBody; an error code is the constraint's simple name
+    public static byte[] of(Errors errors) {
+        ErrorBody body = new ErrorBody();
+        for (ObjectError error : errors.getAllErrors()) {
+            body.add(error instanceof FieldError field ? field.getField() : "", error.getCode());
+        }
+        return body.toBytes();
+    }
+
+    private void string(CharSequence value) {
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (c < 0x20) {
+                ascii("\\u00");
+                put(HEX[c >> 4]);
+                put(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else if (c < 0x800) {
+                put((byte) (0xC0 | c >> 6));
+                put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                put((byte) (0xF0 | codePoint >> 18));
+                put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                // A lone surrogate becomes U+FFFD, so the body stays valid UTF-8
+                char bmp = Character.isSurrogate(c) ? '\uFFFD' : c;
+                put((byte) (0xE0 | bmp >> 12));
+                put((byte) (0x80 | bmp >> 6 & 0x3F));
+                put((byte) (0x80 | bmp & 0x3F));
+            }
+        }
+        put((byte) '"');
+    }
+
+    private void ascii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            put((byte) value.charAt(i));
+        }
+    }
+
+    private void put(byte b) {
+        if (length == json.length) {
+            json = Arrays.copyOf(json, length * 2);
+        }
+        json[length++] = b;
+    }
+}
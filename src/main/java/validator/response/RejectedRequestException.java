@@ -0,0 +1,19 @@
+package validator.response;
+
+/**
+ * Ends a reactive handler with an {@link EncodedResponse}, usually a 400 with an {@link ErrorBody}.
+ * Thrown for every rejected body, so it has no stack trace.
+ */
+public class RejectedRequestException extends RuntimeException {
+
+    private final EncodedResponse response;
+
+    public RejectedRequestException(EncodedResponse response) {
+        super(null, null, false, false);
+        this.response = response;
+    }
+
+    public EncodedResponse getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,48 @@
+package validator.response;
+
+import org.springframework.http.HttpStatus;
+import validator.currency.UnknownCurrencyException;
+
+/**
+ * The fixed responses of the validation endpoints, encoded once. Successes keep their plain-text messages;
+ * failures are {@link ErrorBody} JSON, encoded as Smile and CBOR too.
+ */
+public final class Responses {
+
+    public static final EncodedResponse REQUEST_VALID = EncodedResponse.text(HttpStatus.OK, "Request validated successfully");
+    public static final EncodedResponse TRANSACTION_VALID = EncodedResponse.text(HttpStatus.OK, "Transaction is valid.");
+    public static final EncodedResponse USER_CREATED = EncodedResponse.text(HttpStatus.OK, "User account created successfully.");
+    public static final EncodedResponse USER_VERIFICATION_VALID = EncodedResponse.text(HttpStatus.OK, "User Verification Payload Valid");
+    public static final EncodedResponse USER_VERIFICATION_INVALID = EncodedResponse.text(HttpStatus.OK, "Invalid User Verification Payload");
+    public static final EncodedResponse PAGINATION_VALID = EncodedResponse.text(HttpStatus.OK, "Pagination Payload Valid");
+    public static final EncodedResponse PAGINATION_INVALID = EncodedResponse.text(HttpStatus.OK, "Invalid Pagination Payload");
+
+    public static final EncodedResponse DUPLICATE_TRANSACTION = fixed(HttpStatus.CONFLICT, "", ErrorBody.DUPLICATE);
+    public static final EncodedResponse EMAIL_NOT_VERIFIED = fixed(HttpStatus.BAD_REQUEST, "emailVerified", "AssertTrue");
+    public static final EncodedResponse AMOUNT_REQUIRED = fixed(HttpStatus.BAD_REQUEST, "amount", "NotNull");
+    public static final EncodedResponse MISSING_FIELDS = fixed(HttpStatus.BAD_REQUEST, "", ErrorBody.MISSING_FIELDS);
+    public static final EncodedResponse MALFORMED_JSON = fixed(HttpStatus.BAD_REQUEST, "", ErrorBody.MALFORMED_JSON);
+    public static final EncodedResponse UNKNOWN_FROM_CURRENCY = fixed(HttpStatus.BAD_REQUEST, "fromCurrency", ErrorBody.UNKNOWN_CURRENCY);
+    public static final EncodedResponse UNKNOWN_TO_CURRENCY = fixed(HttpStatus.BAD_REQUEST, "toCurrency", ErrorBody.UNKNOWN_CURRENCY);
+
+    private Responses() {
+    }
+
+    private static EncodedResponse fixed(HttpStatus status, String path, String code) {
+        return EncodedResponse.fixedJson(status, ErrorBody.of(path, code));
+    }
+
+    public static EncodedResponse error(HttpStatus status, String path, String code) {
+        return EncodedResponse.json(status, ErrorBody.of(path, code));
+    }
+
+    // Names whichever currency of the request had no rate
+    public static EncodedResponse unknownCurrency(UnknownCurrencyException e, String fromCurrency) {
+        return e.getCurrency().equals(fromCurrency) ? UNKNOWN_FROM_CURRENCY : UNKNOWN_TO_CURRENCY;
+    }
+
+    // amounts[index] was not positive
+    public static EncodedResponse invalidAmount(int index) {
+        return error(HttpStatus.BAD_REQUEST, "amounts[" + index + "]", "Positive");
+    }
+}
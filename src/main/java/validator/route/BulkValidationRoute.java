@@ -0,0 +1,140 @@
+package validator.route;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.Validator;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.SplitDefinition;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import validator.payload.ValidationClass;
+import validator.payload.ValidationResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Validates NDJSON files dropped into {@code bulk.validation.input}, one {@link ValidationClass} per line.
+ * <p>
+ * The file is split in streaming mode and lines are validated in parallel on a bounded pool; when
+ * {@code bulk.validation.max-pending} lines are queued the reading thread validates the next one itself,
+ * so memory stays bounded however large the file is. Valid records go to {@code direct:processValidPayload}
+ * with the parsed object as body, invalid ones are appended to {@code <dead-letter>/<file>.rejected} as
+ * {@code {"line":n,"errors":"...","record":"..."}}.
+ * <p>
+ * With {@code bulk.validation.ordered=true} records are handed on in input order, and a line more than
+ * {@code max-pending} lines ahead of the next one to hand on waits before it is validated; otherwise each one
+ * is handed on by the thread that validated it.
+ */
+@Component
+@ConditionalOnProperty(name = "bulk.validation.input")
+public class BulkValidationRoute extends RouteBuilder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = MAPPER.readerFor(ValidationClass.class);
+
+    private final Validator validator;
+    private final String input;
+    private final String deadLetter;
+    private final int threads;
+    private final int maxPending;
+    private final boolean ordered;
+
+    public BulkValidationRoute(Validator validator,
+                               @Value("${bulk.validation.input}") String input,
+                               @Value("${bulk.validation.dead-letter:${bulk.validation.input}/.rejected}") String deadLetter,
+                               @Value("${bulk.validation.threads:4}") int threads,
+                               @Value("${bulk.validation.max-pending:1000}") int maxPending,
+                               @Value("${bulk.validation.ordered:false}") boolean ordered) {
+        this.validator = validator;
+        this.input = input;
+        this.deadLetter = deadLetter;
+        this.threads = threads;
+        this.maxPending = maxPending;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public void configure() throws Exception {
+        ExecutorService executor = getContext().getExecutorServiceManager().newThreadPool(this, "BulkValidation",
+                new ThreadPoolProfileBuilder("bulkValidation")
+                        .poolSize(threads)
+                        .maxPoolSize(threads)
+                        .maxQueueSize(maxPending)
+                        .rejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns)
+                        .build());
+
+        RouteDefinition route = from("file:" + input + "?move=.done&moveFailed=.failed&readLock=changed")
+                .routeId("bulkValidation");
+        InputOrderDelivery delivery = ordered ? new InputOrderDelivery(getContext().createProducerTemplate(), maxPending) : null;
+        if (ordered) {
+            route.process(delivery::begin);
+        }
+        SplitDefinition split = route
+                .split(body().tokenize("\n")).streaming()
+                .parallelProcessing().executorService(executor);
+
+        if (ordered) {
+            split.aggregationStrategy(delivery)
+                    .process(delivery::awaitTurn)
+                    .process(BulkValidationRoute.this::validateRecord);
+        } else {
+            split.process(BulkValidationRoute.this::validateRecord)
+                    .choice()
+                        .when(header(ValidationRoute.VALIDATION_VALID).isEqualTo(true))
+                            .to("direct:processValidPayload")
+                        .when(header(ValidationRoute.VALIDATION_VALID).isEqualTo(false))
+                            .to("direct:bulkDeadLetter")
+                    .end();
+        }
+        split.end()
+                .log("Validated ${header.CamelFileName}");
+
+        from("direct:bulkDeadLetter")
+                .process(BulkValidationRoute::deadLetterLine)
+                .to("file:" + deadLetter + "?fileName=${header.CamelFileName}.rejected&fileExist=Append");
+    }
+
+    // Sets ValidationValid (absent for blank lines) and, for valid lines, the parsed object as body
+    private void validateRecord(Exchange exchange) {
+        Message in = exchange.getIn();
+        String line = in.getBody(String.class).strip();
+        if (line.isEmpty()) {
+            return;
+        }
+        ValidationResult<ValidationClass> result;
+        try {
+            ValidationClass record = READER.readValue(line);
+            result = ValidationResult.of(record, validator.validate(record));
+        } catch (JsonProcessingException e) {
+            result = ValidationResult.invalid("Failed to parse JSON: " + e.getOriginalMessage());
+        }
+
+        in.setHeader(ValidationRoute.VALIDATION_VALID, result.isValid());
+        switch (result) {
+            case ValidationResult.Valid<ValidationClass> valid -> in.setBody(valid.value());
+            case ValidationResult.Invalid<ValidationClass> invalid -> {
+                in.setHeader(ValidationRoute.VALIDATION_ERRORS, invalid.message());
+                in.setBody(line);
+            }
+        }
+    }
+
+    private static void deadLetterLine(Exchange exchange) throws JsonProcessingException {
+        Message in = exchange.getIn();
+        Map<String, Object> entry = new LinkedHashMap<>();
+        // 1-based, as editors count lines
+        entry.put("line", exchange.getProperty(Exchange.SPLIT_INDEX, Integer.class) + 1);
+        entry.put("errors", in.getHeader(ValidationRoute.VALIDATION_ERRORS));
+        entry.put("record", in.getBody(String.class));
+        in.setBody(MAPPER.writeValueAsString(entry) + "\n");
+    }
+}
@@ -0,0 +1,90 @@
+package validator.route;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands validated split records on in input order.
+ * <p>
+ * A streaming parallel split aggregates records as they complete, one at a time; records that
+ * arrive ahead of their turn wait here until the gap is filled. A record only starts once it is
+ * within {@code maxPending} lines of the next one to hand on ({@link #awaitTurn}), so one slow line
+ * holds back the lines after it instead of letting them pile up: fewer than {@code maxPending}
+ * records are ever waiting.
+ */
+final class InputOrderDelivery implements AggregationStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InputOrderDelivery.class);
+    // Set on the file exchange before the split, so every record of a file shares it
+    private static final String STATE = "BulkValidationOrder";
+
+    private final ProducerTemplate template;
+    private final int maxPending;
+
+    InputOrderDelivery(ProducerTemplate template, int maxPending) {
+        this.template = template;
+        this.maxPending = maxPending;
+    }
+
+    private static final class Pending {
+        final Map<Integer, Exchange> waiting = new HashMap<>();
+        int next;
+    }
+
+    // Before the split: the order state of this file
+    void begin(Exchange file) {
+        file.setProperty(STATE, new Pending());
+    }
+
+    // In the split, before the record is processed: blocks while it is maxPending or more lines ahead
+    void awaitTurn(Exchange record) throws InterruptedException {
+        Pending pending = record.getProperty(STATE, Pending.class);
+        int index = record.getProperty(Exchange.SPLIT_INDEX, Integer.class);
+        synchronized (pending) {
+            while (index - pending.next >= maxPending) {
+                pending.wait();
+            }
+        }
+    }
+
+    @Override
+    public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+        Pending pending = newExchange.getProperty(STATE, Pending.class);
+        synchronized (pending) {
+            pending.waiting.put(newExchange.getProperty(Exchange.SPLIT_INDEX, Integer.class), newExchange);
+            int next = pending.next;
+            for (Exchange record; (record = pending.waiting.remove(pending.next)) != null; pending.next++) {
+                deliver(record);
+            }
+            if (pending.next != next) {
+                pending.notifyAll();
+            }
+        }
+        return oldExchange != null ? oldExchange : newExchange;
+    }
+
+    private void deliver(Exchange record) {
+        Boolean valid = record.getIn().getHeader(ValidationRoute.VALIDATION_VALID, Boolean.class);
+        if (valid == null || record.getException() != null) {
+            // Blank line, or the record already failed in the split
+            return;
+        }
+        Exchange sent = template.send(valid ? "direct:processValidPayload" : "direct:bulkDeadLetter", record);
+        if (sent.getException() != null) {
+            LOG.warn("Line {} could not be delivered", record.getProperty(Exchange.SPLIT_INDEX, Integer.class) + 1, sent.getException());
+        }
+    }
+
+    @Override
+    public void onCompletion(Exchange exchange) {
+        if (exchange != null) {
+            exchange.removeProperty(STATE);
+        }
+    }
+}
@@ -1,41 +1,86 @@
 package validator.route;
 
-import jakarta.validation.ConstraintViolation;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Predicate;
 import org.apache.camel.builder.RouteBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.camel.component.jackson.JacksonDataFormat;
+import org.apache.camel.model.RouteDefinition;
+import jakarta.annotation.Nullable;
 import org.springframework.stereotype.Component;
+import validator.metrics.ValidationMetrics;
 import validator.payload.ValidationClass;
+import validator.payload.ValidationResult;
+import validator.payload.WireFormat;
 
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import java.util.Set;
 
+/**
+ * Validates a {@link ValidationClass} sent to {@code direct:validatePayload} and hands valid ones on to
+ * {@code direct:processValidPayload}. The body is JSON, or Smile or CBOR when the {@code Content-Type} header
+ * names them ({@link WireFormat}); the constraints are the same for all three.
+ */
 @Component
 public class ValidationRoute extends RouteBuilder {
 
+    // Set on every exchange; invalid payloads also carry the errors and stop here instead of throwing
+    public static final String VALIDATION_VALID = "ValidationValid";
+    public static final String VALIDATION_ERRORS = "ValidationErrors";
+
+    private static final String UNMARSHAL_START = "ValidationUnmarshalStart";
+
+    // Shared, Spring-managed validator (see ValidatorApplication.ValidationConfig)
+    private final Validator validator;
+    private final ValidationMetrics metrics;
+
+    public ValidationRoute(Validator validator, @Nullable ValidationMetrics metrics) {
+        this.validator = validator;
+        this.metrics = metrics;
+    }
+
     @Override
     public void configure() throws Exception {
-        from("direct:validatePayload")
-                .unmarshal(new JacksonDataFormat(ValidationClass.class))
+        RouteDefinition route = from("direct:validatePayload");
+        if (metrics != null) {
+            route.process(exchange -> exchange.setProperty(UNMARSHAL_START, System.nanoTime()));
+        }
+        route.choice()
+                    .when(wireFormat(WireFormat.SMILE))
+                        .unmarshal(dataFormat(WireFormat.SMILE))
+                    .when(wireFormat(WireFormat.CBOR))
+                        .unmarshal(dataFormat(WireFormat.CBOR))
+                    .otherwise()
+                        .unmarshal(new JacksonDataFormat(ValidationClass.class))
+                .end()
                 .process(exchange -> {
+                    if (metrics != null) {
+                        metrics.deserialized("ValidationClass", System.nanoTime() - exchange.getProperty(UNMARSHAL_START, Long.class));
+                    }
                     ValidationClass request = exchange.getIn().getBody(ValidationClass.class);
 
                     // Use Bean Validation to validate the parsed object
-                    ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-                    Validator validator = factory.getValidator();
-                    Set<ConstraintViolation<ValidationClass>> violations = validator.validate(request);
-
-                    if (!violations.isEmpty()) {
-                        // Handle validation errors, e.g., throw an exception
-                        StringBuilder errorMessage = new StringBuilder("Validation failed: ");
-                        for (ConstraintViolation<ValidationClass> violation : violations) {
-                            errorMessage.append(violation.getMessage()).append("; ");
-                        }
-                        throw new IllegalArgumentException(errorMessage.toString());
-                    }
+                    ValidationResult<ValidationClass> result = ValidationResult.of(request, validator.validate(request));
 
+                    Message in = exchange.getIn();
+                    in.setHeader(VALIDATION_VALID, result.isValid());
+                    if (result instanceof ValidationResult.Invalid<ValidationClass> invalid) {
+                        in.setHeader(VALIDATION_ERRORS, invalid.message());
+                        in.setHeader(Exchange.HTTP_RESPONSE_CODE, 400);
+                        in.setBody(invalid.message());
+                    }
                 })
+                .filter(header(VALIDATION_VALID))
                 .to("direct:processValidPayload");
     }
+
+    // The body is in format, by the same Content-Type matching as the controllers
+    private static Predicate wireFormat(WireFormat format) {
+        return exchange -> WireFormat.of(exchange.getIn().getHeader(Exchange.CONTENT_TYPE, String.class)) == format;
+    }
+
+    // A mapper of its own, as the data format may configure it
+    private static JacksonDataFormat dataFormat(WireFormat format) {
+        return new JacksonDataFormat(new ObjectMapper(format.newFactory()), ValidationClass.class);
+    }
 }
@@ -0,0 +1,268 @@
+package validator.rules;
+
+import jakarta.validation.Path;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import validator.codegen.Checks;
+import validator.codegen.SimplePath;
+import validator.constraint.PatternMatcher;
+import validator.constraint.PatternMatchers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * One line of a {@link RuleSchema}: a check of one property, compiled to a method handle that reads the field and
+ * tests its value, and the violation it reports when the test fails.
+ */
+final class Rule {
+
+    enum Kind {
+        NOT_NULL("notNull"), NOT_BLANK("notBlank"), PATTERN("pattern"), EMAIL("email"), ONE_OF("oneOf"),
+        MIN("min"), MAX("max"), SIZE("size");
+
+        final String keyword;
+
+        Kind(String keyword) {
+            this.keyword = keyword;
+        }
+
+        static Kind of(String keyword) {
+            for (Kind kind : values()) {
+                if (kind.keyword.equals(keyword)) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("unknown rule " + keyword);
+        }
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle NON_NULL = find(Objects.class, "nonNull", boolean.class, Object.class);
+    private static final MethodHandle NOT_BLANK = find(Checks.class, "notBlank", boolean.class, CharSequence.class);
+    private static final MethodHandle MATCHES = find(Rule.class, "matches", boolean.class, PatternMatcher.class, CharSequence.class);
+    private static final MethodHandle EMAIL = find(Rule.class, "isEmail", boolean.class, CharSequence.class);
+    private static final MethodHandle ONE_OF = find(Rule.class, "oneOf", boolean.class, Set.class, String.class);
+    private static final MethodHandle LONG_RANGE = find(Rule.class, "inRange", boolean.class, long.class, long.class, long.class);
+    private static final MethodHandle DOUBLE_RANGE = find(Rule.class, "inRange", boolean.class, long.class, long.class, double.class);
+    private static final MethodHandle NUMBER_RANGE = find(Rule.class, "inRange", boolean.class, long.class, long.class, Number.class);
+    private static final MethodHandle SIZE = find(Rule.class, "hasSize", boolean.class, int.class, int.class, Object.class);
+    private static final MethodHandle VALID = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+
+    private static final java.util.regex.Pattern VALUE = java.util.regex.Pattern.compile("[\\w-]+");
+
+    final String property;
+    final Kind kind;
+    // (Object bean)boolean, true when the rule holds
+    final MethodHandle test;
+    // (Object bean)Object, the property's value for the violation
+    final MethodHandle value;
+    final Path path;
+    final RuleDescriptor descriptor;
+    final String message;
+
+    private Rule(String property, Kind kind, MethodHandle test, MethodHandle value, RuleDescriptor descriptor, String message) {
+        this.property = property;
+        this.kind = kind;
+        this.test = test;
+        this.value = value;
+        this.path = SimplePath.property(property);
+        this.descriptor = descriptor;
+        this.message = message;
+    }
+
+    static Rule compile(Class<?> type, String property, Kind kind, String[] arguments) {
+        MethodHandle get = getter(type, property);
+        Class<?> valueType = get.type().returnType();
+        MethodHandle value = get.asType(MethodType.methodType(Object.class, Object.class));
+        return switch (kind) {
+            case NOT_NULL -> {
+                arguments(kind, arguments, 0);
+                // A primitive is never null, as with @NotNull on one
+                MethodHandle test = valueType.isPrimitive() ? VALID : MethodHandles.filterReturnValue(value, NON_NULL);
+                yield new Rule(property, kind, test, value, RuleDescriptor.of(NotNull.class, Map.of()), "must not be null");
+            }
+            case NOT_BLANK -> {
+                arguments(kind, arguments, 0);
+                yield new Rule(property, kind, test(get, CharSequence.class, NOT_BLANK, kind), value,
+                        RuleDescriptor.of(NotBlank.class, Map.of()), "must not be blank");
+            }
+            case PATTERN -> {
+                String regexp = arguments(kind, arguments, 1)[0];
+                MethodHandle matches = MethodHandles.insertArguments(MATCHES, 0, PatternMatchers.compile(regexp));
+                yield new Rule(property, kind, test(get, CharSequence.class, matches, kind), value,
+                        RuleDescriptor.of(Pattern.class, Map.of("regexp", regexp)), "must match \"" + regexp + "\"");
+            }
+            case EMAIL -> {
+                arguments(kind, arguments, 0);
+                yield new Rule(property, kind, test(get, CharSequence.class, EMAIL, kind), value,
+                        RuleDescriptor.of(Email.class, Map.of()), "must be a well-formed email address");
+            }
+            case ONE_OF -> {
+                if (arguments.length == 0) {
+                    throw new IllegalArgumentException("oneOf expects at least one value");
+                }
+                for (String argument : arguments) {
+                    if (!VALUE.matcher(argument).matches()) {
+                        throw new IllegalArgumentException("oneOf values are letters, digits, _ and -, not " + argument);
+                    }
+                }
+                // Reported as the @Pattern it is equivalent to, but checked with a set lookup
+                String regexp = String.join("|", arguments);
+                MethodHandle oneOf = MethodHandles.insertArguments(ONE_OF, 0, Set.of(arguments));
+                yield new Rule(property, kind, test(get, String.class, oneOf, kind), value,
+                        RuleDescriptor.of(Pattern.class, Map.of("regexp", regexp)), "must match \"" + regexp + "\"");
+            }
+            case MIN -> {
+                long min = Long.parseLong(arguments(kind, arguments, 1)[0]);
+                yield new Rule(property, kind, range(get, min, Long.MAX_VALUE, kind), value,
+                        RuleDescriptor.of(Min.class, Map.of("value", min)), "must be greater than or equal to " + min);
+            }
+            case MAX -> {
+                long max = Long.parseLong(arguments(kind, arguments, 1)[0]);
+                yield new Rule(property, kind, range(get, Long.MIN_VALUE, max, kind), value,
+                        RuleDescriptor.of(Max.class, Map.of("value", max)), "must be less than or equal to " + max);
+            }
+            case SIZE -> {
+                String[] bounds = arguments(kind, arguments, 2);
+                int min = Integer.parseInt(bounds[0]);
+                int max = Integer.parseInt(bounds[1]);
+                if (!CharSequence.class.isAssignableFrom(valueType) && !Collection.class.isAssignableFrom(valueType)
+                        && !Map.class.isAssignableFrom(valueType)) {
+                    throw mismatch(kind, valueType);
+                }
+                MethodHandle size = MethodHandles.insertArguments(SIZE, 0, min, max);
+                yield new Rule(property, kind, MethodHandles.filterReturnValue(value, size), value,
+                        RuleDescriptor.of(Size.class, Map.of("min", min, "max", max)),
+                        "size must be between " + min + " and " + max);
+            }
+        };
+    }
+
+    // (Object bean)valueType for the named field of type or a superclass, private or not
+    static MethodHandle getter(Class<?> type, String property) {
+        for (Class<?> owner = type; owner != null && owner != Object.class; owner = owner.getSuperclass()) {
+            Field field;
+            try {
+                field = owner.getDeclaredField(property);
+            } catch (NoSuchFieldException e) {
+                continue;
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                break;
+            }
+            try {
+                MethodHandle get = MethodHandles.privateLookupIn(owner, LOOKUP).unreflectGetter(field);
+                return get.asType(get.type().changeParameterType(0, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("cannot read " + owner.getName() + "." + property, e);
+            }
+        }
+        throw new IllegalArgumentException(type.getName() + " has no property " + property);
+    }
+
+    // get's value, as the predicate's parameter type, passed to the predicate
+    private static MethodHandle test(MethodHandle get, Class<?> parameter, MethodHandle predicate, Kind kind) {
+        if (!parameter.isAssignableFrom(get.type().returnType())) {
+            throw mismatch(kind, get.type().returnType());
+        }
+        return MethodHandles.filterReturnValue(get.asType(get.type().changeReturnType(parameter)), predicate);
+    }
+
+    private static MethodHandle range(MethodHandle get, long min, long max, Kind kind) {
+        Class<?> valueType = get.type().returnType();
+        MethodHandle predicate;
+        if (valueType == long.class || valueType == int.class || valueType == short.class || valueType == byte.class) {
+            predicate = LONG_RANGE;
+        } else if (valueType == double.class || valueType == float.class) {
+            predicate = DOUBLE_RANGE;
+        } else if (Number.class.isAssignableFrom(valueType)) {
+            predicate = NUMBER_RANGE;
+        } else {
+            throw mismatch(kind, valueType);
+        }
+        predicate = MethodHandles.insertArguments(predicate, 0, min, max);
+        return MethodHandles.filterReturnValue(get.asType(get.type().changeReturnType(predicate.type().parameterType(0))), predicate);
+    }
+
+    private static String[] arguments(Kind kind, String[] arguments, int count) {
+        if (arguments.length != count) {
+            throw new IllegalArgumentException(kind.keyword + " expects " + count + " argument" + (count == 1 ? "" : "s"));
+        }
+        return arguments;
+    }
+
+    private static IllegalArgumentException mismatch(Kind kind, Class<?> valueType) {
+        return new IllegalArgumentException(kind.keyword + " does not apply to a " + valueType.getSimpleName());
+    }
+
+    private static MethodHandle find(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return LOOKUP.findStatic(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // The tests: null is valid for all but notNull and notBlank, as with the annotations
+
+    private static boolean matches(PatternMatcher matcher, CharSequence value) {
+        return value == null || matcher.matches(value);
+    }
+
+    private static boolean isEmail(CharSequence value) {
+        return value == null || Checks.isEmail(value);
+    }
+
+    private static boolean oneOf(Set<String> values, String value) {
+        return value == null || values.contains(value);
+    }
+
+    private static boolean inRange(long min, long max, long value) {
+        return value >= min && value <= max;
+    }
+
+    // NaN fails
+    private static boolean inRange(long min, long max, double value) {
+        return value >= min && value <= max;
+    }
+
+    private static boolean inRange(long min, long max, Number value) {
+        if (value == null) {
+            return true;
+        }
+        return value instanceof Double || value instanceof Float
+                ? inRange(min, max, value.doubleValue())
+                : inRange(min, max, value.longValue());
+    }
+
+    private static boolean hasSize(int min, int max, Object value) {
+        if (value == null) {
+            return true;
+        }
+        int size = switch (value) {
+            case CharSequence text -> text.length();
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            default -> throw new IllegalStateException("Not sized: " + value.getClass());
+        };
+        return size >= min && size <= max;
+    }
+
+    @Override
+    public String toString() {
+        return property + " " + kind.keyword;
+    }
+}
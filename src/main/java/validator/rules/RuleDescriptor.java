@@ -0,0 +1,168 @@
+package validator.rules;
+
+import jakarta.validation.ConstraintTarget;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ValidateUnwrappedValue;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The constraint a {@link Rule} reports as, with an annotation instance built from the rule's arguments, so
+ * violations carry the error codes and message arguments Spring derives from a declared constraint.
+ */
+final class RuleDescriptor implements ConstraintDescriptor<Annotation> {
+
+    private final Annotation annotation;
+    private final Map<String, Object> attributes;
+
+    private RuleDescriptor(Annotation annotation, Map<String, Object> attributes) {
+        this.annotation = annotation;
+        this.attributes = attributes;
+    }
+
+    // Attributes not given take the annotation's defaults
+    static RuleDescriptor of(Class<? extends Annotation> constraint, Map<String, Object> given) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (Method method : constraint.getDeclaredMethods()) {
+            String name = method.getName();
+            Object value = given.containsKey(name) ? given.get(name) : method.getDefaultValue();
+            if (!MethodType.methodType(method.getReturnType()).wrap().returnType().isInstance(value)) {
+                throw new IllegalArgumentException(constraint.getSimpleName() + "." + name + " cannot be " + value);
+            }
+            attributes.put(name, value);
+        }
+        if (!attributes.keySet().containsAll(given.keySet())) {
+            throw new IllegalArgumentException(constraint.getSimpleName() + " has no attribute among " + given.keySet());
+        }
+        Map<String, Object> values = Map.copyOf(attributes);
+        Annotation annotation = constraint.cast(Proxy.newProxyInstance(constraint.getClassLoader(),
+                new Class<?>[]{constraint}, new AnnotationHandler(constraint, values)));
+        return new RuleDescriptor(annotation, values);
+    }
+
+    @Override
+    public Annotation getAnnotation() {
+        return annotation;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return (String) attributes.get("message");
+    }
+
+    @Override
+    public Set<Class<?>> getGroups() {
+        return Set.of(Default.class);
+    }
+
+    @Override
+    public Set<Class<? extends Payload>> getPayload() {
+        return Set.of();
+    }
+
+    @Override
+    public ConstraintTarget getValidationAppliesTo() {
+        return ConstraintTarget.IMPLICIT;
+    }
+
+    @Override
+    public List<Class<? extends ConstraintValidator<Annotation, ?>>> getConstraintValidatorClasses() {
+        return List.of();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Set<ConstraintDescriptor<?>> getComposingConstraints() {
+        return Set.of();
+    }
+
+    @Override
+    public boolean isReportAsSingleViolation() {
+        return false;
+    }
+
+    @Override
+    public ValidateUnwrappedValue getValueUnwrapping() {
+        return ValidateUnwrappedValue.DEFAULT;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+    }
+
+    // An annotation instance as the JDK would build one, with equals, hashCode and toString per Annotation
+    private record AnnotationHandler(Class<? extends Annotation> type, Map<String, Object> attributes)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "annotationType" -> type;
+                case "equals" -> args.length == 1 && equalTo(args[0]);
+                case "hashCode" -> hash();
+                case "toString" -> text();
+                default -> copy(attributes.get(method.getName()));
+            };
+        }
+
+        private boolean equalTo(Object other) {
+            if (!type.isInstance(other)) {
+                return false;
+            }
+            try {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (!Objects.deepEquals(attributes.get(method.getName()), method.invoke(other))) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (ReflectiveOperationException e) {
+                return false;
+            }
+        }
+
+        // The members of the constraints rules report as are scalars and Object arrays
+        private int hash() {
+            int hash = 0;
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                int value = attribute.getValue() instanceof Object[] array ? Arrays.hashCode(array) : attribute.getValue().hashCode();
+                hash += (127 * attribute.getKey().hashCode()) ^ value;
+            }
+            return hash;
+        }
+
+        private String text() {
+            StringJoiner text = new StringJoiner(", ", "@" + type.getName() + "(", ")");
+            attributes.forEach((name, value) ->
+                    text.add(name + "=" + (value instanceof Object[] array ? Arrays.toString(array) : value)));
+            return text.toString();
+        }
+
+        private static Object copy(Object value) {
+            return value instanceof Object[] array ? array.clone() : value;
+        }
+    }
+}
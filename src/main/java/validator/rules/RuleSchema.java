@@ -0,0 +1,111 @@
+package validator.rules;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads the validation rules of one payload type from a text file, so they change without a redeploy. The first
+ * line names the type; each following line a property, a rule and the rule's arguments. Lines starting with
+ * {@code #} are comments:
+ * <pre>
+ * type validator.payload.UserAccountRequest
+ * country  notBlank
+ * country  pattern ^[A-Z]{2}$
+ * </pre>
+ * The rules are {@code notNull}, {@code notBlank}, {@code pattern <regexp>} (the rest of the line),
+ * {@code email}, {@code min <n>}, {@code max <n>} and {@code size <min> <max>}, each checked and reported as the
+ * constraint annotation of the same name, and {@code oneOf <value>...}, reported as the equivalent
+ * {@code @Pattern}. A type with a schema is validated by its rules alone: none of its annotations apply.
+ */
+public final class RuleSchema {
+
+    public static final String EXTENSION = ".rules";
+
+    private RuleSchema() {
+    }
+
+    public static TypeRules read(Resource resource) throws IOException {
+        Class<?> type = null;
+        List<Rule> rules = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            int number = 0;
+            for (String line; (line = reader.readLine()) != null; ) {
+                number++;
+                String content = line.strip();
+                if (content.isEmpty() || content.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = content.split("\\s+");
+                try {
+                    if (type == null) {
+                        if (fields.length != 2 || !fields[0].equals("type")) {
+                            throw new IllegalArgumentException("expected type and a class name before the rules");
+                        }
+                        type = ClassUtils.forName(fields[1], RuleSchema.class.getClassLoader());
+                        continue;
+                    }
+                    if (fields.length < 2) {
+                        throw new IllegalArgumentException("expected a property and a rule");
+                    }
+                    Rule.Kind kind = Rule.Kind.of(fields[1]);
+                    String[] arguments = Arrays.copyOfRange(fields, 2, fields.length);
+                    if (kind == Rule.Kind.PATTERN && arguments.length > 0) {
+                        // The regexp may contain spaces
+                        String rule = content.substring(fields[0].length()).strip();
+                        arguments = new String[]{rule.substring(fields[1].length()).strip()};
+                    }
+                    rules.add(Rule.compile(type, fields[0], kind, arguments));
+                } catch (IllegalArgumentException | ClassNotFoundException | LinkageError e) {
+                    throw new IOException(resource.getDescription() + ", line " + number + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        if (type == null) {
+            throw new IOException(resource.getDescription() + " names no type");
+        }
+        try {
+            return new TypeRules(type, rules);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(resource.getDescription() + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Every *.rules file in the directory, one type each
+    public static Map<Class<?>, TypeRules> readAll(Path directory) throws IOException {
+        Map<Class<?>, TypeRules> rules = new HashMap<>();
+        for (Path file : versions(directory).keySet()) {
+            TypeRules typeRules = read(new FileSystemResource(file));
+            if (rules.put(typeRules.type(), typeRules) != null) {
+                throw new IOException(file + ": another schema in " + directory + " names " + typeRules.type().getName());
+            }
+        }
+        return rules;
+    }
+
+    // The schema files and their modification times, which change when any file is added, removed or edited
+    static Map<Path, FileTime> versions(Path directory) throws IOException {
+        Map<Path, FileTime> versions = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                versions.put(file, Files.getLastModifiedTime(file));
+            }
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,66 @@
+package validator.rules;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import validator.cache.ResultCache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the schema directory at a fixed interval and, when a schema file was added, removed or changed, compiles
+ * them all again and swaps in the new rules, then empties every result cache: the rules apply to any
+ * {@code @Valid} payload, so cached responses of any endpoint may have been computed with the old ones. A
+ * directory with any schema that fails to load is logged and the current rules stay in use.
+ */
+public class RuleSchemaReloader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RuleSchemaReloader.class);
+
+    private final ValidationRules rules;
+    private final Path directory;
+    private final List<ResultCache> results;
+    private final ScheduledExecutorService executor;
+    private Map<Path, FileTime> loaded;
+
+    public RuleSchemaReloader(ValidationRules rules, Path directory, Duration interval, List<ResultCache> results)
+            throws IOException {
+        this.rules = rules;
+        this.directory = directory;
+        this.results = results;
+        this.loaded = RuleSchema.versions(directory);
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("rule-schema-reloader").daemon().factory());
+        executor.scheduleWithFixedDelay(this::reloadIfModified, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // True when changed schemas were loaded
+    boolean reloadIfModified() {
+        try {
+            Map<Path, FileTime> versions = RuleSchema.versions(directory);
+            if (versions.equals(loaded)) {
+                return false;
+            }
+            Map<Class<?>, TypeRules> schemas = RuleSchema.readAll(directory);
+            rules.replace(schemas);
+            results.forEach(ResultCache::invalidateAll);
+            loaded = versions;
+            LOG.info("Loaded validation rules for {} payload types from {}", schemas.size(), directory);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Keeping the current validation rules, cannot read {}: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
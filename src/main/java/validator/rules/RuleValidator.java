@@ -0,0 +1,66 @@
+package validator.rules;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import java.util.Set;
+
+/**
+ * {@link Validator} that checks beans of a type with schema rules ({@link ValidationRules}) against those rules,
+ * and delegates everything else: other types, explicit groups, property/value validation, metadata and method
+ * validation. Metadata still describes the annotations.
+ */
+public class RuleValidator implements Validator {
+
+    private final Validator delegate;
+    private final ValidationRules rules;
+
+    public RuleValidator(Validator delegate, ValidationRules rules) {
+        this.delegate = delegate;
+        this.rules = rules;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        if (object == null || !isDefaultGroup(groups)) {
+            return delegate.validate(object, groups);
+        }
+        TypeRules typeRules = rules.forType(object.getClass());
+        return typeRules != null ? typeRules.validate(object) : delegate.validate(object, groups);
+    }
+
+    private static boolean isDefaultGroup(Class<?>... groups) {
+        return groups.length == 0 || (groups.length == 1 && groups[0] == Default.class);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+        return delegate.validateProperty(object, propertyName, groups);
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+        return delegate.validateValue(beanType, propertyName, value, groups);
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+        return delegate.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        return delegate.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return delegate.forExecutables();
+    }
+}
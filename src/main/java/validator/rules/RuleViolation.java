@@ -0,0 +1,86 @@
+package validator.rules;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.ValidationException;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * Violation of a schema {@link Rule}. The message was interpolated when the schema was loaded.
+ */
+final class RuleViolation<T> implements ConstraintViolation<T> {
+
+    private final T rootBean;
+    private final Object invalidValue;
+    private final Rule rule;
+
+    RuleViolation(T rootBean, Object invalidValue, Rule rule) {
+        this.rootBean = rootBean;
+        this.invalidValue = invalidValue;
+        this.rule = rule;
+    }
+
+    @Override
+    public String getMessage() {
+        return rule.message;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return rule.descriptor.getMessageTemplate();
+    }
+
+    @Override
+    public T getRootBean() {
+        return rootBean;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<T> getRootBeanClass() {
+        return (Class<T>) rootBean.getClass();
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return rootBean;
+    }
+
+    @Override
+    public Object[] getExecutableParameters() {
+        return null;
+    }
+
+    @Override
+    public Object getExecutableReturnValue() {
+        return null;
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return rule.path;
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return invalidValue;
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return rule.descriptor;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type.getName() + " not supported for unwrapping.");
+    }
+
+    @Override
+    public String toString() {
+        return "RuleViolation{propertyPath=" + rule.path + ", message='" + rule.message + "'}";
+    }
+}
@@ -0,0 +1,41 @@
+package validator.rules;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import validator.cache.ResultCache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Loads the schema files in {@code validation.rules.dir} for the application's validator and, when
+ * {@code validation.rules.refresh-interval} is set, reloads them whenever they change.
+ */
+@Configuration
+@ConditionalOnProperty(name = "validation.rules.dir")
+public class RulesConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RulesConfig.class);
+
+    @Bean
+    public ValidationRules validationRules(@Value("${validation.rules.dir}") Path directory) throws IOException {
+        ValidationRules rules = new ValidationRules(RuleSchema.readAll(directory));
+        LOG.info("Loaded validation rules for {} payload types from {}", rules.size(), directory);
+        return rules;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "validation.rules.refresh-interval")
+    public RuleSchemaReloader ruleSchemaReloader(ValidationRules rules, @Value("${validation.rules.dir}") Path directory,
+                                                 @Value("${validation.rules.refresh-interval}") Duration interval,
+                                                 ObjectProvider<ResultCache> results)
+            throws IOException {
+        return new RuleSchemaReloader(rules, directory, interval, results.orderedStream().toList());
+    }
+}
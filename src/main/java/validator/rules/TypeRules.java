@@ -0,0 +1,118 @@
+package validator.rules;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The rules of one payload type, compiled into a single method handle that runs every rule's test in turn and
+ * returns a bit per failed rule. The handle is a tree of method handle combinators over the field getters and
+ * the tests, which HotSpot compiles like any call chain; a valid bean allocates nothing. Violations are only built
+ * for the rules that failed. Immutable, so a bean is checked against one version of the rules throughout.
+ */
+public final class TypeRules {
+
+    // Rules per type, as failures are an int bit mask
+    static final int MAX_RULES = Integer.SIZE;
+
+    private static final MethodHandle PASSED = MethodHandles.dropArguments(MethodHandles.constant(int.class, 0), 0, Object.class);
+    private static final MethodHandle FAILED;
+    private static final MethodHandle OR;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            FAILED = lookup.findStatic(TypeRules.class, "failed", MethodType.methodType(int.class, boolean.class, int.class));
+            OR = lookup.findStatic(TypeRules.class, "or", MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> type;
+    private final Rule[] rules;
+    // (Object bean)int
+    private final MethodHandle check;
+
+    TypeRules(Class<?> type, List<Rule> rules) {
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("at most " + MAX_RULES + " rules per type, not " + rules.size());
+        }
+        this.type = type;
+        this.rules = rules.toArray(new Rule[0]);
+        MethodHandle check = PASSED;
+        for (int i = 0; i < this.rules.length; i++) {
+            // (Object)int: this rule's bit when it fails, else 0
+            MethodHandle bit = MethodHandles.filterReturnValue(this.rules[i].test, MethodHandles.insertArguments(FAILED, 1, 1 << i));
+            // (int failures so far, Object)int, with the rules before this one supplying the first argument
+            check = MethodHandles.foldArguments(MethodHandles.filterArguments(OR, 1, bit), check);
+        }
+        this.check = check;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    // A bit per failed rule, by position in the schema; 0 when the bean is valid
+    int failures(Object bean) {
+        try {
+            return (int) check.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public <T> Set<ConstraintViolation<T>> validate(T bean) {
+        int failures = failures(bean);
+        if (failures == 0) {
+            return Collections.emptySet();
+        }
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+        for (; failures != 0; failures &= failures - 1) {
+            Rule rule = rules[Integer.numberOfTrailingZeros(failures)];
+            violations.add(new RuleViolation<>(bean, value(rule, bean), rule));
+        }
+        return violations;
+    }
+
+    // The handle failures() invokes, for callers that hold it in a constant
+    MethodHandle check() {
+        return check;
+    }
+
+    private static Object value(Rule rule, Object bean) {
+        try {
+            return rule.value.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int failed(boolean passed, int bit) {
+        return passed ? 0 : bit;
+    }
+
+    private static int or(int failures, int bit) {
+        return failures | bit;
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + " " + List.of(rules);
+    }
+}
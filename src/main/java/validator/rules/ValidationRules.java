@@ -0,0 +1,37 @@
+package validator.rules;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The current schema rules of every payload type that has them. Readers take the map from an
+ * {@link AtomicReference} without locking and reloads swap in a whole new one, so a validation in flight
+ * finishes with the rules it started with and the next one sees every type's new rules.
+ */
+public class ValidationRules {
+
+    private final AtomicReference<Map<Class<?>, TypeRules>> rules;
+
+    public ValidationRules(Map<Class<?>, TypeRules> rules) {
+        this.rules = new AtomicReference<>(Map.copyOf(rules));
+    }
+
+    @Nullable
+    public TypeRules forType(Class<?> type) {
+        return rules.get().get(type);
+    }
+
+    public int size() {
+        return rules.get().size();
+    }
+
+    /**
+     * Replaces the rules of all types, as when the schema directory is reloaded. Types left out go back to their
+     * annotations.
+     */
+    public void replace(Map<Class<?>, TypeRules> rules) {
+        this.rules.set(Map.copyOf(rules));
+    }
+}
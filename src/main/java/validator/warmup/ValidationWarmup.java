@@ -0,0 +1,248 @@
+package validator.warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nullable;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import validator.admission.AdmissionControl;
+import validator.cache.ResultCache;
+import validator.metrics.MeteredValidator;
+import validator.metrics.ValidationMetrics;
+import validator.payload.PayloadTypes;
+import validator.payload.ValidationOutcome;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the first-request cost of every payload type to startup.
+ * <p>
+ * Hibernate Validator builds a class's {@code BeanMetaData} and Jackson its deserializer the first time they
+ * see it, which costs the first request to each endpoint about 100 ms. This runner takes every payload class
+ * ({@link PayloadTypes}), builds both up front, and then binds and validates the samples in
+ * {@code warmup-samples.json} (valid, invalid and incomplete bodies) {@code validation.warmup.iterations}
+ * times, so the hot paths are already being compiled when traffic arrives. Streaming payloads are also run
+ * through their {@code validate(JsonParser)} method. Types without samples are warmed with a serialized
+ * default instance.
+ * <p>
+ * The web layer has first-request costs of its own: the first error page, the first JSON response. So each
+ * sample the endpoint rejects is then posted {@code validation.warmup.http-requests} times to it over loopback.
+ * Only rejected ones, as a valid body has effects beyond its response: a transaction would be remembered as
+ * seen and its identical retry answered 409. The result caches are emptied afterwards, and with admission
+ * control the requests go under a client name of their own, {@value #CLIENT}, rather than using up
+ * localhost's tokens; without a client header to carry that name, the loopback requests are not sent. Those
+ * few requests are counted in the validation metrics like any other; the in-process runs are not.
+ * <p>
+ * Spring Boot reports readiness ({@code /actuator/health/readiness}) only once all application runners have
+ * returned, so the instance is not taken into rotation before warm-up is done.
+ */
+@Component
+@ConditionalOnProperty(name = "validation.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class ValidationWarmup implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ValidationWarmup.class);
+
+    public static final String SAMPLES = "warmup-samples.json";
+
+    // Admission control client of the loopback requests
+    static final String CLIENT = "validation-warmup";
+
+    /**
+     * Entry of {@code warmup-samples.json}: the endpoint of a payload type and bodies to send it.
+     */
+    record Samples(String path, List<JsonNode> samples) {
+    }
+
+    /**
+     * One payload type, the bodies it is exercised with and those of them its endpoint rejects.
+     */
+    record Target(Class<?> type, String path, List<byte[]> samples, List<byte[]> rejected, Method streaming) {
+    }
+
+    private final ObjectMapper mapper;
+    private final Validator validator;
+    private final Environment environment;
+    private final AdmissionControl admission;
+    private final ObjectProvider<ResultCache> results;
+    private final int iterations;
+    private final int httpRequests;
+
+    public ValidationWarmup(ObjectMapper mapper, Validator validator, Environment environment,
+                            @Nullable AdmissionControl admission, ObjectProvider<ResultCache> results,
+                            @Value("${validation.warmup.iterations:500}") int iterations,
+                            @Value("${validation.warmup.http-requests:1}") int httpRequests) {
+        this.mapper = mapper;
+        this.validator = validator instanceof MeteredValidator metered ? metered.getDelegate() : validator;
+        this.environment = environment;
+        this.admission = admission;
+        this.results = results;
+        this.iterations = iterations;
+        this.httpRequests = httpRequests;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        if (NativeDetector.inNativeImage()) {
+            // Compiled ahead of time, and PayloadTypes cannot scan class files there
+            return;
+        }
+        long start = System.nanoTime();
+        List<Target> targets = targets();
+        long prepared = System.nanoTime();
+        long runs = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (Target target : targets) {
+                runs += exercise(target);
+            }
+        }
+        long exercised = System.nanoTime();
+        // Set once the embedded server listens; absent in tests without one
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        int requests = 0;
+        if (port != null && port > 0) {
+            if (admission != null && admission.clientHeader() == null) {
+                LOG.info("Not warming up over HTTP: admission control has no client header to name the warm-up by");
+            } else {
+                requests = post(port, targets);
+                results.forEach(ResultCache::invalidateAll);
+            }
+        }
+        LOG.info("Warmed up {} payload types in {} ms ({} ms metadata, {} sample runs, {} requests in {} ms)",
+                targets.size(), (System.nanoTime() - start) / 1_000_000, (prepared - start) / 1_000_000, runs,
+                requests, (System.nanoTime() - exercised) / 1_000_000);
+    }
+
+    // Payload classes with their samples
+    List<Target> targets() throws IOException {
+        Map<String, Samples> samples;
+        try (InputStream in = new ClassPathResource(SAMPLES).getInputStream()) {
+            samples = mapper.readValue(in, new TypeReference<>() {
+            });
+        }
+
+        List<Target> targets = new ArrayList<>();
+        for (Class<?> type : PayloadTypes.find(getClass().getClassLoader())) {
+            // Builds and caches the BeanMetaData and the root deserializer
+            validator.getConstraintsForClass(type);
+            mapper.readerFor(type);
+            Samples entry = samples.getOrDefault(ValidationMetrics.type(type), new Samples(null, List.of()));
+            List<byte[]> bodies = new ArrayList<>();
+            for (JsonNode sample : entry.samples()) {
+                bodies.add(mapper.writeValueAsBytes(sample));
+            }
+            if (bodies.isEmpty()) {
+                bodies.add(defaultSample(type));
+            }
+            Method streaming = streamingValidator(type);
+            List<byte[]> rejected = new ArrayList<>();
+            for (byte[] body : bodies) {
+                if (rejects(type, streaming, body)) {
+                    rejected.add(body);
+                }
+            }
+            targets.add(new Target(type, entry.path(), bodies, rejected, streaming));
+        }
+        return targets;
+    }
+
+    private int exercise(Target target) throws IOException {
+        for (byte[] body : target.samples()) {
+            try {
+                validator.validate(mapper.readValue(body, target.type()));
+                if (target.streaming() != null) {
+                    try (JsonParser parser = mapper.createParser(body)) {
+                        target.streaming().invoke(null, parser);
+                    }
+                }
+            } catch (IOException | ReflectiveOperationException e) {
+                // Samples that fail to bind or to stream-validate still warm the error path
+            }
+        }
+        return target.samples().size();
+    }
+
+    // Whether the endpoint answers body with 400: it does not bind, breaks a constraint or fails the streaming check
+    private boolean rejects(Class<?> type, Method streaming, byte[] body) {
+        try {
+            if (streaming != null) {
+                try (JsonParser parser = mapper.createParser(body)) {
+                    return streaming.invoke(null, parser) != ValidationOutcome.VALID;
+                }
+            }
+            return !validator.validate(mapper.readValue(body, type)).isEmpty();
+        } catch (IOException | ReflectiveOperationException e) {
+            return true;
+        }
+    }
+
+    // Sends every rejected sample to its endpoint; the responses are not checked
+    private int post(int port, List<Target> targets) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        int requests = 0;
+        for (int i = 0; i < httpRequests; i++) {
+            for (Target target : targets) {
+                if (target.path() == null) {
+                    continue;
+                }
+                for (byte[] body : target.rejected()) {
+                    HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + target.path()))
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+                    if (admission != null) {
+                        request.header(admission.clientHeader(), CLIENT);
+                    }
+                    try {
+                        client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                        requests++;
+                    } catch (IOException e) {
+                        LOG.warn("Warm-up request to {} failed: {}", target.path(), e.toString());
+                    }
+                }
+            }
+        }
+        return requests;
+    }
+
+    private byte[] defaultSample(Class<?> type) {
+        try {
+            return mapper.writeValueAsBytes(type.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | JsonProcessingException e) {
+            return "{}".getBytes();
+        }
+    }
+
+    // public static ValidationOutcome validate(JsonParser), as used by the streaming endpoints
+    private static Method streamingValidator(Class<?> type) {
+        try {
+            Method method = type.getMethod("validate", JsonParser.class);
+            return Modifier.isStatic(method.getModifiers()) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package validator.codegen.processor;
+
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A constrained field of the payload class.
+ */
+final class FieldModel {
+
+    final String name;
+    final TypeMirror type;
+    final ValueKind kind;
+    // Bit of the field in the bean's presence mask (@Present), -1 if untracked
+    final int presenceBit;
+    final List<ConstraintModel> constraints = new ArrayList<>();
+    final List<ConstraintModel> keyConstraints = new ArrayList<>();
+    final List<ConstraintModel> valueConstraints = new ArrayList<>();
+
+    FieldModel(String name, TypeMirror type, ValueKind kind, int presenceBit) {
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.presenceBit = presenceBit;
+    }
+
+    boolean isPrimitive() {
+        return type.getKind().isPrimitive();
+    }
+
+    boolean hasChecks() {
+        for (ConstraintModel constraint : constraints) {
+            if (!(isPrimitive() && constraint.is("NotNull")) || presenceBit >= 0) {
+                return true;
+            }
+        }
+        return !keyConstraints.isEmpty() || !valueConstraints.isEmpty();
+    }
+
+    /**
+     * A single constraint with its attributes and the template of the message it reports.
+     */
+    record ConstraintModel(String name, Map<String, Object> attributes, String template) {
+
+        boolean is(String constraint) {
+            return name.equals(constraint);
+        }
+
+        Object attribute(String attribute) {
+            return attributes.get(attribute);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package validator.codegen.processor;
+
+import validator.codegen.processor.FieldModel.ConstraintModel;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the source of one generated validator.
+ */
+final class SourceWriter {
+
+    private final String packageName;
+    private final String simpleName;
+    private final String beanType;
+    private final List<FieldModel> fields;
+    private final StringBuilder constants = new StringBuilder();
+    private final StringBuilder body = new StringBuilder();
+    private int patterns;
+
+    SourceWriter(String packageName, String simpleName, String beanType, List<FieldModel> fields) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.beanType = beanType;
+        this.fields = fields;
+    }
+
+    String write() {
+        for (FieldModel field : fields) {
+            if (field.hasChecks()) {
+                writeField(field);
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import jakarta.validation.ConstraintViolation;\n");
+        source.append("import validator.codegen.BeanValidator;\n");
+        source.append("import validator.codegen.Checks;\n");
+        source.append("import validator.codegen.Violations;\n");
+        source.append("import validator.constraint.PatternMatcher;\n");
+        source.append("import validator.constraint.PatternMatchers;\n\n");
+        source.append("import java.lang.invoke.VarHandle;\n");
+        source.append("import java.util.Set;\n\n");
+        source.append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(simpleName)
+                .append(" implements BeanValidator<").append(beanType).append("> {\n\n");
+        source.append(constants);
+        source.append("\n    @Override\n");
+        source.append("    public Set<ConstraintViolation<").append(beanType).append(">> validate(")
+                .append(beanType).append(" $bean) {\n");
+        source.append("        Violations<").append(beanType).append("> $violations = null;\n");
+        source.append(body);
+        source.append("\n        return Violations.toSet($violations);\n");
+        source.append("    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void writeField(FieldModel field) {
+        String handle = constantName(field.name);
+        String fieldType = fieldType(field.type);
+        constants.append("    private static final VarHandle ").append(handle).append(" = Checks.field(")
+                .append(beanType).append(".class, ").append(literal(field.name)).append(", ")
+                .append(classLiteral(field.type)).append(");\n");
+
+        body.append("\n        ").append(fieldType).append(' ').append(field.name).append(" = (")
+                .append(fieldType).append(") ").append(handle).append(".get($bean);\n");
+        for (ConstraintModel constraint : field.constraints) {
+            // A tracked primitive is null when its presence bit is clear, and reported with a null value
+            boolean presence = constraint.is("NotNull") && field.presenceBit >= 0;
+            String check = presence
+                    ? "($bean.presentFields() & " + (1 << field.presenceBit) + ") != 0"
+                    : check(constraint, field.kind, field.name, field.isPrimitive());
+            if (check != null) {
+                body.append("        if (!(").append(check).append(")) {\n");
+                body.append("            $violations = Violations.property($violations, $bean, ")
+                        .append(literal(field.name)).append(", ").append(presence ? "null" : field.name).append(", ")
+                        .append(violationArguments(constraint)).append(");\n");
+                body.append("        }\n");
+            }
+        }
+
+        if (!field.keyConstraints.isEmpty() || !field.valueConstraints.isEmpty()) {
+            body.append("        if (").append(field.name).append(" != null) {\n");
+            body.append("            for (java.util.Map.Entry<?, ?> $entry : ").append(field.name).append(".entrySet()) {\n");
+            body.append("                String $key = (String) $entry.getKey();\n");
+            for (ConstraintModel constraint : field.keyConstraints) {
+                body.append("                if (!(").append(check(constraint, ValueKind.CHARS, "$key", false)).append(")) {\n");
+                body.append("                    $violations = Violations.mapKey($violations, $bean, ")
+                        .append(literal(field.name)).append(", $key, ").append(violationArguments(constraint)).append(");\n");
+                body.append("                }\n");
+            }
+            body.append("                String $value = (String) $entry.getValue();\n");
+            for (ConstraintModel constraint : field.valueConstraints) {
+                body.append("                if (!(").append(check(constraint, ValueKind.CHARS, "$value", false)).append(")) {\n");
+                body.append("                    $violations = Violations.mapValue($violations, $bean, ")
+                        .append(literal(field.name)).append(", $key, $value, ").append(violationArguments(constraint)).append(");\n");
+                body.append("                }\n");
+            }
+            body.append("            }\n");
+            body.append("        }\n");
+        }
+    }
+
+    private static String violationArguments(ConstraintModel constraint) {
+        return "jakarta.validation.constraints." + constraint.name() + ".class, "
+                + literal(constraint.template());
+    }
+
+    // Java expression that is true when the value satisfies the constraint, null when it always does
+    private String check(ConstraintModel constraint, ValueKind kind, String value, boolean primitive) {
+        String orNull = primitive ? "" : value + " == null || ";
+        switch (constraint.name()) {
+            case "NotNull":
+                return primitive ? null : value + " != null";
+            case "NotBlank":
+                return "Checks.notBlank(" + value + ")";
+            case "NotEmpty":
+                return value + " != null && " + (kind == ValueKind.CHARS ? value + ".length() > 0" : "!" + value + ".isEmpty()");
+            case "Email":
+                return "Checks.isEmail(" + value + ")";
+            case "Pattern":
+                String pattern = "PATTERN_" + patterns++;
+                constants.append("    private static final PatternMatcher ").append(pattern)
+                        .append(" = PatternMatchers.compile(").append(literal((String) constraint.attribute("regexp"))).append(");\n");
+                return value + " == null || " + pattern + ".matches(" + value + ")";
+            case "Size":
+                String size = value + (kind == ValueKind.CHARS ? ".length()" : ".size()");
+                return value + " == null || (" + size + " >= " + constraint.attribute("min") + " && " + size + " <= " + constraint.attribute("max") + ")";
+            case "Positive":
+                return orNull + sign(kind, value, "> 0");
+            case "PositiveOrZero":
+                return orNull + sign(kind, value, ">= 0");
+            case "Negative":
+                return orNull + sign(kind, value, "< 0");
+            case "NegativeOrZero":
+                return orNull + sign(kind, value, "<= 0");
+            case "Min":
+                return orNull + value + " >= " + constraint.attribute("value") + "L";
+            case "Max":
+                return orNull + value + " <= " + constraint.attribute("value") + "L";
+            case "DecimalMin":
+                return orNull + decimal(constraint, kind, value, Boolean.TRUE.equals(constraint.attribute("inclusive")) ? ">=" : ">");
+            case "DecimalMax":
+                return orNull + decimal(constraint, kind, value, Boolean.TRUE.equals(constraint.attribute("inclusive")) ? "<=" : "<");
+            default:
+                throw new IllegalStateException("Unsupported constraint " + constraint.name());
+        }
+    }
+
+    // Hibernate compares with Double.compareTo, so NaN never passes and -0.0 is negative
+    private static String sign(ValueKind kind, String value, String comparison) {
+        return switch (kind) {
+            case DOUBLE -> "(!Double.isNaN(" + value + ") && Double.compare(" + value + ", 0d) " + comparison + ")";
+            case FLOAT -> "(!Float.isNaN(" + value + ") && Float.compare(" + value + ", 0f) " + comparison + ")";
+            default -> value + " " + comparison;
+        };
+    }
+
+    private static String decimal(ConstraintModel constraint, ValueKind kind, String value, String comparison) {
+        String bound = (String) constraint.attribute("value");
+        if (kind == ValueKind.FLOAT) {
+            return "(!Float.isNaN(" + value + ") && " + value + " " + comparison + " " + Float.parseFloat(bound) + "f)";
+        }
+        return "(!Double.isNaN(" + value + ") && " + value + " " + comparison + " " + Double.parseDouble(bound) + "d)";
+    }
+
+    // Erased declared type, so the VarHandle is invoked with its exact type
+    private static String fieldType(TypeMirror type) {
+        String name = ValidatorProcessor.qualifiedName(type);
+        if (type instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty()) {
+            return name + "<" + "?, ".repeat(declared.getTypeArguments().size() - 1) + "?>";
+        }
+        return name;
+    }
+
+    private static String classLiteral(TypeMirror type) {
+        return ValidatorProcessor.qualifiedName(type) + ".class";
+    }
+
+    // customFields -> CUSTOM_FIELDS
+    private static String constantName(String field) {
+        return field.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,318 @@
+package validator.codegen.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a plain-Java {@code validator.codegen.BeanValidator} for every class with
+ * {@code jakarta.validation} constraints on its fields.
+ * <p>
+ * Only the constraints listed in {@link #SUPPORTED} are compiled, for the field types Hibernate
+ * Validator would accept them on, and only in the default group. The one class-level constraint
+ * compiled is {@code validator.constraint.Present}, which turns {@code @NotNull} on the primitive fields
+ * it names into a check of the bean's presence bitmask. A class using anything else (other class- or
+ * getter-level constraints, groups, custom constraints, cascading into beans, ...) is skipped with a
+ * note and keeps being validated by Hibernate Validator.
+ * <p>
+ * The generated code carries each constraint's message template; {@code validator.codegen.GeneratedValidator}
+ * interpolates it when a violation is built, with the validator factory's interpolator and locale.
+ */
+@SupportedAnnotationTypes({"jakarta.validation.constraints.*", "jakarta.validation.Valid"})
+public class ValidatorProcessor extends AbstractProcessor {
+
+    private static final String CONSTRAINTS = "jakarta.validation.constraints.";
+    private static final String PRESENT = "validator.constraint.Present";
+    private static final String PRESENCE_TRACKED = "validator.constraint.PresenceTracked";
+
+    private static final Set<String> SUPPORTED = Set.of(
+            "NotNull", "NotBlank", "NotEmpty", "Pattern", "Email", "Size",
+            "Positive", "PositiveOrZero", "Negative", "NegativeOrZero",
+            "Min", "Max", "DecimalMin", "DecimalMax");
+
+    // Constraints that may appear on the String type arguments of a Map field
+    private static final Set<String> SUPPORTED_ON_ELEMENTS = Set.of(
+            "NotNull", "NotBlank", "NotEmpty", "Pattern", "Email", "Size");
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            if (generated.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        List<FieldModel> fields;
+        try {
+            List<String> tracked = checkType(type);
+            fields = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.add(model(field, tracked));
+                }
+            }
+            checkTracked(tracked, fields);
+        } catch (Unsupported e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "No generated validator for " + type.getQualifiedName() + ": " + e.getMessage(), type);
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String simpleName = generatedSimpleName(type);
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName + "." + simpleName, type).openWriter()) {
+            writer.write(new SourceWriter(packageName, simpleName, type.getQualifiedName().toString(), fields).write());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write generated validator: " + e.getMessage(), type);
+        }
+    }
+
+    // ValidationClass -> ValidationClass_Validator, TransactionRequestValidator.Transaction -> TransactionRequestValidator_Transaction_Validator
+    private static String generatedSimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement outer) {
+            name.insert(0, outer.getSimpleName() + "_");
+            enclosing = outer.getEnclosingElement();
+        }
+        return name.append("_Validator").toString();
+    }
+
+    // Fields named by @Present, in bit order; empty without it
+    private List<String> checkType(TypeElement type) throws Unsupported {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new Unsupported("not an accessible class");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new Unsupported("inner classes are not supported");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new Unsupported("generic classes are not supported");
+        }
+        if (!"java.lang.Object".equals(qualifiedName(type.getSuperclass()))) {
+            throw new Unsupported("inherited constraints are not supported");
+        }
+        List<String> tracked = List.of();
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (PRESENT.equals(qualifiedName(annotation.getAnnotationType()))) {
+                tracked = present(type, annotation);
+            } else if (isConstraint(annotation)) {
+                throw new Unsupported("class-level constraints are not supported");
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (hasConstraint(method.getAnnotationMirrors())) {
+                throw new Unsupported("getter constraints are not supported (" + method.getSimpleName() + ")");
+            }
+        }
+        return tracked;
+    }
+
+    private List<String> present(TypeElement type, AnnotationMirror annotation) throws Unsupported {
+        TypeElement presenceTracked = processingEnv.getElementUtils().getTypeElement(PRESENCE_TRACKED);
+        if (presenceTracked == null || !processingEnv.getTypeUtils().isAssignable(type.asType(), presenceTracked.asType())) {
+            throw new Unsupported("@Present on a class that is not PresenceTracked");
+        }
+        List<String> tracked = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            String name = entry.getKey().getSimpleName().toString();
+            if ("value".equals(name)) {
+                for (Object value : (List<?>) entry.getValue().getValue()) {
+                    tracked.add((String) ((AnnotationValue) value).getValue());
+                }
+            } else if (("groups".equals(name) || "payload".equals(name)) && !((List<?>) entry.getValue().getValue()).isEmpty()) {
+                throw new Unsupported("@Present with " + name + " is not supported");
+            }
+        }
+        return tracked;
+    }
+
+    // Every field named by @Present must be a primitive with @NotNull, which is what the bit stands for
+    private static void checkTracked(List<String> tracked, List<FieldModel> fields) throws Unsupported {
+        for (String name : tracked) {
+            FieldModel field = fields.stream().filter(f -> f.name.equals(name)).findFirst()
+                    .orElseThrow(() -> new Unsupported("@Present names unknown field " + name));
+            if (!field.isPrimitive() || field.constraints.stream().noneMatch(c -> c.is("NotNull"))) {
+                throw new Unsupported("@Present field " + name + " is not a primitive with @NotNull");
+            }
+        }
+    }
+
+    private FieldModel model(VariableElement field, List<String> tracked) throws Unsupported {
+        String name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        ValueKind kind = ValueKind.of(type, processingEnv);
+        FieldModel model = new FieldModel(name, type, kind, tracked.indexOf(name));
+
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            String annotationName = qualifiedName(annotation.getAnnotationType());
+            if ("jakarta.validation.Valid".equals(annotationName)) {
+                checkCascade(name, type);
+            } else if (isConstraint(annotation)) {
+                model.constraints.add(constraint(name, annotation, kind, SUPPORTED));
+            }
+        }
+
+        if (type instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty()) {
+            List<? extends TypeMirror> arguments = declared.getTypeArguments();
+            for (int i = 0; i < arguments.size(); i++) {
+                for (AnnotationMirror annotation : arguments.get(i).getAnnotationMirrors()) {
+                    if (!isConstraint(annotation)) {
+                        continue;
+                    }
+                    if (kind != ValueKind.MAP || !"java.lang.String".equals(qualifiedName(arguments.get(i)))) {
+                        throw new Unsupported("container element constraints are only supported on Map<String, String> (" + name + ")");
+                    }
+                    FieldModel.ConstraintModel constraint = constraint(name, annotation, ValueKind.CHARS, SUPPORTED_ON_ELEMENTS);
+                    (i == 0 ? model.keyConstraints : model.valueConstraints).add(constraint);
+                }
+            }
+        }
+        return model;
+    }
+
+    // @Valid is a no-op for containers of JDK types; cascading into other beans is left to Hibernate
+    private void checkCascade(String field, TypeMirror type) throws Unsupported {
+        if (type.getKind().isPrimitive()) {
+            return;
+        }
+        if (!(type instanceof DeclaredType declared) || !qualifiedName(type).startsWith("java.")) {
+            throw new Unsupported("@Valid cascading into " + type + " is not supported (" + field + ")");
+        }
+        for (TypeMirror argument : declared.getTypeArguments()) {
+            checkCascade(field, argument);
+        }
+    }
+
+    private FieldModel.ConstraintModel constraint(String field, AnnotationMirror annotation, ValueKind kind, Set<String> supported)
+            throws Unsupported {
+        String annotationName = qualifiedName(annotation.getAnnotationType());
+        String simpleName = annotationName.substring(annotationName.lastIndexOf('.') + 1);
+        if (!annotationName.startsWith(CONSTRAINTS) || !supported.contains(simpleName)) {
+            throw new Unsupported("@" + annotationName + " is not supported (" + field + ")");
+        }
+
+        Map<String, Object> attributes = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            attributes.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+        }
+        if (!((List<?>) attributes.get("payload")).isEmpty()) {
+            throw new Unsupported("constraint payloads are not supported (" + field + ")");
+        }
+        for (Object group : (List<?>) attributes.get("groups")) {
+            if (!"jakarta.validation.groups.Default".equals(qualifiedName((TypeMirror) ((AnnotationValue) group).getValue()))) {
+                throw new Unsupported("validation groups are not supported (" + field + ")");
+            }
+        }
+        if (attributes.containsKey("flags") && !((List<?>) attributes.get("flags")).isEmpty()) {
+            throw new Unsupported("regular expression flags are not supported (" + field + ")");
+        }
+        if ("Email".equals(simpleName) && !".*".equals(attributes.get("regexp"))) {
+            throw new Unsupported("@Email with a regexp is not supported (" + field + ")");
+        }
+        if (!kind.accepts(simpleName)) {
+            throw new Unsupported("@" + simpleName + " is not supported on " + kind + " (" + field + ")");
+        }
+        if (simpleName.startsWith("Decimal")) {
+            checkExactBound(field, kind, (String) attributes.get("value"));
+        }
+
+        return new FieldModel.ConstraintModel(simpleName, attributes, (String) attributes.get("message"));
+    }
+
+    // Hibernate compares new BigDecimal(value.toString()) with the bound; comparing the primitives agrees with that only
+    // when the bound reads back unchanged from Float/Double.toString of its parsed value, so nothing else is generated
+    private static void checkExactBound(String field, ValueKind kind, String bound) throws Unsupported {
+        try {
+            BigDecimal exact = new BigDecimal(bound);
+            String nearest = kind == ValueKind.FLOAT ? Float.toString(Float.parseFloat(bound)) : Double.toString(Double.parseDouble(bound));
+            if (exact.compareTo(new BigDecimal(nearest)) != 0) {
+                throw new Unsupported("bound " + bound + " differs from " + nearest + ", the toString() of its parsed value (" + field + ")");
+            }
+        } catch (NumberFormatException e) {
+            throw new Unsupported("invalid bound " + bound + " (" + field + ")");
+        }
+    }
+
+    private boolean hasConstraint(List<? extends AnnotationMirror> annotations) {
+        for (AnnotationMirror annotation : annotations) {
+            if (isConstraint(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConstraint(AnnotationMirror annotation) {
+        if (qualifiedName(annotation.getAnnotationType()).startsWith(CONSTRAINTS)) {
+            return true;
+        }
+        for (AnnotationMirror meta : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if ("jakarta.validation.Constraint".equals(qualifiedName(meta.getAnnotationType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String qualifiedName(TypeMirror type) {
+        if (type instanceof DeclaredType declared) {
+            return ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        }
+        return type.getKind() == TypeKind.NONE ? "" : type.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    static final class Unsupported extends Exception {
+        Unsupported(String message) {
+            super(message);
+        }
+    }
+}
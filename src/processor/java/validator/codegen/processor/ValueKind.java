@@ -0,0 +1,71 @@
+package validator.codegen.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.Set;
+
+/**
+ * How a field's value is checked, which decides the constraints it can carry.
+ */
+enum ValueKind {
+    CHARS("NotBlank", "NotEmpty", "Pattern", "Email", "Size"),
+    INTEGRAL("Positive", "PositiveOrZero", "Negative", "NegativeOrZero", "Min", "Max"),
+    DOUBLE("Positive", "PositiveOrZero", "Negative", "NegativeOrZero", "DecimalMin", "DecimalMax"),
+    FLOAT("Positive", "PositiveOrZero", "Negative", "NegativeOrZero", "DecimalMin", "DecimalMax"),
+    MAP("NotEmpty", "Size"),
+    COLLECTION("NotEmpty", "Size"),
+    OTHER;
+
+    private final Set<String> constraints;
+
+    ValueKind(String... constraints) {
+        this.constraints = Set.of(constraints);
+    }
+
+    boolean accepts(String constraint) {
+        return "NotNull".equals(constraint) || constraints.contains(constraint);
+    }
+
+    static ValueKind of(TypeMirror type, ProcessingEnvironment env) {
+        switch (type.getKind()) {
+            case INT, LONG, SHORT, BYTE:
+                return INTEGRAL;
+            case DOUBLE:
+                return DOUBLE;
+            case FLOAT:
+                return FLOAT;
+            case DECLARED:
+                break;
+            default:
+                return OTHER;
+        }
+        switch (ValidatorProcessor.qualifiedName(type)) {
+            case "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte":
+                return INTEGRAL;
+            case "java.lang.Double":
+                return DOUBLE;
+            case "java.lang.Float":
+                return FLOAT;
+            default:
+                break;
+        }
+        if (isSubtype(type, "java.lang.CharSequence", env)) {
+            return CHARS;
+        }
+        if (isSubtype(type, "java.util.Map", env)) {
+            return MAP;
+        }
+        if (isSubtype(type, "java.util.Collection", env)) {
+            return COLLECTION;
+        }
+        return OTHER;
+    }
+
+    private static boolean isSubtype(TypeMirror type, String supertype, ProcessingEnvironment env) {
+        Elements elements = env.getElementUtils();
+        Types types = env.getTypeUtils();
+        return types.isSubtype(types.erasure(type), types.erasure(elements.getTypeElement(supertype).asType()));
+    }
+}
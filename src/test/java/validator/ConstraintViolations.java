@@ -0,0 +1,24 @@
+package validator;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compares the violations of different validators in tests.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    // Path, template and message of every violation, in a comparable form
+    public static <T> Set<String> describe(Set<ConstraintViolation<T>> violations) {
+        Set<String> described = new TreeSet<>();
+        for (ConstraintViolation<T> violation : violations) {
+            described.add(violation.getPropertyPath() + " | " + violation.getMessageTemplate() + " | " + violation.getMessage());
+        }
+        return described;
+    }
+}
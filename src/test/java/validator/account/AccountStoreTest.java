@@ -0,0 +1,80 @@
+package validator.account;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountStoreTest {
+
+    private static final int ACCOUNTS = 5000;
+
+    @TempDir
+    Path directory;
+
+    private static List<String> accountsOf(long id) {
+        return id % 7 == 0 ? List.of("Account" + id) : List.of("Account" + id, "Linked" + (id * 31), "Ü" + id);
+    }
+
+    private static void assertStoreContents(AccountStore store) {
+        assertEquals(ACCOUNTS, store.size());
+        for (long id = 0; id < ACCOUNTS * 2L; id += 2) {
+            assertEquals(accountsOf(id), store.findAssociatedAccounts(id));
+            assertEquals(List.of(), store.findAssociatedAccounts(id + 1));
+        }
+        assertEquals(List.of(), store.findAssociatedAccounts(-1));
+        assertEquals(List.of(), store.findAssociatedAccounts(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testInMemoryStore() {
+        InMemoryAccountStore.Builder builder = InMemoryAccountStore.builder(10);
+        for (long id = 0; id < ACCOUNTS * 2L; id += 2) {
+            builder.put(id, accountsOf(id));
+        }
+        // Replacing an account keeps the size
+        builder.put(0, List.of("Replaced")).put(0, accountsOf(0));
+        assertStoreContents(builder.build());
+    }
+
+    @Test
+    void testMappedStoreAcrossChunks() throws IOException {
+        Path file = directory.resolve("accounts.bin");
+        // 4 KB chunks, so both the table and the records span many mappings
+        try (MappedAccountStore.Writer writer = new MappedAccountStore.Writer(file, ACCOUNTS, 12)) {
+            for (long id = 0; id < ACCOUNTS * 2L; id += 2) {
+                writer.put(id, accountsOf(id));
+            }
+            writer.put(0, List.of("Replaced")).put(0, accountsOf(0));
+        }
+        assertStoreContents(MappedAccountStore.open(file));
+    }
+
+    @Test
+    void testMappedStoreRejectsOtherFiles() {
+        Path file = directory.resolve("empty.bin");
+        assertThrows(IOException.class, () -> {
+            Files.writeString(file, "not an account store, but long enough for a header");
+            MappedAccountStore.open(file);
+        });
+    }
+
+    @Test
+    void testCacheRecordsHitsAndMisses() {
+        AccountStore store = InMemoryAccountStore.builder(1).put(1, List.of("AccountA")).build();
+        CachedAccountStore cached = new CachedAccountStore(store, 100);
+
+        assertEquals(List.of("AccountA"), cached.findAssociatedAccounts(1));
+        assertEquals(List.of("AccountA"), cached.findAssociatedAccounts(1));
+        assertEquals(List.of(), cached.findAssociatedAccounts(2));
+        assertEquals(List.of(), cached.findAssociatedAccounts(2));
+
+        assertEquals(2, cached.stats().hitCount());
+        assertEquals(2, cached.stats().missCount());
+    }
+}
@@ -0,0 +1,157 @@
+package validator.admission;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdmissionControlTest {
+
+    private static final String BODY = "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":10}";
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.DAYS.toNanos(3));
+
+    private TokenBuckets buckets(int maxClients, double rate, int burst) {
+        return new TokenBuckets(maxClients, rate, burst, nanos::get);
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void testBurstThenRefill() {
+        TokenBuckets buckets = buckets(64, 10, 3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire(42));
+        }
+        // One token every 100 ms
+        assertEquals(100_000, buckets.tryAcquire(42));
+        advance(40);
+        assertEquals(60_000, buckets.tryAcquire(42));
+        advance(60);
+        assertEquals(0, buckets.tryAcquire(42));
+        assertTrue(buckets.tryAcquire(42) > 0);
+
+        // Other clients have their own buckets
+        assertEquals(0, buckets.tryAcquire(43));
+
+        // Idle time refills up to the burst and no further
+        advance(10_000);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, buckets.tryAcquire(42));
+        }
+        assertTrue(buckets.tryAcquire(42) > 0);
+    }
+
+    @Test
+    void testTableStaysBoundedAndReusesFullBuckets() {
+        TokenBuckets buckets = buckets(16, 1, 1);
+        assertEquals(16, buckets.capacity());
+
+        // Full buckets are reused without an eviction
+        for (long client = 0; client < 10_000; client++) {
+            assertEquals(0, buckets.tryAcquire(client * 0x9E3779B97F4A7C15L));
+            advance(1000);
+        }
+        assertEquals(0, buckets.evictions());
+
+        // More clients than slots, all within the same second: the table is full of live buckets
+        for (long client = 0; client < 100; client++) {
+            assertEquals(0, buckets.tryAcquire(client * 0x9E3779B97F4A7C15L));
+        }
+        assertTrue(buckets.evictions() >= 100 - 16);
+        assertEquals(16, buckets.capacity());
+    }
+
+    @Test
+    void testConcurrentRequestsTakeEachTokenOnce() throws InterruptedException {
+        TokenBuckets buckets = buckets(64, 1, 1000);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (buckets.tryAcquire(7) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1000, admitted.get());
+    }
+
+    @Test
+    void testFilterRejectsBeforeReadingBody() throws Exception {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        Validator validator = spy(factory.getValidator());
+        AdmissionControl admission = new AdmissionControl(buckets(64, 1, 2), "X-Client-Id");
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ValidationController(validator, null, CurrencyConverter.withDefaultRates(), null))
+                .setValidator(new SpringValidatorAdapter(validator))
+                .addFilter(new AdmissionFilter(admission), "/api/*")
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(post("/api/convert").header("X-Client-Id", "a").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                    .andExpect(status().isOk());
+        }
+        mvc.perform(post("/api/convert").header("X-Client-Id", "a").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        mvc.perform(post("/api/convert").header("X-Client-Id", "b").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk());
+        // Without the header the client is the remote address
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isOk());
+
+        assertEquals(1, admission.rejected());
+        verify(validator, times(4)).validate(any(), any(Class[].class));
+        factory.close();
+    }
+
+    @Test
+    void testReactiveFilter() {
+        AdmissionControl admission = new AdmissionControl(buckets(64, 1, 1), null);
+        WebTestClient client = WebTestClient.bindToWebHandler(exchange -> exchange.getResponse().setComplete())
+                .webFilter(new ReactiveAdmissionFilter(admission, "/api/"))
+                .build();
+
+        client.post().uri("/api/convert").exchange().expectStatus().isOk();
+        client.post().uri("/api/convert").exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+        // Outside the API
+        client.get().uri("/actuator/health").exchange().expectStatus().isOk();
+    }
+}
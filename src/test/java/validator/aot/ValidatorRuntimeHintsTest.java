@@ -0,0 +1,46 @@
+package validator.aot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import validator.codegen.GeneratedValidator;
+import validator.constraint.FastPatternValidator;
+import validator.payload.CurrencyConversionRequest;
+import validator.payload.ValidationClass;
+import validator.payload.compact.CompactPagination;
+import validator.warmup.ValidationWarmup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new ValidatorRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegistersPayloadBindingAndValidation() {
+        // Object-typed setters of ValidationClass and Lombok accessors
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ValidationClass.class, "setUser").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ValidationClass.class, "setSid").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CurrencyConversionRequest.class, "getFromCurrency").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onField(CurrencyConversionRequest.class, "fromCurrency").test(hints));
+        // @JsonDeserialize(using = ...) of the compact payloads
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CompactPagination.Deserializer.class).test(hints));
+    }
+
+    @Test
+    void testRegistersGeneratedValidatorsAndResources() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(GeneratedValidator.generatedName(CurrencyConversionRequest.class)))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(FastPatternValidator.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource(ValidationWarmup.SAMPLES).test(hints));
+    }
+}
@@ -0,0 +1,155 @@
+package validator.cache;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResultCacheFilterTest {
+
+    private static final String VALID = "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":10}";
+    private static final String INVALID = "{\"fromCurrency\":\"US$\",\"toCurrency\":\"EUR\",\"amount\":10}";
+
+    private ValidatorFactory factory;
+    private ResultCache cache;
+    private MockMvc mvc;
+    private final AtomicInteger validations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        Validator validator = spy(factory.getValidator());
+        doAnswer(invocation -> {
+            validations.incrementAndGet();
+            return invocation.callRealMethod();
+        }).when(validator).validate(any(), any(Class[].class));
+        cache = new ResultCache("convert-results", 100, Duration.ofMinutes(1));
+        mvc = MockMvcBuilders.standaloneSetup(new ValidationController(validator, null, CurrencyConverter.withDefaultRates(), null))
+                .setValidator(new SpringValidatorAdapter(validator))
+                .addFilter(new ResultCacheFilter(cache, 1024), "/api/convert")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void testRepeatedBodyIsAnsweredFromCache() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(VALID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.convertedAmount").value(9.135));
+        }
+
+        assertEquals(1, validations.get());
+        assertEquals(2, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void testRejectionIsReplayedAsError() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(INVALID))
+                    .andExpect(status().isBadRequest());
+        }
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content("{\"fromCurr"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, validations.get());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void testDifferentBodiesAreValidatedSeparately() throws Exception {
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(VALID));
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(VALID + " "));
+
+        assertEquals(2, validations.get());
+        assertEquals(0, cache.stats().hitCount());
+    }
+
+    @Test
+    void testInvalidateAllDropsResponsesInFlight() throws Exception {
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(VALID));
+        cache.invalidateAll();
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON).content(VALID));
+        assertEquals(2, validations.get());
+
+        // A response computed before the invalidation is not stored
+        ResultCache.Key key = new ResultCache.Key(new byte[]{1}, null, null);
+        long generation = cache.generation();
+        cache.invalidateAll();
+        cache.put(key, generation, new ResultCache.Body(200, null, new byte[0]));
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testBufferedBodyNotifiesReadListener() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/convert");
+        request.setContent(VALID.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicInteger allDataRead = new AtomicInteger();
+
+        new ResultCacheFilter(cache, 1024).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+        });
+
+        assertEquals(VALID, read.toString(StandardCharsets.UTF_8));
+        assertEquals(1, allDataRead.get());
+    }
+
+    @Test
+    void testXxHash64ReferenceValues() {
+        assertEquals(0xEF46DB3751D8E999L, XxHash64.hash(new byte[0]));
+        assertEquals(0xD24EC4F1A98C6E5BL, XxHash64.hash("a".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(0x44BC2CF5AD770999L, XxHash64.hash("abc".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(0xFBCEA83C8A378BF1L,
+                XxHash64.hash("Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,72 @@
+package validator.codegen;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import validator.payload.UserAccountRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChecksTest {
+
+    private static final List<String> EMAILS = List.of(
+            "", "a", "@", "a@", "@b", "a@b", "a@b.c", "john.doe@example.com", "invalid-email", "a@@b", "a@b@c",
+            "a.@b", ".a@b", "a..b@c", "a@b.", "a@.b", "a@b..c", "a@-b", "a@b-", "a@b--c", "a@b.-c",
+            "\"a b\"@c", "\"a\\\"b\"@c", "\"a@b\"@c", "\"\"@c", "a+b@c", "a=b@c", "a b@c", "a@b c", "A@B.COM",
+            "é@ü.de", "a@ü", "a@例え.jp", "a@xn--80ak6aa92e.com", "a@[1.2.3.4]", "a@[1.2.3]", "a@[256.1.1.1]",
+            "a@[IPv6:::1]", "a@[IPv6:2001:db8::1]", "a@[IPv6:fe80::1%eth0]", "a@[IPv6:::ffff:1.2.3.4]", "a@[ipv6:::1]",
+            "a@[IPv6:1:2:3:4:5:6:7:8:9]", "a@1.2.3.4", "a@b_c", "a@b!c", "a@b:c", "a@(b)", "a@b/c",
+            "x".repeat(64) + "@b", "x".repeat(65) + "@b", "a@" + "b".repeat(255), "a@" + "b".repeat(256),
+            "a@" + "b.".repeat(127) + "c", "a@" + "ü".repeat(60));
+
+    // Characters that move an address across the rules: separators, quoting, IP literals and non-ASCII
+    private static final String ALPHABET = "aZ09.@-_+\"\\ []:%!é例IPv6";
+
+    private ValidatorFactory factory;
+    private Validator hibernate;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        hibernate = factory.getValidator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private boolean hibernateEmail(String value) {
+        return hibernate.validateValue(UserAccountRequest.class, "email", value).stream()
+                .noneMatch(v -> v.getConstraintDescriptor().getAnnotation().annotationType() == Email.class);
+    }
+
+    // Checks.isEmail copies Hibernate's rules, so a Hibernate upgrade that changes them fails here
+    @Test
+    void testEmailMatchesHibernate() {
+        List<String> corpus = new ArrayList<>(EMAILS);
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder email = new StringBuilder();
+            for (int n = random.nextInt(16); n > 0; n--) {
+                email.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            // Mostly something@something, where the local part and domain rules both apply
+            if (random.nextInt(4) > 0) {
+                email.insert(random.nextInt(email.length() + 1), '@');
+            }
+            corpus.add(email.toString());
+        }
+        for (String email : corpus) {
+            assertEquals(hibernateEmail(email), Checks.isEmail(email), email);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package validator.codegen;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import validator.payload.AccountID;
+import validator.payload.CurrencyConversionRequest;
+import validator.payload.TransactionRequestValidator;
+import validator.payload.UserAccountRequest;
+import validator.payload.ValidationClass;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static validator.ConstraintViolations.describe;
+
+class GeneratedValidatorTest {
+
+    interface OtherGroup {
+    }
+
+    private Validator hibernateValidator;
+    private GeneratedValidator generatedValidator;
+
+    @BeforeEach
+    void setUp() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        hibernateValidator = factory.getValidator();
+        generatedValidator = new GeneratedValidator(hibernateValidator, factory.getMessageInterpolator());
+    }
+
+    private <T> void assertSameAsHibernate(T bean) {
+        assertTrue(generatedValidator.hasGeneratedValidator(bean.getClass()));
+        Set<ConstraintViolation<T>> generated = generatedValidator.validate(bean);
+        assertEquals(describe(hibernateValidator.validate(bean)), describe(generated));
+        for (ConstraintViolation<T> violation : generated) {
+            assertNotNull(violation.getConstraintDescriptor());
+        }
+    }
+
+    @Test
+    void testValidationClassMatchesHibernate() {
+        ValidationClass request = new ValidationClass();
+        request.setUser(null);
+        request.setPassword(" ");
+        request.setSid(null);
+        request.setGroupName("");
+        request.setInitialBalance(-1);
+        assertSameAsHibernate(request);
+
+        Set<ConstraintViolation<ValidationClass>> violations = generatedValidator.validate(request);
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().equals("Initial balance must be zero or positive") && v.getPropertyPath().toString().equals("initialBalance")));
+    }
+
+    @Test
+    void testCustomFieldElementsMatchHibernate() throws ReflectiveOperationException {
+        ValidationClass request = new ValidationClass();
+        request.setUser(1);
+        request.setPassword("password");
+        request.setSid(2);
+        request.setGroupName("group");
+        request.setInitialBalance(0);
+        // setCustomFields ignores its argument, so set the field directly
+        Field customFields = ValidationClass.class.getDeclaredField("customFields");
+        customFields.setAccessible(true);
+        customFields.set(request, Map.of("", "value", "key", " "));
+
+        assertSameAsHibernate(request);
+        Set<ConstraintViolation<ValidationClass>> violations = generatedValidator.validate(request);
+        assertEquals(2, violations.size());
+        assertTrue(violations.stream().anyMatch(v -> v.getMessage().equals("Custom field key cannot be blank")
+                && v.getConstraintDescriptor().getAnnotation().annotationType() == NotBlank.class));
+    }
+
+    @Test
+    void testValidBeanAllocatesNoViolationSet() {
+        CurrencyConversionRequest request = new CurrencyConversionRequest();
+        request.setFromCurrency("USD");
+        request.setToCurrency("EUR");
+        request.setAmount(100.0);
+
+        assertSame(Collections.emptySet(), generatedValidator.validate(request));
+    }
+
+    @Test
+    void testCurrencyConversionRequestMatchesHibernate() {
+        CurrencyConversionRequest request = new CurrencyConversionRequest();
+        request.setFromCurrency("USD$");
+        request.setToCurrency("E");
+        request.setAmount(0.0);
+        assertSameAsHibernate(request);
+
+        request.setFromCurrency(null);
+        request.setToCurrency(" ");
+        request.setAmount(Double.NaN);
+        assertSameAsHibernate(request);
+
+        request.setFromCurrency("USD");
+        request.setToCurrency("EUR");
+        request.setAmount(0.01);
+        assertSameAsHibernate(request);
+    }
+
+    @Test
+    void testUserAccountRequestMatchesHibernate() {
+        UserAccountRequest request = new UserAccountRequest();
+        request.setFirstName("");
+        request.setLastName("Doe");
+        request.setCountry("USA");
+        request.setPhone("+1234567890123456");
+        request.setEmail("invalid-email");
+        request.setClientType("Individual");
+        assertSameAsHibernate(request);
+
+        Set<ConstraintViolation<UserAccountRequest>> violations = generatedValidator.validate(request);
+        assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("country")
+                && v.getConstraintDescriptor().getAnnotation().annotationType() == Pattern.class));
+
+        request.setFirstName("John");
+        request.setCountry("US");
+        request.setPhone("+1234567890");
+        request.setEmail("john.doe@example.com");
+        assertSameAsHibernate(request);
+    }
+
+    @Test
+    void testMessagesFollowTheFactoryInterpolator() {
+        MessageInterpolator defaults = Validation.byDefaultProvider().configure().getDefaultMessageInterpolator();
+        MessageInterpolator german = new MessageInterpolator() {
+            @Override
+            public String interpolate(String template, Context context) {
+                return defaults.interpolate(template, context, Locale.GERMAN);
+            }
+
+            @Override
+            public String interpolate(String template, Context context, Locale locale) {
+                return defaults.interpolate(template, context, locale);
+            }
+        };
+        try (ValidatorFactory factory = Validation.byDefaultProvider().configure().messageInterpolator(german)
+                .buildValidatorFactory()) {
+            Validator hibernate = factory.getValidator();
+            GeneratedValidator generated = new GeneratedValidator(hibernate, factory.getMessageInterpolator());
+            UserAccountRequest request = new UserAccountRequest();
+            request.setFirstName("");
+            request.setCountry("USA");
+            request.setEmail("invalid-email");
+
+            assertEquals(describe(hibernate.validate(request)), describe(generated.validate(request)));
+            assertTrue(generated.validate(request).stream().anyMatch(v -> v.getMessage().equals("darf nicht leer sein")));
+        }
+    }
+
+    @Test
+    void testTransactionAndAccountRequestMatchHibernate() {
+        TransactionRequestValidator.Transaction transaction = new TransactionRequestValidator.Transaction();
+        transaction.setManager("");
+        transaction.setLogin("54321");
+        transaction.setCurrency("USD");
+        assertSameAsHibernate(transaction);
+
+        assertSameAsHibernate(new AccountID.AccountRequest("abc"));
+        assertSameAsHibernate(new AccountID.AccountRequest("123"));
+    }
+
+    @Test
+    void testGroupsAreDelegated() {
+        CurrencyConversionRequest request = new CurrencyConversionRequest();
+        Set<ConstraintViolation<CurrencyConversionRequest>> violations = generatedValidator.validate(request, OtherGroup.class);
+        assertTrue(violations.isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package validator.constraint;
+
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import validator.payload.UserAccountRequest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternMatchersTest {
+
+    private static final List<String> INPUTS = List.of(
+            "", "1", "12", "123", "0123456789", "12a", "a12", " 12", "12\n", "١٢٣",
+            "A", "AB", "ABC", "ABCD", "ab", "abc", "aB", "Ab1", "US", "USD", "usd", "U$D",
+            "+", "+1", "+123456789012345", "+1234567890123456", "++1", "1+", "+12a", "-12");
+
+    private static final List<String> PATTERNS = List.of(
+            "^\\d+$", "\\d+", "[0-9]*", "^[A-Z]{2}$", "^[A-Z]{3}$", "[a-z]{2,}", "^[A-Za-z]{1,3}$",
+            "^[a-zA-Z0-9]+$", "^\\+\\d{1,15}$", "\\+?\\d+", "^\\d{0}$", "ab[0-9]", "^\\d+\\$");
+
+    private static void assertSameAsRegex(String regexp) {
+        PatternMatcher matcher = PatternMatchers.compile(regexp);
+        Pattern pattern = Pattern.compile(regexp);
+        for (String input : INPUTS) {
+            assertEquals(pattern.matcher(input).matches(), matcher.matches(input), regexp + " on '" + input + "'");
+        }
+    }
+
+    @Test
+    void testMatchesLikeRegex() {
+        PATTERNS.forEach(PatternMatchersTest::assertSameAsRegex);
+    }
+
+    @Test
+    void testSimpleShapesUseCharLoops() {
+        assertInstanceOf(PatternMatchers.CharRun.class, PatternMatchers.compile("^\\d+$"));
+        assertInstanceOf(PatternMatchers.CharRun.class, PatternMatchers.compile("^[A-Z]{3}$"));
+        assertInstanceOf(PatternMatchers.CharRun.class, PatternMatchers.compile("^\\+\\d{1,15}$"));
+        assertFalse(PatternMatchers.compile("\\+?\\d+") instanceof PatternMatchers.CharRun);
+        assertFalse(PatternMatchers.compile("^\\d+$", Pattern.CASE_INSENSITIVE) instanceof PatternMatchers.CharRun);
+    }
+
+    @Test
+    void testCompiledOnce() {
+        assertSame(PatternMatchers.compile("^[A-Z]{2}$"), PatternMatchers.compile("^[A-Z]{2}$"));
+        assertNotSame(PatternMatchers.compile("^[A-Z]{2}$"), PatternMatchers.compile("^[A-Z]{2}$", Pattern.CASE_INSENSITIVE));
+    }
+
+    @Test
+    void testFastPatternValidatorReplacesHibernate() {
+        Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        FastPatternValidator.register(configuration);
+        Validator validator = configuration.buildValidatorFactory().getValidator();
+
+        UserAccountRequest request = new UserAccountRequest();
+        request.setFirstName("John");
+        request.setLastName("Doe");
+        request.setCountry("USA");
+        request.setPhone("+1234567890");
+        request.setEmail("john.doe@example.com");
+        request.setClientType("Individual");
+
+        Set<ConstraintViolation<UserAccountRequest>> violations = validator.validate(request);
+        assertEquals(1, violations.size());
+        ConstraintViolation<UserAccountRequest> violation = violations.iterator().next();
+        assertEquals("country", violation.getPropertyPath().toString());
+        assertEquals("must match \"^[A-Z]{2}$\"", violation.getMessage());
+    }
+}
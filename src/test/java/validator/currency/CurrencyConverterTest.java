@@ -0,0 +1,176 @@
+package validator.currency;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.cache.ResultCache;
+import validator.controller.ValidationController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CurrencyConverterTest {
+
+    private ValidatorFactory factory;
+    private CurrencyConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        converter = new CurrencyConverter(RateTable.builder().put("USD", 1).put("EUR", 0.8).put("JPY", 150).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private static RateTable parse(String rates) throws IOException {
+        return RateFile.read(new ByteArrayResource(rates.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testPacksEveryThreeLetterCode() {
+        assertEquals(0, CurrencyCodes.pack("AAA"));
+        assertEquals(CurrencyCodes.SPACE - 1 - 6 * (1 + 32 + 1024), CurrencyCodes.pack("ZZZ"));
+        assertEquals("EUR", CurrencyCodes.unpack(CurrencyCodes.pack("EUR")));
+        for (String invalid : new String[]{null, "", "EU", "EURO", "eur", "E$R", "[AA", "@AA"}) {
+            assertEquals(CurrencyCodes.INVALID, CurrencyCodes.pack(invalid), invalid);
+        }
+    }
+
+    @Test
+    void testConvertsThroughTheBaseCurrency() {
+        Conversion conversion = converter.convert("EUR", "JPY", 2);
+        assertEquals(150 / 0.8, conversion.rate(), 1e-9);
+        assertEquals(2 * 150 / 0.8, conversion.convertedAmount(), 1e-9);
+        assertEquals(1, converter.convert("JPY", "JPY", 1).convertedAmount());
+
+        UnknownCurrencyException unknown = assertThrows(UnknownCurrencyException.class, () -> converter.convert("USD", "GBP", 1));
+        assertEquals("Unknown currency: GBP", unknown.getMessage());
+        assertThrows(UnknownCurrencyException.class, () -> converter.convert("usd", "EUR", 1));
+    }
+
+    @Test
+    void testBatchConvertsInPlaceAtOneRate() {
+        double[] amounts = new double[1001];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = i + 0.5;
+        }
+        BatchConversion batch = converter.convertAll("USD", "EUR", amounts);
+        assertSame(amounts, batch.convertedAmounts());
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals((i + 0.5) * 0.8, amounts[i], 1e-9);
+        }
+
+        assertEquals(-1, CurrencyConverter.firstInvalidAmount(new double[]{0.01, 5, 1e9}));
+        assertEquals(2, CurrencyConverter.firstInvalidAmount(new double[]{1, 2, 0.001, -1}));
+        assertEquals(0, CurrencyConverter.firstInvalidAmount(new double[]{Double.NaN, 1}));
+    }
+
+    @Test
+    void testReplacePublishesNewSnapshot() {
+        RateTable before = converter.rates();
+        RateTable after = RateTable.builder().put("USD", 1).put("EUR", 0.9).put("GBP", 0.75).build();
+        converter.replace(after);
+
+        assertSame(after, converter.rates());
+        assertEquals(0.8, before.rate(CurrencyCodes.pack("EUR")));
+        assertFalse(before.contains(CurrencyCodes.pack("GBP")));
+        assertEquals(0.9, converter.convert("USD", "EUR", 1).rate());
+    }
+
+    @Test
+    void testReadsRateFile() throws IOException {
+        RateTable table = parse("# base USD\nUSD 1\n\nEUR   0.9  # comment\n");
+        assertEquals(Map.of("USD", 1.0, "EUR", 0.9), table.toMap());
+
+        IOException invalid = assertThrows(IOException.class, () -> parse("USD 1\nEUR -0.9\n"));
+        assertTrue(invalid.getMessage().contains("line 2"), invalid.getMessage());
+        assertThrows(IOException.class, () -> parse("EURO 1\n"));
+        assertThrows(IOException.class, () -> parse("EUR\n"));
+
+        assertTrue(CurrencyConverter.withDefaultRates().rates().size() > 30);
+    }
+
+    @Test
+    void testReloadsChangedFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("rates.txt");
+        Files.writeString(file, "USD 1\nEUR 0.8\n");
+        FileSystemResource resource = new FileSystemResource(file);
+        converter.replace(RateFile.read(resource));
+
+        ResultCache results = new ResultCache("convert-results", 10, Duration.ofMinutes(1));
+        ResultCache.Key key = new ResultCache.Key(new byte[]{1}, null, null);
+        results.put(key, results.generation(), new ResultCache.Body(200, null, new byte[0]));
+
+        try (RateFileReloader reloader = new RateFileReloader(converter, resource, Duration.ofHours(1), results)) {
+            assertFalse(reloader.reloadIfModified());
+            assertNotNull(results.get(key));
+
+            Files.writeString(file, "USD 1\nEUR 0.9\n");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+            assertTrue(reloader.reloadIfModified());
+            assertEquals(0.9, converter.convert("USD", "EUR", 1).rate());
+            // Conversions cached with the old rates are gone
+            assertNull(results.get(key));
+
+            // A broken file keeps the last good rates
+            Files.writeString(file, "USD one\n");
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+            assertFalse(reloader.reloadIfModified());
+            assertEquals(0.9, converter.convert("USD", "EUR", 1).rate());
+        }
+    }
+
+    @Test
+    void testConvertEndpoints() throws Exception {
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ValidationController(factory.getValidator(), null, converter, null))
+                .setValidator(new SpringValidatorAdapter(factory.getValidator()))
+                .build();
+
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromCurrency\":\"USD\",\"toCurrency\":\"JPY\",\"amount\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rate").value(150.0))
+                .andExpect(jsonPath("$.convertedAmount").value(300.0));
+        mvc.perform(post("/api/convert").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromCurrency\":\"USD\",\"toCurrency\":\"GBP\",\"amount\":2}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"errors\":[{\"path\":\"toCurrency\",\"code\":\"UnknownCurrency\"}]}", true));
+
+        mvc.perform(post("/api/convert/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromCurrency\":\"USD\",\"toCurrency\":\"JPY\",\"amounts\":[1,2.5,10]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rate").value(150.0))
+                .andExpect(jsonPath("$.convertedAmounts[1]").value(375.0));
+        mvc.perform(post("/api/convert/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromCurrency\":\"USD\",\"toCurrency\":\"JPY\",\"amounts\":[1,0]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"errors\":[{\"path\":\"amounts[1]\",\"code\":\"Positive\"}]}", true));
+        mvc.perform(post("/api/convert/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromCurrency\":\"USD\",\"toCurrency\":\"JPY\",\"amounts\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,172 @@
+package validator.duplicate;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+import validator.payload.TransactionRequestValidator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DuplicateTransactionsTest {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.DAYS.toNanos(5));
+
+    private FingerprintWindow window(long capacity, Duration window) {
+        return new FingerprintWindow(capacity, window, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static TransactionRequestValidator.Transaction transaction(String comment) {
+        TransactionRequestValidator.Transaction transaction = new TransactionRequestValidator.Transaction();
+        transaction.setAmount(150.0);
+        transaction.setSid(123);
+        transaction.setManager("12345");
+        transaction.setLogin("54321");
+        transaction.setCurrency("USD");
+        transaction.setComment(comment);
+        return transaction;
+    }
+
+    @Test
+    void testFingerprintsExpireAfterWindow() {
+        FingerprintWindow window = window(1024, Duration.ofMinutes(10));
+        assertEquals(1024, window.capacity());
+
+        assertTrue(window.add(42));
+        assertFalse(window.add(42));
+        assertTrue(window.add(43));
+        advance(Duration.ofMinutes(9));
+        assertFalse(window.add(42));
+        advance(Duration.ofMinutes(1));
+        assertTrue(window.add(42));
+        assertFalse(window.add(42));
+    }
+
+    @Test
+    void testFullTableEvictsOldest() {
+        // One bucket
+        FingerprintWindow window = window(1, Duration.ofHours(1));
+        assertEquals(FingerprintWindow.BUCKET, window.capacity());
+        for (long i = 1; i <= FingerprintWindow.BUCKET + 1; i++) {
+            // Same bucket, different tags
+            assertTrue(window.add(i << 40));
+            advance(Duration.ofSeconds(1));
+        }
+        assertEquals(1, window.evictions());
+        assertTrue(window.add(1L << 40));
+        assertFalse(window.add((FingerprintWindow.BUCKET + 1L) << 40));
+
+        // Expired entries make room without evictions
+        advance(Duration.ofHours(1));
+        for (long i = 100; i < 100 + FingerprintWindow.BUCKET; i++) {
+            assertTrue(window.add(i << 40));
+        }
+        assertEquals(2, window.evictions());
+    }
+
+    @Test
+    void testConcurrentAddsAcceptOnce() throws InterruptedException {
+        FingerprintWindow window = window(1 << 16, Duration.ofMinutes(1));
+        AtomicInteger added = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long fingerprint = 0; fingerprint < 10_000; fingerprint++) {
+                    if (window.add(fingerprint * 0x9E3779B97F4A7C15L)) {
+                        added.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(10_000, added.get());
+        assertEquals(0, window.evictions());
+    }
+
+    @Test
+    void testFingerprintCoversEveryField() {
+        DuplicateTransactions duplicates = new DuplicateTransactions(window(1024, Duration.ofMinutes(1)));
+        TransactionRequestValidator.Transaction transaction = transaction("Invoice 1");
+        long fingerprint = duplicates.fingerprint(transaction);
+
+        TransactionRequestValidator.Transaction lowerCase = transaction("Invoice 1");
+        lowerCase.setCurrency("usd");
+        assertEquals(fingerprint, duplicates.fingerprint(lowerCase));
+
+        List<TransactionRequestValidator.Transaction> others = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            others.add(transaction("Invoice 1"));
+        }
+        others.get(0).setAmount(150.01);
+        others.get(1).setSid(124);
+        others.get(2).setManager("1234");
+        others.get(3).setLogin("5432");
+        others.get(4).setCurrency("EUR");
+        others.get(5).setComment("Invoice 2");
+        for (TransactionRequestValidator.Transaction other : others) {
+            assertNotEquals(fingerprint, duplicates.fingerprint(other));
+        }
+        // Field boundaries count
+        TransactionRequestValidator.Transaction shifted = transaction("Invoice 1");
+        shifted.setManager("123");
+        shifted.setLogin("4554321");
+        assertNotEquals(fingerprint, duplicates.fingerprint(shifted));
+    }
+
+    @Test
+    void testRepeatedTransactionIsRejected() throws Exception {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        DuplicateTransactions duplicates = new DuplicateTransactions(window(1024, Duration.ofMinutes(1)));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ValidationController(factory.getValidator(), null,
+                        CurrencyConverter.withDefaultRates(), duplicates))
+                .setValidator(new SpringValidatorAdapter(factory.getValidator()))
+                .build();
+        String body = "{\"amount\":150.0,\"sid\":123,\"manager\":\"12345\",\"login\":\"54321\",\"currency\":\"USD\",\"comment\":\"%s\"}";
+
+        mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content(body.formatted("A")))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content(body.formatted("A")))
+                .andExpect(status().isConflict())
+                .andExpect(content().json("{\"errors\":[{\"path\":\"\",\"code\":\"Duplicate\"}]}", true));
+        mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content(body.formatted("B")))
+                .andExpect(status().isOk());
+        // Invalid transactions are not recorded
+        String invalid = body.formatted(" ");
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content(invalid))
+                    .andExpect(status().isBadRequest());
+        }
+
+        assertEquals(1, duplicates.duplicates());
+        factory.close();
+    }
+}
@@ -0,0 +1,105 @@
+package validator.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+import validator.payload.CurrencyConversionRequest;
+import validator.payload.TransactionRequestValidator;
+import validator.payload.ValidationClass;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ValidationMetricsTest {
+
+    private ValidatorFactory factory;
+    private SimpleMeterRegistry registry;
+    private MeteredValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        registry = new SimpleMeterRegistry();
+        validator = new MeteredValidator(factory.getValidator(), new ValidationMetrics(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private double violations(String constraint) {
+        return registry.get("validation.violations").tag("constraint", constraint).counter().count();
+    }
+
+    private double requests(String type, String outcome) {
+        return registry.get("validation.requests").tag("type", type).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void testCountsOutcomesAndViolationsPerConstraint() {
+        CurrencyConversionRequest request = new CurrencyConversionRequest();
+        request.setFromCurrency("US$");
+        request.setToCurrency("EUR");
+        request.setAmount(1.0);
+        validator.validate(request);
+        validator.validate(request);
+        request.setFromCurrency("USD");
+        validator.validate(request);
+
+        assertEquals(2, requests("CurrencyConversionRequest", ValidationMetrics.INVALID));
+        assertEquals(1, requests("CurrencyConversionRequest", ValidationMetrics.VALID));
+        assertEquals(2, violations("CurrencyConversionRequest.fromCurrency/Pattern"));
+        assertEquals(3, registry.get("validation.duration").tag("type", "CurrencyConversionRequest").timer().count());
+    }
+
+    @Test
+    void testConstraintTagLeavesOutMapKeys() throws ReflectiveOperationException {
+        ValidationClass request = new ValidationClass();
+        request.setUser(1);
+        request.setPassword("password");
+        request.setSid(2);
+        request.setGroupName("group");
+        request.setInitialBalance(0);
+        // setCustomFields ignores its argument, so set the field directly
+        Field customFields = ValidationClass.class.getDeclaredField("customFields");
+        customFields.setAccessible(true);
+        customFields.set(request, Map.of("a", " ", "b", " "));
+        validator.validate(request);
+
+        assertEquals(2, violations("ValidationClass.customFields.<map value>/NotBlank"));
+    }
+
+    @Test
+    void testNestedPayloadType() {
+        validator.validate(new TransactionRequestValidator.Transaction());
+
+        assertEquals(1, requests("TransactionRequestValidator.Transaction", ValidationMetrics.INVALID));
+    }
+
+    @Test
+    void testMissingFieldsCountAsInvalid() throws Exception {
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ValidationController(factory.getValidator(),
+                new ValidationMetrics(registry), CurrencyConverter.withDefaultRates(), null)).build();
+        mvc.perform(post("/api/validate/pagination").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromUserId\":1,\"limit\":10}"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/api/validate/pagination").contentType(MediaType.APPLICATION_JSON).content("{\"limit\":"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, requests("PaginationValidator", ValidationMetrics.INVALID));
+        assertEquals(1, requests("PaginationValidator", ValidationMetrics.MALFORMED));
+    }
+}
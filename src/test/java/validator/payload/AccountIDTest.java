@@ -9,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.*;
+import validator.account.InMemoryAccountStore;
 
 import java.util.List;
 import java.util.Set;
@@ -62,7 +63,7 @@ class AccountIDTest {
     @Test
     void testGetAssociatedAccountsSuccess() {
         // Mock the behavior of accountService
-        when(accountService.getAssociatedAccounts("1")).thenReturn(List.of("AccountA", "AccountB"));
+        when(accountService.getAssociatedAccounts("1")).thenReturn(ValidationResult.valid(List.of("AccountA", "AccountB")));
 
         // Create a valid request and call the method
         AccountID.AccountRequest request = new AccountID.AccountRequest("1");
@@ -75,8 +76,8 @@ class AccountIDTest {
 
     @Test
     void testGetAssociatedAccountsNoAccountsFound() {
-        // Mock the behavior of accountService to throw an exception
-        when(accountService.getAssociatedAccounts("999")).thenThrow(new IllegalArgumentException("No associated accounts found for account ID 999"));
+        // Mock the behavior of accountService to report that nothing was found
+        when(accountService.getAssociatedAccounts("999")).thenReturn(ValidationResult.invalid("No associated accounts found for account ID 999"));
 
         // Create a valid request and call the method
         AccountID.AccountRequest request = new AccountID.AccountRequest("999");
@@ -112,4 +113,14 @@ class AccountIDTest {
         assertEquals(1, violations.size());
         assertTrue(violations.stream().anyMatch(v -> v.getPropertyPath().toString().equals("accountId") && v.getMessage().equals("Account ID must be a numeric string.")));
     }
+
+    @Test
+    void testAccountIdWithLeadingZeroIsNotFound() {
+        AccountService service = new AccountService(InMemoryAccountStore.builder(1).put(1, List.of("AccountA")).build());
+
+        assertTrue(service.getAssociatedAccounts("1").isValid());
+        assertFalse(service.getAssociatedAccounts("01").isValid());
+        assertEquals(0, AccountService.parseAccountId("0"));
+        assertEquals(-1, AccountService.parseAccountId("00"));
+    }
 }
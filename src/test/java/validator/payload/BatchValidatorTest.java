@@ -0,0 +1,104 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchValidatorTest {
+
+    private ObjectMapper mapper;
+    private BatchValidator<CurrencyConversionRequest> batchValidator;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        Validator validator = factory.getValidator();
+        batchValidator = new BatchValidator<>(mapper, validator, CurrencyConversionRequest.class);
+    }
+
+    private List<JsonNode> run(String body, long expectedElements) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = batchValidator.validate(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+        assertEquals(expectedElements, count);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(mapper.readTree(line));
+        }
+        return results;
+    }
+
+    @Test
+    void testJsonArray() throws IOException {
+        String body = """
+                [
+                  {"fromCurrency":"USD","toCurrency":"EUR","amount":10.0},
+                  {"fromCurrency":"US","toCurrency":"EUR","amount":10.0}
+                ]
+                """;
+        List<JsonNode> results = run(body, 2);
+
+        assertEquals(2, results.size());
+        assertEquals(0, results.get(0).get("index").asInt());
+        assertTrue(results.get(0).get("valid").asBoolean());
+        assertEquals(1, results.get(1).get("index").asInt());
+        assertFalse(results.get(1).get("valid").asBoolean());
+        assertEquals("fromCurrency", results.get(1).get("errors").get(0).get("field").asText());
+        assertEquals("fromCurrency must be a valid 3-letter currency code.", results.get(1).get("errors").get(0).get("message").asText());
+    }
+
+    @Test
+    void testNdjson() throws IOException {
+        String body = """
+                {"fromCurrency":"USD","toCurrency":"EUR","amount":10.0}
+                {"fromCurrency":"USD","toCurrency":"EUR","amount":0.0}
+                {"fromCurrency":"KES","toCurrency":"USD","amount":1.5}
+                """;
+        List<JsonNode> results = run(body, 3);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).get("valid").asBoolean());
+        assertFalse(results.get(1).get("valid").asBoolean());
+        assertEquals("Amount must be greater than 0.", results.get(1).get("errors").get(0).get("message").asText());
+        assertTrue(results.get(2).get("valid").asBoolean());
+    }
+
+    @Test
+    void testBindingErrorDoesNotStopBatch() throws IOException {
+        String body = """
+                [{"fromCurrency":"USD","toCurrency":"EUR","amount":"lots"}, null, {"fromCurrency":"USD","toCurrency":"EUR","amount":1}]
+                """;
+        List<JsonNode> results = run(body, 3);
+
+        assertEquals(3, results.size());
+        assertFalse(results.get(0).get("valid").asBoolean());
+        assertTrue(results.get(0).has("error"));
+        assertFalse(results.get(1).get("valid").asBoolean());
+        assertTrue(results.get(2).get("valid").asBoolean());
+    }
+
+    @Test
+    void testMalformedJsonEndsBatch() throws IOException {
+        String body = "[{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":1}, {\"fromCurrency\": ";
+        List<JsonNode> results = run(body, 1);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).get("valid").asBoolean());
+        assertEquals(1, results.get(1).get("index").asInt());
+        assertTrue(results.get(1).has("error"));
+    }
+}
@@ -0,0 +1,131 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import validator.payload.compact.CompactPagination;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedNdjsonReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final Map<Long, CurrencyConversionRequest> records = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> malformed = new ConcurrentHashMap<>();
+
+    private final MappedNdjsonReader.Handler<CurrencyConversionRequest> handler = new MappedNdjsonReader.Handler<>() {
+        @Override
+        public void record(long offset, CurrencyConversionRequest record) {
+            records.put(offset, record);
+        }
+
+        @Override
+        public void malformed(long offset, String message) {
+            malformed.put(offset, message);
+        }
+    };
+
+    private static String line(int i) {
+        return "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":" + i + ".5}\n";
+    }
+
+    @Test
+    void testReadsEveryRecordAcrossChunks() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append(line(i));
+        }
+        Path file = Files.writeString(dir.resolve("records.ndjson"), content);
+
+        // Chunks far smaller than the file, so boundaries fall inside lines
+        MappedNdjsonReader.Stats stats = new MappedNdjsonReader<>(new ObjectMapper(), CurrencyConversionRequest.class, 100)
+                .read(file, 3, handler);
+
+        assertEquals(new MappedNdjsonReader.Stats(1000, 0, Files.size(file)), stats);
+        int i = 0;
+        for (Map.Entry<Long, CurrencyConversionRequest> entry : records.entrySet()) {
+            assertEquals(content.indexOf(line(i)), entry.getKey());
+            assertEquals(i + 0.5, entry.getValue().getAmount());
+            i++;
+        }
+    }
+
+    @Test
+    void testSkipsMalformedLines() throws IOException {
+        String content = line(1)
+                + "not json\n"
+                + "{\"fromCurrency\":\"USD\",\"amount\":\"many\"}\n"
+                + "\n"
+                + "{\"fromCurrency\":\"USD\"\n"
+                + line(2)
+                + "  " + line(3).trim();
+        Path file = Files.writeString(dir.resolve("mixed.ndjson"), content);
+
+        MappedNdjsonReader.Stats stats = new MappedNdjsonReader<>(new ObjectMapper(), CurrencyConversionRequest.class)
+                .read(file, 2, handler);
+
+        assertEquals(3, stats.records());
+        assertEquals(3, stats.malformed());
+        assertEquals(Set.of((long) content.indexOf("not json"),
+                (long) content.indexOf("{\"fromCurrency\":\"USD\",\"amount\""),
+                (long) content.indexOf("{\"fromCurrency\":\"USD\"\n")), malformed.keySet());
+        assertEquals(3.5, records.get((long) content.indexOf(line(3).trim())).getAmount());
+    }
+
+    // The compact deserializers read from the non-blocking parser as from a byte[] one, null and coercion included
+    @Test
+    void testBindsCompactPayloads() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<String> lines = List.of(
+                "{\"fromUserId\":100001,\"limit\":10,\"offset\":0}",
+                "{\"fromUserId\":100002,\"limit\":null}",
+                "{\"fromUserId\":\"100003\",\"limit\":10,\"offset\":5}",
+                "{\"fromUserId\":1,\"limit\":\"many\",\"offset\":0}",
+                "{\"fromUserId\":1,\"page\":2}",
+                "{\"offset\":7,\"limit\":1,\"fromUserId\":100004}");
+        Path file = Files.writeString(dir.resolve("pages.ndjson"), String.join("\n", lines) + "\n");
+        Map<Long, CompactPagination> pages = new ConcurrentSkipListMap<>();
+
+        MappedNdjsonReader.Stats stats = new MappedNdjsonReader<>(mapper, CompactPagination.class).read(file, 1,
+                new MappedNdjsonReader.Handler<>() {
+                    @Override
+                    public void record(long offset, CompactPagination record) {
+                        pages.put(offset, record);
+                    }
+
+                    @Override
+                    public void malformed(long offset, String message) {
+                        malformed.put(offset, message);
+                    }
+                });
+
+        assertEquals(4, stats.records());
+        assertEquals(2, stats.malformed());
+        long offset = 0;
+        for (String line : lines) {
+            CompactPagination page = pages.get(offset);
+            if (page == null) {
+                assertTrue(malformed.containsKey(offset), line);
+            } else {
+                CompactPagination expected = mapper.readValue(line, CompactPagination.class);
+                assertEquals(expected.presentFields(), page.presentFields(), line);
+                assertEquals(List.of(expected.getFromUserId(), expected.getLimit(), expected.getOffset()),
+                        List.of(page.getFromUserId(), page.getLimit(), page.getOffset()), line);
+            }
+            offset += line.length() + 1;
+        }
+        assertTrue(CompactPagination.validate(pages.get(0L)));
+        assertFalse(CompactPagination.validate(pages.get((long) lines.get(0).length() + 1)));
+    }
+}
@@ -1,5 +1,7 @@
 package validator.payload;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -7,6 +9,7 @@ import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -106,4 +109,32 @@ class PaginationValidatorTest {
         // Assert that validate method returns false
         assertFalse(PaginationValidator.validate(paginationValidator));
     }
+
+    private static ValidationOutcome stream(String json) throws IOException {
+        return PaginationValidator.validate(new ObjectMapper().createParser(json));
+    }
+
+    @Test
+    void testStreamingValidation() throws IOException {
+        assertEquals(ValidationOutcome.VALID, stream("{\"fromUserId\":1,\"limit\":10,\"offset\":0}"));
+        assertEquals(ValidationOutcome.VALID, stream("{\"offset\":\"5\",\"limit\":2.0,\"fromUserId\":3}"));
+        assertEquals(ValidationOutcome.INVALID, stream("{\"fromUserId\":1,\"limit\":0,\"offset\":0}"));
+        assertEquals(ValidationOutcome.INVALID, stream("{\"fromUserId\":null,\"limit\":10,\"offset\":0}"));
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("{\"fromUserId\":1,\"limit\":10}"));
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("[1, 2, 3]"));
+    }
+
+    @Test
+    void testStreamingValidationKeepsBindingPrecedence() throws IOException {
+        // Structure errors come before invalid values, as when the body was bound first
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("{\"limit\":-1}"));
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("{\"limit\":-1,\"offset\":\"x\"}"));
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> stream("{\"fromUserId\":1,\"limit\":0,\"offset\":0,\"extra\":{\"a\":[1]}}"));
+        assertThrows(IOException.class, () -> stream("{\"fromUserId\":0,\"limit\":\"x\",\"offset\":0}"));
+        // The whole body is read, so a malformed tail fails even after an invalid value
+        assertThrows(IOException.class, () -> stream("{\"limit\":-1,\"offset\":}"));
+        // The last of repeated fields counts
+        assertEquals(ValidationOutcome.VALID, stream("{\"fromUserId\":1,\"limit\":0,\"offset\":0,\"limit\":5}"));
+    }
 }
@@ -7,6 +7,9 @@ import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -147,4 +150,65 @@ class TransactionRequestValidatorTest {
         // Assert that validate method returns false
         assertFalse(transactionValidator.validate(transaction));
     }
+
+    @Test
+    void testColumnarBatchMatchesPerObjectValidation() {
+        double[] amounts = {150.0, 0.01, 0.0, -0.0, -5, Double.NaN, Double.POSITIVE_INFINITY, Double.MIN_VALUE};
+        int[] sids = {123, 1, 0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        String[] ids = {"12345", "0", "", "12a", "-1", "99999999999999999999999", "٣"};
+        String[] currencies = {"USD", "eur", "Kes", "JPY", "US", "USDX", "U$D"};
+        String[] comments = {"Valid transaction", "", "   ", "x"};
+
+        TransactionColumns batch = new TransactionColumns(0);
+        List<TransactionRequestValidator.Transaction> transactions = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            TransactionRequestValidator.Transaction t = new TransactionRequestValidator.Transaction();
+            // Mostly valid rows, so single failures are covered too
+            boolean valid = random.nextBoolean();
+            t.setAmount(valid ? 150.0 : amounts[random.nextInt(amounts.length)]);
+            t.setSid(valid ? 123 : sids[random.nextInt(sids.length)]);
+            t.setManager(valid ? "12345" : ids[random.nextInt(ids.length)]);
+            t.setLogin(random.nextBoolean() ? "54321" : ids[random.nextInt(ids.length)]);
+            t.setCurrency(random.nextBoolean() ? "USD" : currencies[random.nextInt(currencies.length)]);
+            t.setComment(random.nextBoolean() ? "ok" : comments[random.nextInt(comments.length)]);
+            transactions.add(t);
+            batch.add(t);
+        }
+
+        TransactionViolations violations = transactionValidator.validate(batch);
+
+        assertEquals(5000, violations.size());
+        int invalid = 0;
+        for (int i = 0; i < transactions.size(); i++) {
+            boolean expected = transactionValidator.validate(transactions.get(i));
+            assertEquals(expected, violations.isValid(i), "row " + i);
+            assertEquals(!expected, (violations.bitmap()[i >>> 6] & 1L << i) != 0, "row " + i);
+            if (!expected) {
+                assertEquals(i, violations.nextInvalid(invalid == 0 ? 0 : i));
+                invalid++;
+            }
+        }
+        assertEquals(invalid, violations.count());
+        assertTrue(invalid > 0 && invalid < 5000);
+
+        // One row per failed check
+        TransactionColumns fields = new TransactionColumns(0)
+                .add(-1, 1, "1", "1", "USD", "c")
+                .add(1, 0, "1", "1", "USD", "c")
+                .add(1, 1, "x", "1", "USD", "c")
+                .add(1, 1, "1", "", "USD", "c")
+                .add(1, 1, "1", "1", null, "c")
+                .add(1, 1, "1", "1", "USD", null)
+                .add(1, 1, "1", "1", "kes", "c");
+        TransactionViolations result = transactionValidator.validate(fields);
+        assertEquals(TransactionViolations.AMOUNT, result.fields(0));
+        assertEquals(TransactionViolations.SID, result.fields(1));
+        assertEquals(TransactionViolations.MANAGER, result.fields(2));
+        assertEquals(TransactionViolations.LOGIN, result.fields(3));
+        assertEquals(TransactionViolations.CURRENCY, result.fields(4));
+        assertEquals(TransactionViolations.COMMENT, result.fields(5));
+        assertEquals(0, result.fields(6));
+        assertEquals(-1, result.nextInvalid(6));
+    }
 }
@@ -1,5 +1,7 @@
 package validator.payload;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -7,6 +9,7 @@ import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -97,4 +100,29 @@ class UserVerificationValidatorTest {
         // Assert that the result is false due to isVerified and verified being null
         assertFalse(result);
     }
+
+    private static ValidationOutcome stream(String json) throws IOException {
+        return UserVerificationValidator.validate(new ObjectMapper().createParser(json));
+    }
+
+    @Test
+    void testStreamingValidation() throws IOException {
+        assertEquals(ValidationOutcome.VALID, stream("{\"user\":1,\"isVerified\":true,\"verified\":false}"));
+        assertEquals(ValidationOutcome.VALID, stream("{\"verified\":\"true\",\"isVerified\":false,\"user\":\"7\"}"));
+        assertEquals(ValidationOutcome.INVALID, stream("{\"user\":0,\"isVerified\":true,\"verified\":true}"));
+        assertEquals(ValidationOutcome.INVALID, stream("{\"user\":1,\"isVerified\":null,\"verified\":true}"));
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("{\"user\":1,\"verified\":true}"));
+        assertThrows(UnrecognizedPropertyException.class, () -> stream("{\"user\":1,\"isVerified\":true,\"verified\":true,\"x\":1}"));
+        assertThrows(IOException.class, () -> stream("{\"user\":{},\"isVerified\":true,\"verified\":true}"));
+    }
+
+    @Test
+    void testStreamingValidationKeepsBindingPrecedence() throws IOException {
+        // Structure errors come before invalid values, as when the body was bound first
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("{\"user\":0}"));
+        assertEquals(ValidationOutcome.MISSING_FIELDS, stream("{\"user\":0,\"isVerified\":{}}"));
+        assertThrows(UnrecognizedPropertyException.class, () -> stream("{\"user\":0,\"isVerified\":true,\"verified\":true,\"x\":1}"));
+        assertThrows(IOException.class, () -> stream("{\"user\":0,\"isVerified\":[],\"verified\":true}"));
+        assertThrows(IOException.class, () -> stream("{\"user\":0,\"isVerified\":true,\"verified\":"));
+    }
 }
@@ -0,0 +1,123 @@
+package validator.payload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireFormatTest {
+
+    private static final String TRANSACTION =
+            "{\"amount\":150.0,\"sid\":123,\"manager\":\"12345\",\"login\":\"54321\",\"currency\":\"USD\",\"comment\":\"%s\"}";
+
+    private ValidatorFactory factory;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        mvc = MockMvcBuilders.standaloneSetup(new ValidationController(factory.getValidator(), null, CurrencyConverter.withDefaultRates(), null))
+                .setValidator(new SpringValidatorAdapter(factory.getValidator()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private MockHttpServletResponse post(String path, WireFormat format, String json) throws Exception {
+        return mvc.perform(MockMvcRequestBuilders.post(path)
+                        .contentType(format.mediaType())
+                        .content(format.transcode(json.getBytes(StandardCharsets.UTF_8))))
+                .andReturn().getResponse();
+    }
+
+    private static JsonNode read(WireFormat format, MockHttpServletResponse response) throws IOException {
+        assertEquals(format.contentType(), MediaType.parseMediaType(response.getContentType()).toString());
+        return format.mapper().readTree(response.getContentAsByteArray());
+    }
+
+    @Test
+    void testContentTypeSelectsFormat() {
+        assertEquals(WireFormat.JSON, WireFormat.of(null));
+        assertEquals(WireFormat.JSON, WireFormat.of("application/json;charset=UTF-8"));
+        assertEquals(WireFormat.JSON, WireFormat.of("text/plain"));
+        assertEquals(WireFormat.SMILE, WireFormat.of("application/x-jackson-smile"));
+        assertEquals(WireFormat.CBOR, WireFormat.of("Application/CBOR"));
+    }
+
+    @Test
+    void testBoundPayloadsAreValidatedInEveryFormat() throws Exception {
+        for (WireFormat format : WireFormat.values()) {
+            MockHttpServletResponse valid = post("/api/validate/transaction", format, TRANSACTION.formatted("A"));
+            assertEquals(200, valid.getStatus(), format.name());
+            assertEquals("Transaction is valid.", valid.getContentAsString());
+
+            MockHttpServletResponse invalid = post("/api/validate/transaction", format, TRANSACTION.formatted(" "));
+            assertEquals(400, invalid.getStatus(), format.name());
+            JsonNode error = read(format, invalid).get("errors").get(0);
+            assertEquals("comment", error.get("path").asText());
+            assertEquals("NotBlank", error.get("code").asText());
+        }
+    }
+
+    @Test
+    void testConversionIsAnsweredInRequestFormat() throws Exception {
+        for (WireFormat format : WireFormat.values()) {
+            MockHttpServletResponse response = post("/api/convert", format,
+                    "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":10}");
+            assertEquals(200, response.getStatus(), format.name());
+            assertEquals(9.135, read(format, response).get("convertedAmount").asDouble(), 1e-9);
+        }
+    }
+
+    @Test
+    void testStreamingEndpointsReadBinaryBodies() throws Exception {
+        for (WireFormat format : List.of(WireFormat.SMILE, WireFormat.CBOR)) {
+            MockHttpServletResponse valid = post("/api/validate/pagination", format, "{\"fromUserId\":1,\"limit\":10,\"offset\":0}");
+            assertEquals("Pagination Payload Valid", valid.getContentAsString());
+
+            MockHttpServletResponse missing = post("/api/validate/user", format, "{\"user\":1}");
+            assertEquals(400, missing.getStatus());
+            assertEquals("MissingFields", read(format, missing).get("errors").get(0).get("code").asText());
+        }
+    }
+
+    @Test
+    void testBatchResultsAreASequenceOfValues() throws Exception {
+        String element = """
+                {"user":1,"password":"secret","sid":2,"groupName":"group","initialBalance":%d,
+                 "notifyDisable":false,"readOnly":false,"customFields":{"key":"value"}}""";
+        String batch = "[" + element.formatted(100) + "," + element.formatted(-1) + "]";
+
+        MockHttpServletResponse response = post("/api/validate/batch", WireFormat.SMILE, batch);
+
+        assertEquals(WireFormat.SMILE_VALUE, response.getContentType());
+        try (MappingIterator<JsonNode> results = WireFormat.SMILE.mapper().readerFor(JsonNode.class)
+                .readValues(response.getContentAsByteArray())) {
+            List<JsonNode> all = results.readAll();
+            assertEquals(2, all.size());
+            assertEquals(1, all.get(1).get("index").asInt());
+            assertFalse(all.get(1).get("valid").asBoolean());
+            assertEquals(2, all.get(1).get("errors").size());
+        }
+    }
+}
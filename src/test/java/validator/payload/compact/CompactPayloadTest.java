@@ -0,0 +1,128 @@
+package validator.payload.compact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import validator.codegen.GeneratedValidator;
+import validator.payload.PaginationValidator;
+import validator.payload.UserVerificationValidator;
+import validator.payload.ValidationClass;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactPayloadTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ValidatorFactory factory;
+    private Validator validator;
+    private GeneratedValidator generatedValidator;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        generatedValidator = new GeneratedValidator(validator, factory.getMessageInterpolator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private static <T> Set<String> describe(Set<ConstraintViolation<T>> violations) {
+        Set<String> described = new TreeSet<>();
+        for (ConstraintViolation<T> violation : violations) {
+            described.add(violation.getPropertyPath() + " | " + violation.getMessage());
+        }
+        return described;
+    }
+
+    // Same violations as the boxed payload, from Hibernate Validator and from the generated validator
+    private <T> void assertSameViolations(String json, Class<?> boxed, Class<T> compact) throws Exception {
+        T bean = mapper.readValue(json, compact);
+        Set<String> expected = describe(validator.validate(mapper.readValue(json, boxed)));
+        assertEquals(expected, describe(validator.validate(bean)), json);
+        assertTrue(generatedValidator.hasGeneratedValidator(compact));
+        assertEquals(expected, describe(generatedValidator.validate(bean)), json);
+    }
+
+    @Test
+    void testMissingAndNullFieldsFailNotNull() throws Exception {
+        assertSameViolations("{\"fromUserId\":1,\"limit\":10,\"offset\":0}", PaginationValidator.class, CompactPagination.class);
+        assertSameViolations("{\"fromUserId\":1,\"limit\":null}", PaginationValidator.class, CompactPagination.class);
+        assertSameViolations("{}", PaginationValidator.class, CompactPagination.class);
+        assertSameViolations("{\"user\":1,\"isVerified\":false}", UserVerificationValidator.class, CompactUserVerification.class);
+
+        Set<String> violations = describe(validator.validate(mapper.readValue("{\"password\":\"secret\",\"groupName\":\"group\","
+                + "\"initialBalance\":-1,\"customFields\":{\"a\":\"b\"}}", CompactValidationClass.class)));
+        assertEquals(Set.of("initialBalance | Initial balance must be zero or positive", "sid | must not be null",
+                "user | must not be null"), violations);
+    }
+
+    @Test
+    void testValidationClassMatchesBoxedPayload() throws Exception {
+        // ValidationClass drops customFields, so compare with customFields absent
+        assertSameViolations("{\"user\":1,\"password\":\"\",\"sid\":2,\"groupName\":\"group\",\"notifyDisable\":true}",
+                ValidationClass.class, CompactValidationClass.class);
+        assertSameViolations("{\"user\":null,\"password\":\"secret\",\"groupName\":\" \",\"initialBalance\":-5}",
+                ValidationClass.class, CompactValidationClass.class);
+
+        CompactValidationClass request = mapper.readValue("{\"user\":\"7\",\"password\":\"secret\",\"sid\":2,\"groupName\":\"group\","
+                + "\"initialBalance\":100,\"readOnly\":true,\"customFields\":{\"field0\":\"value0\"}}", CompactValidationClass.class);
+        assertEquals(7, request.getUser());
+        assertEquals(100, request.getInitialBalance());
+        assertTrue(request.isReadOnly());
+        assertFalse(request.isNotifyDisable());
+        assertEquals(Map.of("field0", "value0"), request.getCustomFields());
+        assertTrue(validator.validate(request).isEmpty());
+        assertTrue(generatedValidator.validate(request).isEmpty());
+    }
+
+    @Test
+    void testStaticValidateMatchesBoxedPayload() throws Exception {
+        for (String json : new String[]{"{\"fromUserId\":1,\"limit\":10,\"offset\":0}", "{\"fromUserId\":1,\"limit\":0,\"offset\":0}",
+                "{\"fromUserId\":1,\"limit\":10}", "{\"fromUserId\":1,\"limit\":10,\"offset\":null}"}) {
+            assertEquals(PaginationValidator.validate(mapper.readValue(json, PaginationValidator.class)),
+                    CompactPagination.validate(mapper.readValue(json, CompactPagination.class)), json);
+        }
+        for (String json : new String[]{"{\"user\":1,\"isVerified\":true,\"verified\":false}", "{\"user\":0,\"isVerified\":true,\"verified\":true}",
+                "{\"user\":1,\"verified\":true}"}) {
+            assertEquals(UserVerificationValidator.validate(mapper.readValue(json, UserVerificationValidator.class)),
+                    CompactUserVerification.validate(mapper.readValue(json, CompactUserVerification.class)), json);
+        }
+    }
+
+    @Test
+    void testBindingErrorsMatchBoxedPayload() {
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> mapper.readValue("{\"fromUserId\":1,\"page\":2}", CompactPagination.class));
+        assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue("{\"user\":\"x\",\"isVerified\":true,\"verified\":true}", CompactUserVerification.class));
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("[1]", CompactPagination.class));
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        CompactUserVerification user = new CompactUserVerification();
+        user.setUser(3);
+        user.setIsVerified(true);
+        user.setVerified(false);
+
+        String json = mapper.writeValueAsString(user);
+        assertEquals(mapper.readTree("{\"user\":3,\"isVerified\":true,\"verified\":false}"), mapper.readTree(json));
+        CompactUserVerification read = mapper.readValue(json, CompactUserVerification.class);
+        assertEquals(0b111, read.presentFields());
+        assertTrue(CompactUserVerification.validate(read));
+    }
+}
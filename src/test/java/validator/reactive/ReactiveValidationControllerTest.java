@@ -0,0 +1,117 @@
+package validator.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import validator.currency.CurrencyConverter;
+import validator.payload.CurrencyConversionRequest;
+import validator.payload.WireFormat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveValidationControllerTest {
+
+    private ValidatorFactory factory;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        client = WebTestClient.bindToController(new ReactiveValidationController(new ObjectMapper(), factory.getValidator(), null,
+                        CurrencyConverter.withDefaultRates(), null, 1024))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private WebTestClient.ResponseSpec post(String path, String body) {
+        return client.post().uri(path).contentType(MediaType.APPLICATION_JSON).bodyValue(body).exchange();
+    }
+
+    @Test
+    void testConvertValidatesBoundPayload() {
+        post("/api/convert", "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":10}")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.rate").isEqualTo(0.9135)
+                .jsonPath("$.convertedAmount").isEqualTo(9.135);
+        post("/api/convert", "{\"fromCurrency\":\"USD\",\"toCurrency\":\"XYZ\",\"amount\":10}")
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"errors\":[{\"path\":\"toCurrency\",\"code\":\"UnknownCurrency\"}]}", true);
+        post("/api/convert", "{\"fromCurrency\":\"US$\",\"toCurrency\":\"EUR\",\"amount\":10}")
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"errors\":[{\"path\":\"fromCurrency\",\"code\":\"Pattern\"}]}", true);
+        post("/api/convert", "{\"fromCurrency\":")
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"errors\":[{\"path\":\"\",\"code\":\"MalformedJson\"}]}", true);
+        post("/api/convert", "{\"fromCurrency\":\"" + "X".repeat(2000) + "\"}")
+                .expectStatus().isEqualTo(413);
+    }
+
+    @Test
+    void testStreamingEndpointsKeepMvcResponses() {
+        post("/api/validate/pagination", "{\"fromUserId\":1,\"limit\":10,\"offset\":0}")
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Pagination Payload Valid");
+        post("/api/validate/pagination", "{\"fromUserId\":1}")
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"errors\":[{\"path\":\"\",\"code\":\"MissingFields\"}]}", true);
+        post("/api/validate/user", "{\"user\":1,\"isVerified\":true,\"verified\":true}")
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("User Verification Payload Valid");
+        post("/api/validate/user", "{\"user\":")
+                .expectStatus().isBadRequest()
+                .expectBody().json("{\"errors\":[{\"path\":\"\",\"code\":\"MalformedJson\"}]}", true);
+    }
+
+    @Test
+    void testBinaryBodiesAreAnsweredInKind() throws IOException {
+        for (WireFormat format : new WireFormat[]{WireFormat.SMILE, WireFormat.CBOR}) {
+            byte[] conversion = format.transcode("{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":10}"
+                    .getBytes(StandardCharsets.UTF_8));
+            byte[] converted = client.post().uri("/api/convert").contentType(format.mediaType()).bodyValue(conversion).exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(format.mediaType())
+                    .expectBody().returnResult().getResponseBody();
+            assertEquals(9.135, format.mapper().readTree(converted).get("convertedAmount").asDouble(), 1e-9);
+
+            byte[] invalid = format.transcode("{\"fromCurrency\":\"US$\",\"toCurrency\":\"EUR\",\"amount\":10}"
+                    .getBytes(StandardCharsets.UTF_8));
+            byte[] error = client.post().uri("/api/convert").contentType(format.mediaType()).bodyValue(invalid).exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody().returnResult().getResponseBody();
+            assertEquals("fromCurrency", format.mapper().readTree(error).get("errors").get(0).get("path").asText());
+        }
+    }
+
+    @Test
+    void testDecodesBodySplitAcrossBuffers() throws IOException {
+        byte[] json = "{\"fromCurrency\":\"USD\",\"toCurrency\":\"EUR\",\"amount\":12.5}".getBytes(StandardCharsets.UTF_8);
+        // Three bytes per buffer, so names, strings and the number are all cut
+        Flux<DataBuffer> buffers = Flux.range(0, (json.length + 2) / 3)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(json, i * 3, Math.min(json.length, i * 3 + 3))));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonBodyDecoder.Body body = new JsonBodyDecoder(mapper, 1024).decode(buffers, WireFormat.JSON).block();
+
+        CurrencyConversionRequest request = mapper.readValue(body.tokens().asParser(mapper), CurrencyConversionRequest.class);
+        assertEquals("USD", request.getFromCurrency());
+        assertEquals("EUR", request.getToCurrency());
+        assertEquals(12.5, request.getAmount());
+    }
+}
@@ -0,0 +1,96 @@
+package validator.response;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.controller.ValidationController;
+import validator.currency.CurrencyConverter;
+import validator.payload.TransactionRequestValidator;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ErrorBodyTest {
+
+    private ValidatorFactory factory;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        mvc = MockMvcBuilders.standaloneSetup(new ValidationController(factory.getValidator(), null, CurrencyConverter.withDefaultRates(), null))
+                .setValidator(new SpringValidatorAdapter(factory.getValidator()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void testPathsAreEscaped() {
+        byte[] body = new ErrorBody()
+                .add("customFields[a\"b\\c]", "NotNull")
+                .add("tab\there", "Size")
+                .add("caf\u00e9 \u20ac \uD83D\uDE00", "Pattern")
+                .toBytes();
+
+        assertEquals("{\"errors\":[{\"path\":\"customFields[a\\\"b\\\\c]\",\"code\":\"NotNull\"},"
+                        + "{\"path\":\"tab\\u0009here\",\"code\":\"Size\"},"
+                        + "{\"path\":\"caf\u00e9 \u20ac \uD83D\uDE00\",\"code\":\"Pattern\"}]}",
+                new String(body, StandardCharsets.UTF_8));
+        // A lone surrogate cannot be encoded
+        assertEquals("{\"errors\":[{\"path\":\"\uFFFD\",\"code\":\"X\"}]}",
+                new String(ErrorBody.of("\uD800", "X"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testConstraintViolationsUseConstraintNames() {
+        TransactionRequestValidator.Transaction transaction = new TransactionRequestValidator.Transaction();
+        transaction.setManager("1");
+        transaction.setLogin("2");
+        transaction.setCurrency("USD");
+        transaction.setComment(" ");
+
+        assertEquals("{\"errors\":[{\"path\":\"comment\",\"code\":\"NotBlank\"}]}",
+                new String(ErrorBody.of(factory.getValidator().validate(transaction)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testFixedResponsesAreWrittenAsEncoded() throws Exception {
+        String transaction = "{\"amount\":1,\"sid\":1,\"manager\":\"1\",\"login\":\"2\",\"currency\":\"USD\",\"comment\":\"%s\"}";
+        mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content(transaction.formatted("A")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/plain;charset=UTF-8"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, Responses.TRANSACTION_VALID.body().length))
+                .andExpect(content().string("Transaction is valid."));
+
+        // @Valid failures and unreadable bodies are ErrorBody JSON rather than the default error page
+        mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content(transaction.formatted("")))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"errors\":[{\"path\":\"comment\",\"code\":\"NotBlank\"}]}", true));
+        mvc.perform(post("/api/validate/transaction").contentType(MediaType.APPLICATION_JSON).content("{\"amount\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"errors\":[{\"path\":\"\",\"code\":\"MalformedJson\"}]}", true));
+        mvc.perform(post("/api/validate/pagination").contentType(MediaType.APPLICATION_JSON).content("{\"fromUserId\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"errors\":[{\"path\":\"\",\"code\":\"MissingFields\"}]}", true));
+        mvc.perform(post("/api/validate/create").contentType(MediaType.APPLICATION_JSON).content("{"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().bytes(Responses.MALFORMED_JSON.body()));
+    }
+}
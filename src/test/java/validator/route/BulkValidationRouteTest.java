@@ -0,0 +1,184 @@
+package validator.route;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import validator.payload.ValidationClass;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkValidationRouteTest {
+
+    @TempDir
+    Path dir;
+
+    private ValidatorFactory factory;
+    private CamelContext context;
+    private final List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger validated = new AtomicInteger();
+    // Records validated by the time the slow one finishes
+    private volatile int validatedWhileSlow;
+    private volatile int slowUser = -1;
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+        factory.close();
+    }
+
+    // Counts validations and holds up slowUser's record for a second
+    private void validating(Object object) {
+        validated.incrementAndGet();
+        if (object instanceof ValidationClass record && Integer.valueOf(slowUser).equals(record.getUser())) {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            validatedWhileSlow = validated.get();
+        }
+    }
+
+    // setCustomFields discards the map, so leave out that violation to get valid records from JSON
+    private Validator ignoringCustomFields(Validator delegate) {
+        return new Validator() {
+            @Override
+            public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+                validating(object);
+                return delegate.validate(object, groups).stream()
+                        .filter(violation -> !violation.getPropertyPath().toString().equals("customFields"))
+                        .collect(Collectors.toSet());
+            }
+
+            @Override
+            public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+                return delegate.validateProperty(object, propertyName, groups);
+            }
+
+            @Override
+            public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+                return delegate.validateValue(beanType, propertyName, value, groups);
+            }
+
+            @Override
+            public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+                return delegate.getConstraintsForClass(clazz);
+            }
+
+            @Override
+            public <T> T unwrap(Class<T> type) {
+                return delegate.unwrap(type);
+            }
+
+            @Override
+            public ExecutableValidator forExecutables() {
+                return delegate.forExecutables();
+            }
+        };
+    }
+
+    private static String record(int user, boolean valid) {
+        return "{\"user\":" + user + ",\"password\":\"" + (valid ? "secret" : "") + "\",\"sid\":2,\"groupName\":\"group\","
+                + "\"initialBalance\":100,\"notifyDisable\":false,\"readOnly\":false,\"customFields\":{\"key\":\"value\"}}";
+    }
+
+    private void start(boolean ordered) throws Exception {
+        factory = Validation.buildDefaultValidatorFactory();
+        context = new DefaultCamelContext();
+        context.addRoutes(new BulkValidationRoute(ignoringCustomFields(factory.getValidator()),
+                dir.resolve("in").toString(), dir.resolve("rejected").toString(), 4, 8, ordered));
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:processValidPayload")
+                        .process(exchange -> delivered.add((Integer) exchange.getIn().getBody(ValidationClass.class).getUser()));
+            }
+        });
+        context.start();
+    }
+
+    private void drop(String name, String content) throws Exception {
+        Files.createDirectories(dir.resolve("in"));
+        Path tmp = Files.writeString(dir.resolve(name + ".tmp"), content);
+        Files.move(tmp, dir.resolve("in").resolve(name));
+        // The file is moved to .done once the whole split has completed
+        Path done = dir.resolve("in").resolve(".done").resolve(name);
+        for (int i = 0; i < 300 && !Files.exists(done); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(Files.exists(done));
+    }
+
+    @Test
+    void testValidRecordsInInputOrderAndInvalidToDeadLetter() throws Exception {
+        start(true);
+        StringBuilder file = new StringBuilder();
+        List<Integer> expected = new ArrayList<>();
+        for (int user = 1; user <= 200; user++) {
+            boolean valid = user % 3 != 0;
+            file.append(record(user, valid)).append('\n');
+            if (valid) {
+                expected.add(user);
+            }
+        }
+        file.append("not json\n\n");
+        drop("records.ndjson", file.toString());
+
+        assertEquals(expected, delivered);
+        List<String> rejected = Files.readAllLines(dir.resolve("rejected").resolve("records.ndjson.rejected"));
+        assertEquals(67, rejected.size());
+        assertTrue(rejected.get(0).startsWith("{\"line\":3,\"errors\":\"Validation failed: "));
+        assertTrue(rejected.get(66).startsWith("{\"line\":201,\"errors\":\"Failed to parse JSON: "));
+        assertTrue(rejected.get(66).endsWith("\"record\":\"not json\"}"));
+    }
+
+    @Test
+    void testSlowRecordHoldsBackAtMostMaxPendingLines() throws Exception {
+        start(true);
+        slowUser = 1;
+        StringBuilder file = new StringBuilder();
+        List<Integer> expected = new ArrayList<>();
+        for (int user = 1; user <= 200; user++) {
+            file.append(record(user, true)).append('\n');
+            expected.add(user);
+        }
+        drop("slow.ndjson", file.toString());
+
+        assertEquals(expected, delivered);
+        // Only the lines within max-pending (8) of the slow first line were read while it was validated
+        assertTrue(validatedWhileSlow <= 8, "validated while slow: " + validatedWhileSlow);
+        assertEquals(200, validated.get());
+    }
+
+    @Test
+    void testUnorderedDeliversEveryRecord() throws Exception {
+        start(false);
+        StringBuilder file = new StringBuilder();
+        for (int user = 1; user <= 200; user++) {
+            file.append(record(user, user % 2 == 0)).append('\n');
+        }
+        drop("unordered.ndjson", file.toString());
+
+        assertEquals(100, delivered.size());
+        assertEquals(100, delivered.stream().distinct().filter(user -> user % 2 == 0).count());
+        assertEquals(100, Files.readAllLines(dir.resolve("rejected").resolve("unordered.ndjson.rejected")).size());
+    }
+}
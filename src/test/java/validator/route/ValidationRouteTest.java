@@ -0,0 +1,76 @@
+package validator.route;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import validator.payload.WireFormat;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationRouteTest {
+
+    private ValidatorFactory factory;
+    private CamelContext context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        factory = Validation.buildDefaultValidatorFactory();
+        context = new DefaultCamelContext();
+        context.addRoutes(new ValidationRoute(factory.getValidator(), null));
+        context.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+        factory.close();
+    }
+
+    @Test
+    void testInvalidPayloadSetsHeadersInsteadOfThrowing() {
+        // setCustomFields discards the map, so this otherwise valid body fails on customFields
+        String json = """
+                {"user":1,"password":"secret","sid":2,"groupName":"group","initialBalance":100,
+                 "notifyDisable":false,"readOnly":false,"customFields":{"key":"value"}}""";
+
+        Exchange exchange = context.createProducerTemplate()
+                .send("direct:validatePayload", e -> e.getIn().setBody(json));
+
+        // The route stops before direct:processValidPayload, which has no consumer here
+        assertNull(exchange.getException());
+        assertEquals(Boolean.FALSE, exchange.getMessage().getHeader(ValidationRoute.VALIDATION_VALID));
+        assertEquals(400, exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE));
+        String errors = exchange.getMessage().getHeader(ValidationRoute.VALIDATION_ERRORS, String.class);
+        assertTrue(errors.startsWith("Validation failed: "));
+        assertTrue(errors.contains("Custom fields cannot be null"));
+        assertEquals(errors, exchange.getMessage().getBody(String.class));
+    }
+
+    @Test
+    void testBinaryBodiesAreReadByContentType() {
+        String json = """
+                {"user":1,"password":"","sid":2,"groupName":"group","initialBalance":100,
+                 "notifyDisable":false,"readOnly":false}""";
+
+        for (WireFormat format : new WireFormat[]{WireFormat.SMILE, WireFormat.CBOR}) {
+            byte[] body = format.transcode(json.getBytes(StandardCharsets.UTF_8));
+            Exchange exchange = context.createProducerTemplate().send("direct:validatePayload", e -> {
+                e.getIn().setHeader(Exchange.CONTENT_TYPE, format.contentType());
+                e.getIn().setBody(body);
+            });
+
+            assertNull(exchange.getException());
+            assertEquals(Boolean.FALSE, exchange.getMessage().getHeader(ValidationRoute.VALIDATION_VALID));
+            String errors = exchange.getMessage().getHeader(ValidationRoute.VALIDATION_ERRORS, String.class);
+            assertTrue(errors.contains("Custom fields cannot be null"));
+            assertTrue(errors.contains("must not be blank"));
+        }
+    }
+}
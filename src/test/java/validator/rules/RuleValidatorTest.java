@@ -0,0 +1,195 @@
+package validator.rules;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import validator.cache.ResultCache;
+import validator.payload.TransactionRequestValidator;
+import validator.payload.UserAccountRequest;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static validator.ConstraintViolations.describe;
+
+class RuleValidatorTest {
+
+    private ValidatorFactory factory;
+    private Validator hibernateValidator;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        hibernateValidator = factory.getValidator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    private static TransactionRequestValidator.Transaction transaction(String currency) {
+        TransactionRequestValidator.Transaction transaction = new TransactionRequestValidator.Transaction();
+        transaction.setAmount(10);
+        transaction.setSid(1);
+        transaction.setManager("12345");
+        transaction.setLogin("54321");
+        transaction.setCurrency(currency);
+        transaction.setComment("payment");
+        return transaction;
+    }
+
+    private static void write(Path file, String schema, Instant modified) throws IOException {
+        Files.writeString(file, schema);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+    }
+
+    @Test
+    void testBundledRulesMatchAnnotations() throws IOException {
+        ValidationRules rules = new ValidationRules(Map.of(
+                UserAccountRequest.class, RuleSchema.read(new ClassPathResource("rules/UserAccountRequest.rules")),
+                TransactionRequestValidator.Transaction.class, RuleSchema.read(new ClassPathResource("rules/Transaction.rules"))));
+        RuleValidator validator = new RuleValidator(hibernateValidator, rules);
+
+        UserAccountRequest valid = new UserAccountRequest();
+        valid.setFirstName("John");
+        valid.setLastName("Doe");
+        valid.setCountry("US");
+        valid.setPhone("+1234567890");
+        valid.setEmail("john.doe@example.com");
+        valid.setClientType("Individual");
+        UserAccountRequest invalid = new UserAccountRequest();
+        invalid.setFirstName(" ");
+        invalid.setCountry("USA");
+        invalid.setPhone("+1234567890123456");
+        invalid.setEmail("invalid-email");
+        invalid.setClientType("Individual");
+
+        for (Object bean : new Object[]{valid, invalid, transaction("USD"), transaction(""), new TransactionRequestValidator.Transaction()}) {
+            assertEquals(describe(hibernateValidator.validate(bean)), describe(validator.validate(bean)), bean.toString());
+        }
+        assertSame(validator.validate(valid), validator.validate(transaction("USD")));
+
+        // Spring builds error codes and arguments from the descriptor, as for a declared constraint
+        Errors errors = new BeanPropertyBindingResult(invalid, "request");
+        new SpringValidatorAdapter(validator).validate(invalid, errors);
+        Set<String> codes = new TreeSet<>();
+        errors.getFieldErrors().forEach(error -> codes.add(error.getField() + " " + error.getCode()));
+        Set<String> declared = new TreeSet<>();
+        hibernateValidator.validate(invalid).forEach(violation -> declared.add(violation.getPropertyPath() + " "
+                + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName()));
+        assertEquals(declared, codes);
+        assertEquals("Pattern", errors.getFieldError("country").getCode());
+        assertEquals("^[A-Z]{2}$", errors.getFieldError("country").getArguments()[2].toString());
+
+        // The rules' annotations are equal to the declared ones, in both directions and by hash code
+        Map<String, Annotation> annotations = new HashMap<>();
+        hibernateValidator.validate(invalid).forEach(violation -> annotations.put(violation.getPropertyPath().toString(),
+                violation.getConstraintDescriptor().getAnnotation()));
+        for (ConstraintViolation<UserAccountRequest> violation : validator.validate(invalid)) {
+            Annotation annotation = annotations.get(violation.getPropertyPath().toString());
+            Annotation rule = violation.getConstraintDescriptor().getAnnotation();
+            assertEquals(annotation, rule);
+            assertEquals(rule, annotation);
+            assertEquals(annotation.hashCode(), rule.hashCode());
+        }
+    }
+
+    @Test
+    void testReloadSwapsRulesAtomically(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("Transaction" + RuleSchema.EXTENSION);
+        Instant modified = Instant.now().minusSeconds(60);
+        write(file, """
+                type validator.payload.TransactionRequestValidator.Transaction
+                currency  notBlank
+                currency  oneOf USD EUR
+                """, modified);
+        ValidationRules rules = new ValidationRules(RuleSchema.readAll(directory));
+        RuleValidator validator = new RuleValidator(hibernateValidator, rules);
+        // Any @Valid payload may have a schema, so every endpoint's cache is emptied
+        List<ResultCache> results = List.of(new ResultCache("validate-results", 10, Duration.ofMinutes(1)),
+                new ResultCache("convert-results", 10, Duration.ofMinutes(1)));
+        ResultCache.Key key = new ResultCache.Key(new byte[]{1}, null, null);
+        for (ResultCache cache : results) {
+            cache.put(key, cache.generation(), new ResultCache.Body(200, null, new byte[0]));
+        }
+        RuleSchemaReloader reloader = new RuleSchemaReloader(rules, directory, Duration.ofHours(1), results);
+        try {
+            Set<ConstraintViolation<TransactionRequestValidator.Transaction>> rejected = validator.validate(transaction("KES"));
+            assertEquals(Set.of("currency | {jakarta.validation.constraints.Pattern.message} | must match \"USD|EUR\""),
+                    describe(rejected));
+            assertFalse(reloader.reloadIfModified());
+            results.forEach(cache -> assertNotNull(cache.get(key)));
+
+            TypeRules before = rules.forType(TransactionRequestValidator.Transaction.class);
+            write(file, """
+                    type validator.payload.TransactionRequestValidator.Transaction
+                    currency  notBlank
+                    currency  oneOf USD EUR KES
+                    """, modified.plusSeconds(1));
+            assertTrue(reloader.reloadIfModified());
+            assertTrue(validator.validate(transaction("KES")).isEmpty());
+            // Responses cached under the old rules are gone
+            results.forEach(cache -> assertNull(cache.get(key)));
+            // A validation that took the rules before the swap keeps them
+            assertEquals(1, before.validate(transaction("KES")).size());
+
+            // A schema that does not compile leaves the current rules in place
+            TypeRules current = rules.forType(TransactionRequestValidator.Transaction.class);
+            write(file, """
+                    type validator.payload.TransactionRequestValidator.Transaction
+                    sid  notBlank
+                    """, modified.plusSeconds(2));
+            assertFalse(reloader.reloadIfModified());
+            assertSame(current, rules.forType(TransactionRequestValidator.Transaction.class));
+            assertTrue(validator.validate(transaction("KES")).isEmpty());
+
+            // Without a schema the annotations apply again
+            Files.delete(file);
+            assertTrue(reloader.reloadIfModified());
+            assertNull(rules.forType(TransactionRequestValidator.Transaction.class));
+            assertTrue(validator.validate(transaction("GBP")).isEmpty());
+        } finally {
+            reloader.close();
+        }
+    }
+
+    @Test
+    void testSchemaErrorsNameTheLine() {
+        String type = "type validator.payload.TransactionRequestValidator.Transaction\n";
+        assertSchemaError(type + "sid notBlank", "line 2: notBlank does not apply to a int");
+        assertSchemaError(type + "\n# comment\ncode notNull", "line 4: validator.payload.TransactionRequestValidator$Transaction has no property code");
+        assertSchemaError(type + "comment lowercase", "line 2: unknown rule lowercase");
+        assertSchemaError(type + "sid min", "line 2: min expects 1 argument");
+        assertSchemaError("comment notBlank", "line 1: expected type and a class name before the rules");
+        assertSchemaError("type validator.payload.Missing", "line 1: validator.payload.Missing");
+    }
+
+    private static void assertSchemaError(String schema, String message) {
+        IOException e = assertThrows(IOException.class,
+                () -> RuleSchema.read(new ByteArrayResource(schema.getBytes(StandardCharsets.UTF_8), "schema")));
+        assertTrue(e.getMessage().contains(message), e.getMessage());
+    }
+}
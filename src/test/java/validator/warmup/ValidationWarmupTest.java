@@ -0,0 +1,71 @@
+package validator.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+import validator.cache.ResultCache;
+import validator.payload.*;
+import validator.payload.compact.CompactPagination;
+import validator.payload.compact.CompactUserVerification;
+import validator.payload.compact.CompactValidationClass;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationWarmupTest {
+
+    private ValidatorFactory factory;
+    private ValidationWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        warmup = new ValidationWarmup(new ObjectMapper(), factory.getValidator(), new MockEnvironment(), null,
+                new StaticListableBeanFactory().getBeanProvider(ResultCache.class), 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void testFindsEveryPayloadTypeWithItsSamples() throws Exception {
+        List<ValidationWarmup.Target> targets = warmup.targets();
+
+        assertEquals(Set.of(ValidationClass.class, TransactionRequestValidator.Transaction.class,
+                        UserAccountRequest.class, CurrencyConversionRequest.class, CurrencyBatchRequest.class, AccountID.AccountRequest.class,
+                        UserVerificationValidator.class, PaginationValidator.class,
+                        CompactValidationClass.class, CompactUserVerification.class, CompactPagination.class),
+                targets.stream().map(ValidationWarmup.Target::type).collect(Collectors.toSet()));
+        for (ValidationWarmup.Target target : targets) {
+            // The compact payloads have no endpoint of their own
+            if (!target.type().getPackageName().endsWith(".compact")) {
+                assertTrue(target.path().startsWith("/api/"), target.type().getName());
+            }
+            assertTrue(target.samples().size() >= 2, target.type().getName());
+            // Each endpoint's error path is still warmed over HTTP
+            assertFalse(target.rejected().isEmpty(), target.type().getName());
+        }
+        // A valid transaction posted at warm-up would make a real one a duplicate
+        ValidationWarmup.Target transaction = targets.stream()
+                .filter(t -> t.type() == TransactionRequestValidator.Transaction.class).findFirst().orElseThrow();
+        assertEquals(1, transaction.rejected().size());
+        assertTrue(new String(transaction.rejected().get(0)).contains("\"manager\":\"\""));
+        assertNotNull(targets.stream().filter(t -> t.type() == PaginationValidator.class).findFirst().orElseThrow().streaming());
+    }
+
+    @Test
+    void testRunsWithoutServer() {
+        assertDoesNotThrow(() -> warmup.run(new DefaultApplicationArguments()));
+    }
+}